@@ -233,8 +233,12 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
 
         if (address != null) {
             // now lets forward the event to the corresponding bluetooth device
-            BlueZBluetoothDevice device = getDevice(address);
-            event.dispatch(device);
+            // devices are registered by the periodic refresh, so events of devices we don't know yet are dropped here
+            // instead of creating a device for every advertiser in range
+            BlueZBluetoothDevice device = getKnownDevice(address);
+            if (device != null) {
+                event.dispatch(device);
+            }
         }
     }
 
@@ -23,7 +23,9 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.BluetoothAdvertisementFilter.Rates;
 import org.openhab.binding.bluetooth.BluetoothDevice.ConnectionState;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -59,6 +61,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private BaseBluetoothBridgeHandlerConfiguration config = new BaseBluetoothBridgeHandlerConfiguration();
 
+    private BluetoothAdvertisementFilter advertisementFilter = new BluetoothAdvertisementFilter(0);
+
     private @Nullable ScheduledFuture<?> inactiveRemovalJob;
 
     /**
@@ -88,6 +92,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        advertisementFilter = new BluetoothAdvertisementFilter(config.rssiUpdateInterval);
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -114,6 +119,13 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     private void removeInactiveDevices() {
+        Rates rates = advertisementFilter.pollRates();
+        logger.debug("Adapter '{}' received {} advertisements per minute, passed {} to the devices",
+                getThing().getUID(), Math.round(rates.received()), Math.round(rates.accepted()));
+        updateProperty(BluetoothBindingConstants.PROPERTY_ADVERTISEMENTS_RECEIVED,
+                Long.toString(Math.round(rates.received())));
+        updateProperty(BluetoothBindingConstants.PROPERTY_ADVERTISEMENTS_ACCEPTED,
+                Long.toString(Math.round(rates.accepted())));
         // clean up orphaned entries
         synchronized (devices) {
             for (BD device : devices.values()) {
@@ -130,6 +142,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         synchronized (devices) {
             devices.remove(device.getAddress());
         }
+        advertisementFilter.remove(device.getAddress());
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -173,7 +186,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
         synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
+            devices.values().forEach(this::notifyDeviceDiscovered);
         }
     }
 
@@ -191,8 +204,23 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
     }
 
+    /**
+     * Gets the device with the given address if this adapter already knows it, without creating it.
+     *
+     * @param address the {@link BluetoothAddress} to retrieve
+     * @return the device or null if it is not known
+     */
+    protected @Nullable BD getKnownDevice(BluetoothAddress address) {
+        return devices.get(address);
+    }
+
     protected abstract BD createDevice(BluetoothAddress address);
 
+    @Override
+    public boolean acceptScanRecord(BluetoothDevice device, BluetoothScanNotification notification) {
+        return advertisementFilter.acceptScanRecord(device, notification);
+    }
+
     @Override
     public boolean hasHandlerForDevice(BluetoothAddress address) {
         String addrStr = address.toString();
@@ -211,6 +239,14 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     public void deviceDiscovered(BluetoothDevice device) {
+        if (!advertisementFilter.acceptDiscovery(device)) {
+            // the discovery listeners have been notified about this device recently
+            return;
+        }
+        notifyDeviceDiscovered(device);
+    }
+
+    private void notifyDeviceDiscovered(BluetoothDevice device) {
         if (hasHandlerForDevice(device.getAddress())) {
             // no point in discovering a device that already has a handler
             return;
@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -337,6 +338,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
                     deviceLock.unlock();
                 }
                 break;
+            case SCAN_RECORD:
+                if (!adapter.acceptScanRecord(this, (BluetoothScanNotification) args[0])) {
+                    return;
+                }
+                break;
             default:
                 break;
         }
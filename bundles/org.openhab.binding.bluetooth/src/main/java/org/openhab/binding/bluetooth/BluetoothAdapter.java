@@ -14,6 +14,7 @@ package org.openhab.binding.bluetooth;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.openhab.core.common.registry.Identifiable;
 import org.openhab.core.thing.ThingUID;
 
@@ -99,4 +100,16 @@ public interface BluetoothAdapter extends Identifiable<ThingUID> {
      * @return true if this adapter has a {@link BluetoothDevice} with that address
      */
     boolean hasHandlerForDevice(BluetoothAddress address);
+
+    /**
+     * Checks if a scan record received from a device of this adapter should be passed to the device listeners.
+     * Adapters can override this to drop redundant scan records before they are processed.
+     *
+     * @param device the {@link BluetoothDevice} the scan record was received from
+     * @param notification the scan record
+     * @return true if the scan record should be passed to the device listeners
+     */
+    default boolean acceptScanRecord(BluetoothDevice device, BluetoothScanNotification notification) {
+        return true;
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link BluetoothAdvertisementFilter} is the ingestion stage for the advertisements received by an adapter,
+ * before they reach the device listeners and the discovery service.
+ * <p>
+ * Adapters may report every advertisement they receive, which in dense environments amounts to thousands per minute.
+ * This filter drops advertisements of devices nobody listens to, and per device passes advertisements with a new
+ * payload immediately while RSSI only updates and repeated identical payloads are passed at most once per interval.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementFilter {
+
+    /**
+     * Advertisement rates of an adapter.
+     *
+     * @param received the number of advertisements received per minute
+     * @param accepted the number of advertisements passed to the device listeners per minute
+     */
+    public record Rates(double received, double accepted) {
+    }
+
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<BluetoothAddress, DeviceState> deviceStates = new ConcurrentHashMap<>();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+    // guarded by this
+    private long ratesStart;
+
+    /**
+     * @param intervalSeconds the minimal interval between RSSI updates or repeated payloads of a device, or 0 to pass
+     *            all advertisements of devices with listeners
+     */
+    public BluetoothAdvertisementFilter(int intervalSeconds) {
+        this(intervalSeconds, System::nanoTime);
+    }
+
+    BluetoothAdvertisementFilter(int intervalSeconds, LongSupplier nanoClock) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(Math.max(0, intervalSeconds));
+        this.nanoClock = nanoClock;
+        this.ratesStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * Check whether a scan record should be passed to the listeners of a device.
+     *
+     * @param device the device the scan record was received from
+     * @param notification the scan record
+     * @return true if the scan record should be passed on
+     */
+    public boolean acceptScanRecord(BluetoothDevice device, BluetoothScanNotification notification) {
+        received.increment();
+        if (!device.hasListeners()) {
+            return false;
+        }
+        if (intervalNanos > 0) {
+            DeviceState state = deviceStates.computeIfAbsent(device.getAddress(), address -> new DeviceState());
+            synchronized (state) {
+                if (!state.acceptScanRecord(notification, nanoClock.getAsLong())) {
+                    return false;
+                }
+            }
+        }
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Check whether the discovery listeners should be notified about a device.
+     *
+     * @param device the discovered device
+     * @return true if the device was not passed to the discovery listeners within the interval
+     */
+    public boolean acceptDiscovery(BluetoothDevice device) {
+        if (intervalNanos <= 0) {
+            return true;
+        }
+        DeviceState state = deviceStates.computeIfAbsent(device.getAddress(), address -> new DeviceState());
+        synchronized (state) {
+            long now = nanoClock.getAsLong();
+            if (state.discovered && now - state.lastDiscoveryNanos < intervalNanos) {
+                return false;
+            }
+            state.discovered = true;
+            state.lastDiscoveryNanos = now;
+            return true;
+        }
+    }
+
+    /**
+     * Forget the state of a device, e.g. because it was removed from the adapter.
+     *
+     * @param address the address of the device
+     */
+    public void remove(BluetoothAddress address) {
+        deviceStates.remove(address);
+    }
+
+    /**
+     * Get the advertisement rates since the previous call and start counting anew.
+     *
+     * @return the advertisement rates
+     */
+    public synchronized Rates pollRates() {
+        long now = nanoClock.getAsLong();
+        double minutes = Math.max(now - ratesStart, 1) / (double) TimeUnit.MINUTES.toNanos(1);
+        ratesStart = now;
+        return new Rates(received.sumThenReset() / minutes, accepted.sumThenReset() / minutes);
+    }
+
+    private class DeviceState {
+        private boolean seen;
+        private long lastAcceptedNanos;
+        private byte[] data = new byte[0];
+        private byte[] manufacturerData = new byte[0];
+        private Map<String, byte[]> serviceData = Map.of();
+        private String name = "";
+        private boolean discovered;
+        private long lastDiscoveryNanos;
+
+        private boolean acceptScanRecord(BluetoothScanNotification notification, long now) {
+            boolean changed = false;
+            // adapters may report each part of an advertisement separately, so only the reported parts are compared
+            if (notification.getData().length > 0 && !Arrays.equals(notification.getData(), data)) {
+                data = notification.getData();
+                changed = true;
+            }
+            if (notification.getManufacturerData().length > 0
+                    && !Arrays.equals(notification.getManufacturerData(), manufacturerData)) {
+                manufacturerData = notification.getManufacturerData();
+                changed = true;
+            }
+            if (!notification.getServiceData().isEmpty() && !isEqual(notification.getServiceData(), serviceData)) {
+                serviceData = notification.getServiceData();
+                changed = true;
+            }
+            if (!notification.getDeviceName().isEmpty() && !notification.getDeviceName().equals(name)) {
+                name = notification.getDeviceName();
+                changed = true;
+            }
+            if (changed || !seen || now - lastAcceptedNanos >= intervalNanos) {
+                seen = true;
+                lastAcceptedNanos = now;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isEqual(Map<String, byte[]> serviceData, Map<String, byte[]> other) {
+            if (serviceData.size() != other.size()) {
+                return false;
+            }
+            for (Map.Entry<String, byte[]> entry : serviceData.entrySet()) {
+                if (!Arrays.equals(entry.getValue(), other.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
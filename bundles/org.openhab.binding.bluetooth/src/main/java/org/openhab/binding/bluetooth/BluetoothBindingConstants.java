@@ -40,6 +40,8 @@ public class BluetoothBindingConstants {
     public static final String PROPERTY_TXPOWER = "txpower";
     public static final String PROPERTY_MAXCONNECTIONS = "maxconnections";
     public static final String PROPERTY_SOFTWARE_VERSION = "softwareVersion";
+    public static final String PROPERTY_ADVERTISEMENTS_RECEIVED = "advertisementsReceivedPerMinute";
+    public static final String PROPERTY_ADVERTISEMENTS_ACCEPTED = "advertisementsAcceptedPerMinute";
 
     public static final String CONFIGURATION_ADDRESS = "address";
     public static final String CONFIGURATION_DISCOVERY = "backgroundDiscovery";
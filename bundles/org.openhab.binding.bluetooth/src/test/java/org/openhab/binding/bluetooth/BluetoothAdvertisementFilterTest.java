@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link BluetoothAdvertisementFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementFilterTest {
+
+    private long now = 0;
+    private final BluetoothAdvertisementFilter filter = new BluetoothAdvertisementFilter(5, () -> now);
+    private final MockBluetoothDevice device = new MockBluetoothDevice(new MockBluetoothAdapter(),
+            TestUtils.randomAddress());
+
+    @BeforeEach
+    public void setUp() {
+        device.addListener(mock(BluetoothDeviceListener.class));
+    }
+
+    @Test
+    public void dropsDevicesWithoutListeners() {
+        MockBluetoothDevice unknownDevice = new MockBluetoothDevice(new MockBluetoothAdapter(),
+                TestUtils.randomAddress());
+
+        assertFalse(filter.acceptScanRecord(unknownDevice, manufacturerData(1)));
+    }
+
+    @Test
+    public void rateLimitsRssiUpdates() {
+        assertTrue(filter.acceptScanRecord(device, rssi(-60)));
+        advanceSeconds(1);
+        assertFalse(filter.acceptScanRecord(device, rssi(-61)));
+        advanceSeconds(4);
+        assertTrue(filter.acceptScanRecord(device, rssi(-62)));
+    }
+
+    @Test
+    public void coalescesIdenticalPayloads() {
+        assertTrue(filter.acceptScanRecord(device, manufacturerData(1)));
+        advanceSeconds(1);
+        assertFalse(filter.acceptScanRecord(device, manufacturerData(1)));
+        assertTrue(filter.acceptScanRecord(device, manufacturerData(2)));
+        assertTrue(filter.acceptScanRecord(device, serviceData(2)));
+        assertFalse(filter.acceptScanRecord(device, serviceData(2)));
+        assertTrue(filter.acceptScanRecord(device, serviceData(3)));
+        advanceSeconds(5);
+        assertTrue(filter.acceptScanRecord(device, manufacturerData(2)));
+    }
+
+    @Test
+    public void rateLimitsDiscovery() {
+        assertTrue(filter.acceptDiscovery(device));
+        assertFalse(filter.acceptDiscovery(device));
+        filter.remove(device.getAddress());
+        assertTrue(filter.acceptDiscovery(device));
+    }
+
+    @Test
+    public void passesAllAdvertisementsWithoutInterval() {
+        BluetoothAdvertisementFilter unlimitedFilter = new BluetoothAdvertisementFilter(0, () -> now);
+
+        assertTrue(unlimitedFilter.acceptScanRecord(device, manufacturerData(1)));
+        assertTrue(unlimitedFilter.acceptScanRecord(device, manufacturerData(1)));
+        assertTrue(unlimitedFilter.acceptDiscovery(device));
+        assertTrue(unlimitedFilter.acceptDiscovery(device));
+    }
+
+    @Test
+    public void computesRates() {
+        filter.acceptScanRecord(device, manufacturerData(1));
+        filter.acceptScanRecord(device, manufacturerData(1));
+        filter.acceptScanRecord(device, manufacturerData(2));
+        advanceSeconds(30);
+
+        BluetoothAdvertisementFilter.Rates rates = filter.pollRates();
+        assertEquals(6, rates.received(), 0.001);
+        assertEquals(4, rates.accepted(), 0.001);
+        advanceSeconds(30);
+        assertEquals(0, filter.pollRates().received(), 0.001);
+    }
+
+    private void advanceSeconds(int seconds) {
+        now += TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private BluetoothScanNotification rssi(int rssi) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        return notification;
+    }
+
+    private BluetoothScanNotification manufacturerData(int value) {
+        BluetoothScanNotification notification = rssi(-60);
+        notification.setManufacturerData(new byte[] { 0x4C, 0x00, (byte) value });
+        return notification;
+    }
+
+    private BluetoothScanNotification serviceData(int value) {
+        BluetoothScanNotification notification = rssi(-60);
+        notification.setServiceData(Map.of("0000fcd2-0000-1000-8000-00805f9b34fb", new byte[] { (byte) value }));
+        return notification;
+    }
+}
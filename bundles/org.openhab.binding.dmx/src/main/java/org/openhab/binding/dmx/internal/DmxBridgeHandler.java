@@ -51,6 +51,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     public static final int DEFAULT_REFRESH_RATE = 20;
+    private static final long STATISTICS_INTERVAL = TimeUnit.MINUTES.toNanos(1);
 
     private final Logger logger = LoggerFactory.getLogger(DmxBridgeHandler.class);
 
@@ -60,6 +61,13 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     private boolean isMuted = false;
     private int refreshTime = 1000 / DEFAULT_REFRESH_RATE;
 
+    // frame timing, only accessed by the sender job
+    private long statisticsStart = System.nanoTime();
+    private int frameCount = 0;
+    private int sentFrameCount = 0;
+    private long totalFrameNanos = 0;
+    private long maxFrameNanos = 0;
+
     protected DmxBridgeHandler(Bridge dmxBridge) {
         super(dmxBridge);
     }
@@ -160,7 +168,9 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
             logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
                     getThing().getStatus(), isMuted);
             if (!isMuted) {
+                long frameStart = System.nanoTime();
                 sendDmxData();
+                recordFrameTime(frameStart, System.nanoTime());
             } else {
                 logger.trace("bridge {} is muted", getThing().getUID());
             }
@@ -169,6 +179,34 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * count a frame that was sent to the receivers (for the frame statistics)
+     */
+    protected void frameSent() {
+        sentFrameCount++;
+    }
+
+    private void recordFrameTime(long frameStart, long frameEnd) {
+        long frameNanos = frameEnd - frameStart;
+        frameCount++;
+        totalFrameNanos += frameNanos;
+        maxFrameNanos = Math.max(maxFrameNanos, frameNanos);
+        if (frameEnd - statisticsStart >= STATISTICS_INTERVAL) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("universe {}: {} frames in {} s, {} sent, average frame time {} µs, maximum {} µs",
+                        universe.getUniverseId(), frameCount,
+                        TimeUnit.NANOSECONDS.toSeconds(frameEnd - statisticsStart), sentFrameCount,
+                        TimeUnit.NANOSECONDS.toMicros(totalFrameNanos / frameCount),
+                        TimeUnit.NANOSECONDS.toMicros(maxFrameNanos));
+            }
+            statisticsStart = frameEnd;
+            frameCount = 0;
+            sentFrameCount = 0;
+            totalFrameNanos = 0;
+            maxFrameNanos = 0;
+        }
+    }
+
     /**
      * uninstall the sending and updating scheduler
      */
@@ -45,6 +45,7 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     protected boolean refreshAlways = false;
 
     protected @Nullable DatagramSocket socket = null;
+    private final DatagramPacket sendPacket = new DatagramPacket(new byte[0], 0);
     private long lastSend = 0;
     private int repeatCounter = 0;
     private int sequenceNo = 0;
@@ -112,10 +113,9 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                             thing.getUID());
                     return;
                 }
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
+                packetTemplate.setPayload(universe.getFrame(), universe.getBufferSize());
                 packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
+                sendPacket.setData(packetTemplate.getRawPacket(), 0, packetTemplate.getPacketLength());
                 for (IpNode receiverNode : receiverNodes) {
                     sendPacket.setAddress(receiverNode.getAddress());
                     sendPacket.setPort(receiverNode.getPort());
@@ -136,6 +136,7 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                 }
                 lastSend = now;
                 sequenceNo = (sequenceNo + 1) % 256;
+                frameSent();
             }
         } else {
             openConnection();
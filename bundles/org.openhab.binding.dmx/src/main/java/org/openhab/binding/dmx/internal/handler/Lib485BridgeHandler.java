@@ -107,7 +107,7 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
                 Socket socket = receiverNodes.get(receiverNode);
                 if (socket != null && socket.isConnected()) {
                     try {
-                        socket.getOutputStream().write(universe.getBuffer());
+                        socket.getOutputStream().write(universe.getFrame(), 0, universe.getBufferSize());
                     } catch (IOException e) {
                         logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
                                 e.getMessage());
@@ -119,6 +119,7 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
                     return;
                 }
             }
+            frameSent();
         } else {
             openConnection();
         }
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -53,6 +54,8 @@ public class DmxChannel extends BaseDmxChannel {
     private boolean isSuspended = false;
     private int refreshTime = 0;
     private long lastStateTimestamp = 0;
+    private volatile boolean valueChanged = true;
+    private volatile @Nullable Consumer<DmxChannel> activationListener;
 
     private final List<BaseAction> actions = new ArrayList<>();
     private final List<BaseAction> suspendedActions = new ArrayList<>();
@@ -110,9 +113,10 @@ public class DmxChannel extends BaseDmxChannel {
      *
      * @param value Integer value (0-255)
      */
-    public void setValue(int value) {
+    public synchronized void setValue(int value) {
         this.value = Util.toDmxValue(value) << 8;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
+        activate();
     }
 
     /**
@@ -120,9 +124,10 @@ public class DmxChannel extends BaseDmxChannel {
      *
      * @param value PercentType (0-100)
      */
-    public void setValue(PercentType value) {
+    public synchronized void setValue(PercentType value) {
         this.value = Util.toDmxValue(value) << 8;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
+        activate();
     }
 
     /**
@@ -177,6 +182,7 @@ public class DmxChannel extends BaseDmxChannel {
                 logger.trace("resuming suspended value for DMX channel {}", this);
             }
             isSuspended = false;
+            activate();
         } else {
             throw new IllegalStateException("trying to resume actions in non-suspended DMX channel " + this.toString());
         }
@@ -214,6 +220,7 @@ public class DmxChannel extends BaseDmxChannel {
         clearAction();
         actions.add(channelAction);
         logger.trace("set action {} for DMX channel {}", channelAction, this);
+        activate();
     }
 
     /**
@@ -224,6 +231,36 @@ public class DmxChannel extends BaseDmxChannel {
     public synchronized void addChannelAction(BaseAction channelAction) {
         actions.add(channelAction);
         logger.trace("added action {} to channel {} (total {} actions)", channelAction, this, actions.size());
+        activate();
+    }
+
+    /**
+     * set the listener that is notified when this channel needs to be calculated again
+     *
+     * @param activationListener the listener or null to remove it
+     */
+    void setActivationListener(@Nullable Consumer<DmxChannel> activationListener) {
+        this.activationListener = activationListener;
+    }
+
+    /**
+     * mark the channel as changed and notify the activation listener
+     */
+    private void activate() {
+        valueChanged = true;
+        Consumer<DmxChannel> activationListener = this.activationListener;
+        if (activationListener != null) {
+            activationListener.accept(this);
+        }
+    }
+
+    /**
+     * check if the value of this channel needs to be calculated again
+     *
+     * @return true if the value was changed, actions are running or a state update is pending
+     */
+    public synchronized boolean needsCalculation() {
+        return valueChanged || hasRunningActions() || lastStateValue != value;
     }
 
     /**
@@ -267,6 +304,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @return value 0-65535
      */
     public synchronized Integer getNewHiResValue(long calculationTime) {
+        valueChanged = false;
         if (hasRunningActions()) {
             logger.trace("checking actions, list is {}", actions);
             BaseAction action = actions.get(0);
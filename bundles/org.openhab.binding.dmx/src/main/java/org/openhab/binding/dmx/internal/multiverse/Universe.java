@@ -13,8 +13,11 @@
 package org.openhab.binding.dmx.internal.multiverse;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -26,6 +29,10 @@ import org.slf4j.LoggerFactory;
  * The {@link Universe} represents a single DMX universes with all its channels and provides a buffer for sending by the
  * bridges
  *
+ * Only active channels (with running actions, a new value or a pending state update) are calculated. The frame is
+ * double-buffered: channels are calculated into a preallocated buffer, which is copied to the frame for sending when
+ * all channels are calculated and a value changed.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -40,14 +47,16 @@ public class Universe {
     private int universeId;
     private int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
+    private final byte[] buffer = new byte[MAX_UNIVERSE_SIZE];
+    private final byte[] frame = new byte[MAX_UNIVERSE_SIZE];
     private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
 
     private long bufferChanged;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private final Set<DmxChannel> activeChannels = ConcurrentHashMap.newKeySet();
+    private final boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
 
     /**
      * universe constructor
@@ -103,6 +112,8 @@ public class Universe {
                 channel.unregisterThing(thing);
                 if (!channel.hasRegisteredThings()) {
                     channelIterator.remove();
+                    channel.setActivationListener(null);
+                    activeChannels.remove(channel);
                     logger.trace("Removing channel {}, no more things", channel);
                 }
             }
@@ -124,6 +135,8 @@ public class Universe {
                 if (channel.getChannelId() > bufferSize) {
                     bufferSize = channel.getChannelId();
                 }
+                channel.setActivationListener(activeChannels::add);
+                activeChannels.add(channel);
             } finally {
                 universeLock.unlock();
             }
@@ -173,6 +186,18 @@ public class Universe {
         }
     }
 
+    /**
+     * mark all channels for calculation in the next frame
+     */
+    private void activateAllChannels() {
+        universeLock.lock();
+        try {
+            activeChannels.addAll(channels);
+        } finally {
+            universeLock.unlock();
+        }
+    }
+
     /**
      * calculate this universe buffer (run all channel actions) for a given time
      *
@@ -181,20 +206,30 @@ public class Universe {
     public void calculateBuffer(long time) {
         universeLock.lock();
         try {
-            for (DmxChannel channel : channels) {
+            boolean changed = false;
+            for (DmxChannel channel : activeChannels) {
                 logger.trace("calculating new value for {}", channel);
                 int channelId = channel.getChannelId();
                 int vx = channel.getNewHiResValue(time);
-                int value;
-                if (applyCurve.contains(channelId)) {
-                    value = cie1931Curve[vx];
+                byte value;
+                if (applyCurve[channelId]) {
+                    value = (byte) cie1931Curve[vx];
                 } else {
-                    value = vx >> 8;
+                    value = (byte) (vx >> 8);
                 }
                 if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
-                    bufferChanged = time;
+                    buffer[channelId - 1] = value;
+                    changed = true;
                 }
+                // remove before checking, an activation in between re-adds the channel
+                activeChannels.remove(channel);
+                if (channel.needsCalculation()) {
+                    activeChannels.add(channel);
+                }
+            }
+            if (changed) {
+                System.arraycopy(buffer, 0, frame, 0, bufferSize);
+                bufferChanged = time;
             }
         } finally {
             universeLock.unlock();
@@ -202,21 +237,29 @@ public class Universe {
     }
 
     /**
-     * get the full universe buffer
+     * get a copy of the full universe buffer
      *
      * @return byte array with channel values
      */
     public byte[] getBuffer() {
-        byte[] b = new byte[bufferSize];
         universeLock.lock();
         try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
+            return Arrays.copyOf(frame, bufferSize);
         } finally {
             universeLock.unlock();
         }
-        return b;
+    }
+
+    /**
+     * get the universe frame without copying it
+     *
+     * The frame is only changed by {@link #calculateBuffer(long)}, so it has to be used on the thread calculating the
+     * buffer. Only the first {@link #getBufferSize()} values are valid.
+     *
+     * @return byte array with channel values
+     */
+    public byte[] getFrame() {
+        return frame;
     }
 
     /**
@@ -225,11 +268,14 @@ public class Universe {
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
+        Arrays.fill(applyCurve, false);
+        List<Integer> curveChannels = new ArrayList<>();
         for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+            applyCurve[channel.getChannelId()] = true;
+            curveChannels.add(channel.getChannelId());
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        activateAllChannels();
+        logger.debug("applying dim curve in universe {} to channels {}", universeId, curveChannels);
     }
 
     /**
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openhab.binding.dmx.internal.action.FadeAction;
+import org.openhab.core.thing.Thing;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseTest {
+    private static final int TEST_UNIVERSE = 1;
+
+    private @NonNullByDefault({}) Universe universe;
+    private @NonNullByDefault({}) DmxChannel dmxChannel;
+    private long currentTime;
+
+    @BeforeEach
+    public void setup() {
+        universe = new Universe(TEST_UNIVERSE);
+        universe.setRefreshTime(0);
+        dmxChannel = universe.registerChannel(new BaseDmxChannel(TEST_UNIVERSE, 5), Mockito.mock(Thing.class));
+        currentTime = System.currentTimeMillis();
+        universe.calculateBuffer(currentTime);
+    }
+
+    @Test
+    public void checkValueChangeUpdatesFrame() {
+        byte[] frame = universe.getFrame();
+
+        dmxChannel.setValue(100);
+        universe.calculateBuffer(currentTime + 10);
+
+        assertThat(universe.getFrame(), is(sameInstance(frame)));
+        assertThat(frame[4] & 0xFF, is(100));
+        assertThat(universe.getBuffer()[4] & 0xFF, is(100));
+        assertThat(universe.getLastBufferChanged(), is(currentTime + 10));
+    }
+
+    @Test
+    public void checkUnchangedFrameIsNotMarkedChanged() {
+        dmxChannel.setValue(100);
+        universe.calculateBuffer(currentTime + 10);
+
+        universe.calculateBuffer(currentTime + 20);
+        dmxChannel.setValue(100);
+        universe.calculateBuffer(currentTime + 30);
+
+        assertThat(universe.getLastBufferChanged(), is(currentTime + 10));
+        assertThat(dmxChannel.needsCalculation(), is(false));
+    }
+
+    @Test
+    public void checkFadingChannelStaysActive() {
+        dmxChannel.setChannelAction(new FadeAction(1000, 200, -1));
+        universe.calculateBuffer(currentTime + 10);
+        universe.calculateBuffer(currentTime + 510);
+
+        assertThat(dmxChannel.needsCalculation(), is(true));
+        assertThat(universe.getBuffer()[4] & 0xFF, is(100));
+
+        universe.calculateBuffer(currentTime + 1010);
+        universe.calculateBuffer(currentTime + 1020);
+
+        assertThat(universe.getBuffer()[4] & 0xFF, is(200));
+        assertThat(dmxChannel.needsCalculation(), is(false));
+    }
+
+    @Test
+    public void checkDimCurveRecalculatesChannels() {
+        dmxChannel.setValue(128);
+        universe.calculateBuffer(currentTime + 10);
+
+        universe.setDimCurveChannels("5");
+        universe.calculateBuffer(currentTime + 20);
+
+        assertThat(universe.getBuffer()[4] & 0xFF, is(47));
+        assertThat(universe.getLastBufferChanged(), is(currentTime + 20));
+    }
+}
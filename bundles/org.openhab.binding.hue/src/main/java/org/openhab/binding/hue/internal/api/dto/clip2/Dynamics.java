@@ -24,9 +24,13 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class Dynamics {
-    private @Nullable @SuppressWarnings("unused") Long duration;
+    private @Nullable Long duration;
     private @Nullable @SuppressWarnings("unused") Double speed;
 
+    public @Nullable Long getDuration() {
+        return duration;
+    }
+
     public Dynamics setDuration(Duration duration) {
         this.duration = duration.toMillis();
         return this;
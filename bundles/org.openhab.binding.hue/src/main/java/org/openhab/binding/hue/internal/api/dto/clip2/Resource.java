@@ -429,6 +429,10 @@ public class Resource {
         return UnDefType.NULL;
     }
 
+    public @Nullable Dynamics getDynamics() {
+        return dynamics;
+    }
+
     public @Nullable Effects getFixedEffects() {
         return effects;
     }
@@ -28,6 +28,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.Alerts;
 import org.openhab.binding.hue.internal.api.dto.clip2.ColorTemperature;
 import org.openhab.binding.hue.internal.api.dto.clip2.ColorXy;
 import org.openhab.binding.hue.internal.api.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.api.dto.clip2.Dynamics;
 import org.openhab.binding.hue.internal.api.dto.clip2.Effects;
 import org.openhab.binding.hue.internal.api.dto.clip2.MetaData;
 import org.openhab.binding.hue.internal.api.dto.clip2.MirekSchema;
@@ -383,4 +384,53 @@ public class Setters {
 
         return resources;
     }
+
+    /**
+     * Merge a light or grouped light command resource into another command resource for the same target, which has
+     * not been sent yet, so that both can be sent in one PUT request. The on/dimming/color/color temperature fields of
+     * the source overwrite those of the target. Commands are only merged if the result is the same as sending them one
+     * after the other, i.e. if neither contains alert or effect fields, if both have the same dynamics, and if the one
+     * does not set the color while the other sets the color temperature.
+     *
+     * @param target the pending command resource.
+     * @param source the new command resource.
+     *
+     * @return true if the source was merged into the target, or false if it must be sent separately.
+     */
+    public static boolean mergeLightCommand(Resource target, Resource source) {
+        if (!LIGHT_TYPES.contains(source.getType()) || target.getType() != source.getType()
+                || !target.getId().equals(source.getId()) || hasEffectOrAlert(target) || hasEffectOrAlert(source)
+                || !Objects.equals(getDynamicsDuration(target), getDynamicsDuration(source))
+                || (Objects.nonNull(target.getColorXy()) && Objects.nonNull(source.getColorTemperature()))
+                || (Objects.nonNull(target.getColorTemperature()) && Objects.nonNull(source.getColorXy()))) {
+            return false;
+        }
+        OnState onState = source.getOnState();
+        if (Objects.nonNull(onState)) {
+            target.setOnState(onState);
+        }
+        Dimming dimming = source.getDimming();
+        if (Objects.nonNull(dimming)) {
+            target.setDimming(dimming);
+        }
+        ColorXy colorXy = source.getColorXy();
+        if (Objects.nonNull(colorXy)) {
+            target.setColorXy(colorXy);
+        }
+        ColorTemperature colorTemperature = source.getColorTemperature();
+        if (Objects.nonNull(colorTemperature)) {
+            target.setColorTemperature(colorTemperature);
+        }
+        return true;
+    }
+
+    private static boolean hasEffectOrAlert(Resource resource) {
+        return Objects.nonNull(resource.getAlerts()) || Objects.nonNull(resource.getFixedEffects())
+                || Objects.nonNull(resource.getTimedEffects());
+    }
+
+    private static @Nullable Long getDynamicsDuration(Resource resource) {
+        Dynamics dynamics = resource.getDynamics();
+        return Objects.isNull(dynamics) ? null : dynamics.getDuration();
+    }
 }
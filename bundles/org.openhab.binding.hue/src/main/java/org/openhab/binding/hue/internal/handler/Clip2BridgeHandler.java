@@ -15,13 +15,17 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -39,6 +43,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.Archetype;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.CategoryType;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ContentType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
 import org.openhab.binding.hue.internal.config.Clip2BridgeConfig;
@@ -122,6 +127,15 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private final Map<String, Resource> automationsCache = new ConcurrentHashMap<>();
     private final Set<String> automationScriptIds = ConcurrentHashMap.newKeySet();
     private final ChannelGroupUID automationChannelGroupUID;
+    private final Clip2CommandQueue commandQueue = new Clip2CommandQueue(scheduler,
+            resource -> getClip2Bridge().putResource(resource));
+
+    /**
+     * Index of the child thing handlers by the IDs of the resources that are relevant for them. It is used to route
+     * the resources of incoming events only to the respective handlers.
+     */
+    private final Map<String, Set<Clip2ThingHandler>> resourceIndex = new ConcurrentHashMap<>();
+    private final Map<Clip2ThingHandler, Set<String>> indexedResourceIds = new HashMap<>();
 
     private @Nullable Clip2Bridge clip2Bridge;
     private @Nullable ServiceRegistration<?> trustManagerRegistration;
@@ -294,6 +308,7 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                 resourcesEventTasks.values().forEach(task -> cancelTask(task, true));
                 resourcesEventTasks.clear();
             }
+            commandQueue.cancel();
             ServiceRegistration<?> registration = trustManagerRegistration;
             if (Objects.nonNull(registration)) {
                 registration.unregister();
@@ -542,9 +557,73 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         updateOnlineStateTask = scheduler.schedule(() -> updateOnlineState(), 0, TimeUnit.MILLISECONDS);
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof Clip2ThingHandler clip2ThingHandler) {
+            updateResourceIndex(clip2ThingHandler);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof Clip2ThingHandler clip2ThingHandler) {
+            synchronized (indexedResourceIds) {
+                Set<String> resourceIds = indexedResourceIds.remove(clip2ThingHandler);
+                if (Objects.nonNull(resourceIds)) {
+                    resourceIds.forEach(id -> removeFromResourceIndex(id, clip2ThingHandler));
+                }
+            }
+        }
+    }
+
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Update the index entries of a child thing handler to the set of resource IDs which are currently relevant for it.
+     *
+     * @param handler the child thing handler.
+     */
+    public void updateResourceIndex(Clip2ThingHandler handler) {
+        Set<String> resourceIds = handler.getResourceIds();
+        synchronized (indexedResourceIds) {
+            Set<String> oldResourceIds = indexedResourceIds.put(handler, resourceIds);
+            if (Objects.nonNull(oldResourceIds)) {
+                oldResourceIds.stream().filter(id -> !resourceIds.contains(id))
+                        .forEach(id -> removeFromResourceIndex(id, handler));
+            }
+            resourceIds.forEach(
+                    id -> resourceIndex.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(handler));
+        }
+    }
+
+    private void removeFromResourceIndex(String resourceId, Clip2ThingHandler handler) {
+        resourceIndex.computeIfPresent(resourceId, (id, handlers) -> {
+            handlers.remove(handler);
+            return handlers.isEmpty() ? null : handlers;
+        });
+    }
+
+    /**
+     * Get the child thing handlers which are interested in the given resource. That is, the handlers for which the
+     * resource is relevant, plus, for a newly added scene, the handler of the room or zone which the scene belongs to.
+     *
+     * @param resource the resource.
+     * @return the set of handlers.
+     */
+    private Set<Clip2ThingHandler> getResourceHandlers(Resource resource) {
+        Set<Clip2ThingHandler> handlers = resourceIndex.getOrDefault(resource.getId(), Set.of());
+        ResourceReference group = resource.getGroup();
+        if (ContentType.ADD == resource.getContentType() && Objects.nonNull(group)) {
+            Set<Clip2ThingHandler> groupHandlers = resourceIndex.get(group.getId());
+            if (Objects.nonNull(groupHandlers)) {
+                handlers = new HashSet<>(handlers);
+                handlers.addAll(groupHandlers);
+            }
+        }
+        return handlers;
+    }
+
+    /**
+     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform the
+     * child thing handlers for which the respective resource is relevant.
      *
      * @param resources a list of incoming resource objects.
      */
@@ -570,26 +649,28 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (onResources(resources)) {
             updateAutomationChannelsNow();
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
+        Map<Clip2ThingHandler, List<Resource>> handlerResources = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            for (Clip2ThingHandler handler : getResourceHandlers(resource)) {
+                handlerResources.computeIfAbsent(handler, h -> new ArrayList<>()).add(resource);
             }
-        });
+        }
+        handlerResources.forEach((handler, handlerResourceList) -> handler.onResources(handlerResourceList));
     }
 
     /**
-     * Execute an HTTP PUT to send a Resource object to the server.
+     * Queue an HTTP PUT to send a Resource object to the server. The PUT requests of all things are sent one after the
+     * other, and a light command that is still waiting to be sent absorbs later commands for the same resource.
      *
      * @param resource the resource to put.
-     * @return the resource, which may contain errors.
-     * @throws ApiException if a communication error occurred.
+     * @return a future for the resource, which may contain errors; it completes exceptionally with an ApiException if
+     *         a communication error occurred.
      * @throws AssetNotLoadedException if one of the assets is not loaded.
-     * @throws InterruptedException
      */
-    public Resources putResource(Resource resource) throws ApiException, AssetNotLoadedException, InterruptedException {
+    public CompletableFuture<Resources> putResource(Resource resource) throws AssetNotLoadedException {
         logger.debug("putResource() {}", resource);
         checkAssetsLoaded();
-        return getClip2Bridge().putResource(resource);
+        return commandQueue.submit(resource);
     }
 
     /**
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.openhab.binding.hue.internal.exceptions.AssetNotLoadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue for the PUT commands that the things of a bridge send to the bridge. The bridge only processes one PUT at a
+ * time and at most one request per throttling interval, so the commands are sent one after the other by a single
+ * task, instead of blocking one thread per command. A light or grouped light command that is still waiting in the
+ * queue absorbs later commands for the same resource, so that e.g. a rule that sets the brightness and the color of
+ * many lights results in one PUT per light.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueue {
+
+    /**
+     * Sends one resource to the bridge.
+     */
+    @FunctionalInterface
+    public interface Sender {
+        Resources send(Resource resource) throws ApiException, AssetNotLoadedException, InterruptedException;
+    }
+
+    private static class PendingCommand {
+        private final String key;
+        private final Resource resource;
+        private final CompletableFuture<Resources> future = new CompletableFuture<>();
+
+        private PendingCommand(String key, Resource resource) {
+            this.key = key;
+            this.resource = resource;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(Clip2CommandQueue.class);
+
+    private final Executor executor;
+    private final Sender sender;
+
+    // guarded by this
+    private final Deque<PendingCommand> queue = new ArrayDeque<>();
+    private final Map<String, PendingCommand> lastPendingCommands = new HashMap<>();
+    private boolean sending;
+
+    /**
+     * @param executor the executor on which the commands are sent.
+     * @param sender sends one resource to the bridge.
+     */
+    public Clip2CommandQueue(Executor executor, Sender sender) {
+        this.executor = executor;
+        this.sender = sender;
+    }
+
+    /**
+     * Queue a resource to be sent to the bridge. If the last queued command for the same resource has not been sent
+     * yet, and the two can be merged, the resource is merged into it.
+     *
+     * @param resource the resource to put.
+     * @return a future that completes with the response of the bridge.
+     */
+    public CompletableFuture<Resources> submit(Resource resource) {
+        String key = resource.getType().name() + "/" + resource.getId();
+        PendingCommand command;
+        boolean startSending;
+        synchronized (this) {
+            PendingCommand pending = lastPendingCommands.get(key);
+            if (pending != null && Setters.mergeLightCommand(pending.resource, resource)) {
+                logger.debug("submit() merged into pending command {}", pending.resource);
+                return pending.future;
+            }
+            command = new PendingCommand(key, resource);
+            queue.add(command);
+            lastPendingCommands.put(key, command);
+            startSending = !sending;
+            sending = true;
+        }
+        if (startSending) {
+            executor.execute(this::sendPendingCommands);
+        }
+        return command.future;
+    }
+
+    /**
+     * Fail all commands that have not been sent yet, e.g. when the bridge handler is disposed.
+     */
+    public void cancel() {
+        List<PendingCommand> cancelled;
+        synchronized (this) {
+            cancelled = new ArrayList<>(queue);
+            queue.clear();
+            lastPendingCommands.clear();
+        }
+        cancelled.forEach(c -> c.future.completeExceptionally(new AssetNotLoadedException("Command cancelled")));
+    }
+
+    /**
+     * @return the number of commands waiting to be sent.
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    private void sendPendingCommands() {
+        while (true) {
+            PendingCommand command;
+            synchronized (this) {
+                command = queue.poll();
+                if (command == null) {
+                    sending = false;
+                    return;
+                }
+                // later commands must not be merged into a command that is being sent
+                lastPendingCommands.remove(command.key, command);
+            }
+            try {
+                command.future.complete(sender.send(command.resource));
+            } catch (ApiException | AssetNotLoadedException | RuntimeException e) {
+                command.future.completeExceptionally(e);
+            } catch (InterruptedException e) {
+                command.future.completeExceptionally(e);
+                synchronized (this) {
+                    sending = false;
+                }
+                cancel();
+                return;
+            }
+        }
+    }
+}
@@ -48,7 +48,6 @@ import org.openhab.binding.hue.internal.api.dto.clip2.MirekSchema;
 import org.openhab.binding.hue.internal.api.dto.clip2.ProductData;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
 import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
-import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.api.dto.clip2.TimedEffects;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ActionType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.Archetype;
@@ -529,19 +528,28 @@ public class Clip2ThingHandler extends BaseThingHandler {
         logger.debug("{} -> handleCommand() put resource {}", resourceId, putResource);
 
         try {
-            Resources resources = getBridgeHandler().putResource(putResource);
-            if (resources.hasErrors()) {
-                logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
-                        thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
-            }
-        } catch (ApiException | AssetNotLoadedException e) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
-            } else {
-                logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command,
-                        thing.getUID(), channelUID, e.getMessage());
-            }
-        } catch (InterruptedException e) {
+            getBridgeHandler().putResource(putResource).whenComplete((resources, e) -> {
+                if (Objects.nonNull(e)) {
+                    onCommandFailed(channelUID, command, e);
+                } else if (resources.hasErrors()) {
+                    logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
+                            thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
+                }
+            });
+        } catch (AssetNotLoadedException e) {
+            onCommandFailed(channelUID, command, e);
+        }
+    }
+
+    private void onCommandFailed(ChannelUID channelUID, Command command, Throwable e) {
+        if (e instanceof InterruptedException) {
+            return;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
+        } else {
+            logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command, thing.getUID(),
+                    channelUID, e.getMessage());
         }
     }
 
@@ -729,6 +737,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                     sceneContributorsCache.put(sceneResource.getId(), sceneResource);
                     sceneResourceEntries.put(sceneResource.getName(), sceneResource);
                     updateSceneChannelStateDescription();
+                    updateResourceIndex();
                     return FLAG_SCENE_ADD;
                 }
                 break;
@@ -737,6 +746,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 if (Objects.nonNull(deletedScene)) {
                     sceneResourceEntries.remove(deletedScene.getName());
                     updateSceneChannelStateDescription();
+                    updateResourceIndex();
                     return FLAG_SCENE_DELETE;
                 }
             default:
@@ -752,6 +762,29 @@ public class Clip2ThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Get the IDs of the resources that are relevant for this thing, i.e. its own resource, and the service and scene
+     * resources that contribute to its state. The bridge handler uses them to route incoming events to this thing.
+     *
+     * @return a set of resource IDs.
+     */
+    public Set<String> getResourceIds() {
+        Set<String> resourceIds = new HashSet<>(serviceContributorsCache.keySet());
+        resourceIds.addAll(sceneContributorsCache.keySet());
+        resourceIds.add(resourceId);
+        return resourceIds;
+    }
+
+    /**
+     * Inform the bridge handler that the set of resources that are relevant for this thing has changed.
+     */
+    private void updateResourceIndex() {
+        Bridge bridge = getBridge();
+        if (Objects.nonNull(bridge) && bridge.getHandler() instanceof Clip2BridgeHandler bridgeHandler) {
+            bridgeHandler.updateResourceIndex(this);
+        }
+    }
+
     private @Nullable Resource getResourceFromCache(Resource resource) {
         return SUPPORTED_SCENE_TYPES.contains(resource.getType()) //
                 ? sceneContributorsCache.get(resource.getId())
@@ -1173,6 +1206,8 @@ public class Clip2ThingHandler extends BaseThingHandler {
             commandResourceIds.clear();
             commandResourceIds.putAll(services.stream() // use a 'mergeFunction' to prevent duplicates
                     .collect(Collectors.toMap(ResourceReference::getType, ResourceReference::getId, (r1, r2) -> r1)));
+
+            updateResourceIndex();
         }
     }
 
@@ -1323,6 +1358,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 logger.debug("{} -> updateSceneContributors() found {} normal resp. smart scenes", resourceId,
                         scenes.size());
             }
+            updateResourceIndex();
             updateSceneContributorsDone = true;
         }
         return updateSceneContributorsDone;
@@ -16,6 +16,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -34,6 +35,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.enums.ContentType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
 import org.openhab.binding.hue.internal.exceptions.DTOPresentButEmptyException;
+import org.openhab.core.library.types.HSBType;
 
 /**
  * Tests for {@link Setters}.
@@ -408,6 +410,87 @@ public class SettersTest {
         assertThat(firstResource.getType(), is(equalTo(ResourceType.MOTION)));
     }
 
+    /**
+     * Tests merging of a command into a pending command for the same resource where the last value wins.
+     *
+     * Input:
+     * - Pending command: type=light/grouped_light, id=1, on=on, dimming=30
+     * - New command: type=light/grouped_light, id=1, dimming=50
+     *
+     * Expected output:
+     * - Pending command: type=light/grouped_light, id=1, on=on, dimming=50
+     *
+     * @throws DTOPresentButEmptyException
+     */
+    @ParameterizedTest
+    @MethodSource("provideLightResourceTypes")
+    void mergeLightCommandMergeDimmingToLatestValue(ResourceType resourceType) throws DTOPresentButEmptyException {
+        Resource pending = createResource(resourceType, "1");
+        pending.setOnState(createOnState(true));
+        pending.setDimming(createDimming(30));
+
+        Resource command = createResource(resourceType, "1");
+        command.setDimming(createDimming(50));
+
+        assertThat(Setters.mergeLightCommand(pending, command), is(true));
+
+        OnState actualOnState = pending.getOnState();
+        assertThat(actualOnState, is(notNullValue()));
+        if (actualOnState != null) {
+            assertThat(actualOnState.isOn(), is(true));
+        }
+        Dimming actualDimming = pending.getDimming();
+        assertThat(actualDimming, is(notNullValue()));
+        if (actualDimming != null) {
+            assertThat(actualDimming.getBrightness(), is(equalTo(50.0)));
+        }
+    }
+
+    /**
+     * Tests that commands with different dynamics are not merged.
+     */
+    @Test
+    void mergeLightCommandDoNotMergeDifferentDynamics() {
+        Resource pending = createResource(ResourceType.LIGHT, "1");
+        pending.setDimming(createDimming(30));
+        pending.setDynamicsDuration(Duration.ofSeconds(2));
+
+        Resource command = createResource(ResourceType.LIGHT, "1");
+        command.setDimming(createDimming(50));
+
+        assertThat(Setters.mergeLightCommand(pending, command), is(false));
+    }
+
+    /**
+     * Tests that commands for different resources or for resources other than lights are not merged.
+     */
+    @Test
+    void mergeLightCommandDoNotMergeOtherResources() {
+        Resource pending = createResource(ResourceType.LIGHT, "1");
+        pending.setOnState(createOnState(true));
+
+        Resource command = createResource(ResourceType.LIGHT, "2");
+        command.setOnState(createOnState(false));
+        assertThat(Setters.mergeLightCommand(pending, command), is(false));
+
+        Resource scene = createResource(ResourceType.SCENE, "3");
+        assertThat(Setters.mergeLightCommand(createResource(ResourceType.SCENE, "3"), scene), is(false));
+    }
+
+    /**
+     * Tests that a color temperature command is not merged into a pending color command.
+     */
+    @Test
+    void mergeLightCommandDoNotMergeColorTemperatureIntoColor() {
+        Resource pending = createResource(ResourceType.LIGHT, "1");
+        Setters.setColorXy(pending, HSBType.RED, null);
+
+        Resource command = createResource(ResourceType.LIGHT, "1");
+        command.setColorTemperature(createColorTemperature(300));
+
+        assertThat(Setters.mergeLightCommand(pending, command), is(false));
+    }
+
     private OnState createOnState(boolean on) {
         OnState onState = new OnState();
         onState.setOn(on);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.api.dto.clip2.OnState;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+
+/**
+ * Tests for {@link Clip2CommandQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueueTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Resource> sent = new ArrayList<>();
+
+    private void runTasks() {
+        List<Runnable> pendingTasks = new ArrayList<>(tasks);
+        tasks.clear();
+        pendingTasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void commandsForTheSameLightAreMerged() {
+        Clip2CommandQueue queue = new Clip2CommandQueue(tasks::add, resource -> {
+            sent.add(resource);
+            return new Resources();
+        });
+
+        CompletableFuture<Resources> on = queue.submit(createLight("1").setOnState(new OnState().setOn(true)));
+        CompletableFuture<Resources> dimming = queue.submit(createLight("1").setDimming(createDimming(50)));
+        CompletableFuture<Resources> other = queue.submit(createLight("2").setDimming(createDimming(20)));
+
+        assertThat(queue.size(), is(2));
+        assertThat(tasks.size(), is(1));
+        runTasks();
+
+        assertThat(sent.size(), is(2));
+        Resource merged = sent.get(0);
+        assertThat(merged.getId(), is("1"));
+        assertThat(merged.getOnState(), is(notNullValue()));
+        assertThat(merged.getDimming(), is(notNullValue()));
+        assertThat(sent.get(1).getId(), is("2"));
+        assertThat(on, is(sameInstance(dimming)));
+        assertThat(on.isDone(), is(true));
+        assertThat(other.isDone(), is(true));
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    void commandsAreNotMergedIntoSentCommands() {
+        Clip2CommandQueue queue = new Clip2CommandQueue(tasks::add, resource -> {
+            sent.add(resource);
+            return new Resources();
+        });
+
+        queue.submit(createLight("1").setDimming(createDimming(10)));
+        runTasks();
+        queue.submit(createLight("1").setDimming(createDimming(20)));
+        runTasks();
+
+        assertThat(sent.size(), is(2));
+    }
+
+    @Test
+    void failedCommandCompletesExceptionally() {
+        Clip2CommandQueue queue = new Clip2CommandQueue(tasks::add, resource -> {
+            throw new ApiException("failed");
+        });
+
+        CompletableFuture<Resources> future = queue.submit(createLight("1").setDimming(createDimming(10)));
+        runTasks();
+
+        assertThat(future.isCompletedExceptionally(), is(true));
+    }
+
+    @Test
+    void cancelFailsPendingCommands() {
+        Clip2CommandQueue queue = new Clip2CommandQueue(tasks::add, resource -> new Resources());
+
+        CompletableFuture<Resources> future = queue.submit(createLight("1").setDimming(createDimming(10)));
+        queue.cancel();
+
+        assertThat(future.isCompletedExceptionally(), is(true));
+        assertThat(queue.size(), is(0));
+    }
+
+    private Resource createLight(String id) {
+        return new Resource(ResourceType.LIGHT).setId(id);
+    }
+
+    private Dimming createDimming(double brightness) {
+        Dimming dimming = new Dimming();
+        dimming.setBrightness(brightness);
+        return dimming;
+    }
+}
@@ -29,6 +29,8 @@ public class ICalendarConfiguration {
     @Nullable
     public String authorizationCode;
     @Nullable
+    public BigDecimal indexHorizon;
+    @Nullable
     public BigDecimal maxSize;
     @Nullable
     public String password;
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
@@ -312,7 +313,10 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
             return false;
         }
         try (final FileInputStream fileStream = new FileInputStream(calendarFile)) {
-            final AbstractPresentableCalendar calendar = AbstractPresentableCalendar.create(fileStream);
+            final BigDecimal indexHorizonBD = config.indexHorizon;
+            final Duration indexHorizon = indexHorizonBD != null ? Duration.ofDays(indexHorizonBD.longValue())
+                    : AbstractPresentableCalendar.DEFAULT_INDEX_HORIZON;
+            final AbstractPresentableCalendar calendar = AbstractPresentableCalendar.create(fileStream, indexHorizon);
             runtimeCalendar = calendar;
             rescheduleCalendarStateUpdate();
             calendarDownloadedTime = Instant.ofEpochMilli(calendarFile.lastModified());
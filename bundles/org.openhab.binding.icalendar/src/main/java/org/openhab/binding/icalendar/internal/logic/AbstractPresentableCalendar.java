@@ -14,6 +14,7 @@ package org.openhab.binding.icalendar.internal.logic;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -32,6 +33,11 @@ import org.eclipse.jdt.annotation.Nullable;
 @NonNullByDefault
 public abstract class AbstractPresentableCalendar {
 
+    /**
+     * The default duration before and after the first search the occurrences of the events are indexed for.
+     */
+    public static final Duration DEFAULT_INDEX_HORIZON = Duration.ofDays(90);
+
     /**
      * Creates an implementing Instance of AbstractPresentableCalendar.
      *
@@ -44,6 +50,22 @@ public abstract class AbstractPresentableCalendar {
         return new BiweeklyPresentableCalendar(calendarStream);
     }
 
+    /**
+     * Creates an implementing Instance of AbstractPresentableCalendar, which indexes the occurrences of the events for
+     * the given horizon. Searches outside of the indexed time frame iterate through the occurrences.
+     *
+     * @param calendarStream A Stream containing the iCal data.
+     * @param indexHorizon The duration before and after the first search the occurrences are indexed for. Zero
+     *            disables the index.
+     * @return The instance.
+     * @throws IOException When something while reading stream fails.
+     * @throws CalendarException When something while parsing fails.
+     */
+    public static AbstractPresentableCalendar create(InputStream calendarStream, Duration indexHorizon)
+            throws IOException, CalendarException {
+        return new BiweeklyPresentableCalendar(calendarStream, indexHorizon);
+    }
+
     /**
      * Searches the event currently (at given Instant) present.
      *
@@ -19,8 +19,11 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -62,13 +65,25 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
  * @author Michael Wodniok - Extended logic for defined behavior with parallel current events
  *         (issue 10808)
  * @author Christian Heinemann - Extension for the time-based filtering strategy
+ * @author agent - Precomputed index of occurrences
  */
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     private static final Duration ONE_DAY = Duration.ofDays(1).minusNanos(1);
     private final ICalendar usedCalendar;
+    private final Duration indexHorizon;
+    private volatile @Nullable OccurrenceIndex occurrenceIndex;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
+        this(streamed, DEFAULT_INDEX_HORIZON);
+    }
+
+    /**
+     * @param streamed A Stream containing the iCal data.
+     * @param indexHorizon The duration before and after the first search the occurrences are indexed for. Set to
+     *            zero for searching without index.
+     */
+    BiweeklyPresentableCalendar(InputStream streamed, Duration indexHorizon) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
             final ICalendar currentCalendar = reader.readNext();
             if (currentCalendar == null) {
@@ -76,6 +91,7 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
             this.usedCalendar = currentCalendar;
         }
+        this.indexHorizon = indexHorizon;
     }
 
     @Override
@@ -102,6 +118,27 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
+        Instant searchInstant = instant;
+        final OccurrenceIndex index = getOccurrenceIndex(instant, true);
+        if (index != null && index.covers(instant, instant)) {
+            final VEventWPeriod nextOccurrence = index.getNext(instant);
+            if (nextOccurrence != null) {
+                return nextOccurrence.toEvent();
+            }
+            // There is no occurrence until the end of the index
+            searchInstant = index.windowEnd.minusNanos(1);
+        }
+        final VEventWPeriod nextEvent = iterateNextComponentWPeriod(searchInstant);
+        return nextEvent != null ? nextEvent.toEvent() : null;
+    }
+
+    /**
+     * Searches the next event after given Instant by iterating through the occurrences of all events.
+     *
+     * @param instant The Instant after which the next event should be searched.
+     * @return A VEventWPeriod describing the event or null if there is none.
+     */
+    private @Nullable VEventWPeriod iterateNextComponentWPeriod(Instant instant) {
         final Collection<VEventWPeriod> candidates = new ArrayList<>();
         final Collection<VEvent> negativeEvents = new ArrayList<>();
         final Collection<VEvent> positiveEvents = new ArrayList<>();
@@ -131,10 +168,7 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
         }
 
-        if (earliestNextEvent == null) {
-            return null;
-        }
-        return earliestNextEvent.toEvent();
+        return earliestNextEvent;
     }
 
     @Override
@@ -210,6 +244,24 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
             EventTimeFilter eventTimeFilter) {
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin, false);
+        if (index != null && index.complete && index.covers(frameBegin, frameEnd)) {
+            return index.getBetween(frameBegin, frameEnd, maximumPerSeries, eventTimeFilter);
+        }
+        return iterateVEventWPeriodsBetween(frameBegin, frameEnd, maximumPerSeries, eventTimeFilter);
+    }
+
+    /**
+     * Finds events which begin in the given frame by iterating through the occurrences of all events.
+     *
+     * @param frameBegin Begin of the frame where to search events.
+     * @param frameEnd End of the time frame where to search events.
+     * @param maximumPerSeries Limit the results per series. Set to 0 for no limit.
+     * @param eventTimeFilter Strategy that decides which events should be considered in the time frame.
+     * @return All events which begin in the time frame, grouped by series.
+     */
+    private List<VEventWPeriod> iterateVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd,
+            int maximumPerSeries, EventTimeFilter eventTimeFilter) {
         final List<VEvent> positiveEvents = new ArrayList<>();
         final List<VEvent> negativeEvents = new ArrayList<>();
         classifyEvents(positiveEvents, negativeEvents);
@@ -285,6 +337,20 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
+        final OccurrenceIndex index = getOccurrenceIndex(instant, true);
+        if (index != null && index.covers(instant, instant)) {
+            return index.getCurrent(instant);
+        }
+        return iterateCurrentComponentWPeriod(instant);
+    }
+
+    /**
+     * Searches for a current event at given Instant by iterating through the occurrences of all events.
+     *
+     * @param instant The Instant to use for finding events.
+     * @return A VEventWPeriod describing the event or null if there is none.
+     */
+    private @Nullable VEventWPeriod iterateCurrentComponentWPeriod(Instant instant) {
         final List<VEvent> negativeEvents = new ArrayList<>();
         final List<VEvent> positiveEvents = new ArrayList<>();
         classifyEvents(positiveEvents, negativeEvents);
@@ -318,6 +384,92 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return earliestEndingEvent;
     }
 
+    /**
+     * Gets the index of occurrences, building it if there is none yet.
+     *
+     * @param instant The Instant the index is built around if required.
+     * @param rebuildIfOutdated Whether the index is built again if it does not cover the given Instant and the half
+     *            horizon after it.
+     * @return The index or null if searching without index.
+     */
+    private @Nullable OccurrenceIndex getOccurrenceIndex(Instant instant, boolean rebuildIfOutdated) {
+        if (indexHorizon.isZero() || indexHorizon.isNegative()) {
+            return null;
+        }
+        OccurrenceIndex index = occurrenceIndex;
+        if (index == null || (rebuildIfOutdated && !index.covers(instant, instant.plus(indexHorizon.dividedBy(2))))) {
+            synchronized (this) {
+                index = occurrenceIndex;
+                if (index == null
+                        || (rebuildIfOutdated && !index.covers(instant, instant.plus(indexHorizon.dividedBy(2))))) {
+                    index = buildOccurrenceIndex(instant.minus(indexHorizon), instant.plus(indexHorizon));
+                    occurrenceIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Expands all positive events into their occurrences in the given window, removing the countered ones.
+     *
+     * @param windowStart The start of the window. The occurrences of each event are indexed from the start minus the
+     *            duration of the event, so that all occurrences active at the start are included.
+     * @param windowEnd The end of the window (exclusive).
+     * @return The index of the occurrences.
+     */
+    private OccurrenceIndex buildOccurrenceIndex(Instant windowStart, Instant windowEnd) {
+        final List<VEvent> positiveEvents = new ArrayList<>();
+        final List<VEvent> negativeEvents = new ArrayList<>();
+        classifyEvents(positiveEvents, negativeEvents);
+        final Map<String, List<VEvent>> negativeEventsByUid = new HashMap<>();
+        for (final VEvent negativeEvent : negativeEvents) {
+            final Uid negativeEventUid = negativeEvent.getUid();
+            if (negativeEventUid != null) {
+                negativeEventsByUid.computeIfAbsent(negativeEventUid.getValue(), uid -> new ArrayList<>())
+                        .add(negativeEvent);
+            }
+        }
+
+        final List<VEventWPeriod> occurrences = new ArrayList<>();
+        Duration maxDuration = Duration.ZERO;
+        boolean complete = true;
+        for (int series = 0; series < positiveEvents.size(); series++) {
+            final VEvent positiveEvent = positiveEvents.get(series);
+            final Duration duration = getEventLength(positiveEvent);
+            if (duration == null) {
+                // Only searched by iteration, like it was done before the index existed
+                complete = false;
+                continue;
+            }
+            if (duration.compareTo(maxDuration) > 0) {
+                maxDuration = duration;
+            }
+            final Uid eventUid = positiveEvent.getUid();
+            final List<VEvent> counterEvents = eventUid == null ? List.of()
+                    : negativeEventsByUid.getOrDefault(eventUid.getValue(), List.of());
+            final Instant seriesStart = windowStart.minus(duration);
+            final DateIterator startDates = getRecurredEventDateIterator(positiveEvent);
+            startDates.advanceTo(Date.from(seriesStart));
+            while (startDates.hasNext()) {
+                final Instant startInstant = startDates.next().toInstant();
+                if (!startInstant.isBefore(windowEnd)) {
+                    break;
+                }
+                if (startInstant.isBefore(seriesStart)) {
+                    continue;
+                }
+                if (eventUid == null || !isCounteredBy(startInstant, eventUid, counterEvents)) {
+                    occurrences
+                            .add(new VEventWPeriod(positiveEvent, startInstant, startInstant.plus(duration), series));
+                }
+            }
+        }
+        // stable sort, occurrences with the same start stay in the order of their series
+        occurrences.sort(Comparator.comparing(occurrence -> occurrence.start));
+        return new OccurrenceIndex(windowStart, windowEnd, maxDuration, complete, positiveEvents.size(), occurrences);
+    }
+
     /**
      * Finds a duration of the event.
      *
@@ -415,11 +567,17 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         final VEvent vEvent;
         final Instant start;
         final Instant end;
+        final int series;
 
         public VEventWPeriod(VEvent vEvent, Instant start, Instant end) {
+            this(vEvent, start, end, -1);
+        }
+
+        public VEventWPeriod(VEvent vEvent, Instant start, Instant end, int series) {
             this.vEvent = vEvent;
             this.start = start;
             this.end = end;
+            this.series = series;
         }
 
         public Event toEvent() {
@@ -430,4 +588,103 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             return new Event(title, start, end, description);
         }
     }
+
+    /**
+     * The occurrences of all events in a time window, sorted by start. Searches within the window are binary searches
+     * on the start of the occurrences instead of iterations through the occurrences of every event.
+     *
+     * @author agent - Initial contribution
+     */
+    private static class OccurrenceIndex {
+        final Instant windowStart;
+        final Instant windowEnd;
+        final Duration maxDuration;
+        final boolean complete;
+        final int seriesCount;
+        final List<VEventWPeriod> occurrences;
+
+        OccurrenceIndex(Instant windowStart, Instant windowEnd, Duration maxDuration, boolean complete,
+                int seriesCount, List<VEventWPeriod> occurrences) {
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+            this.maxDuration = maxDuration;
+            this.complete = complete;
+            this.seriesCount = seriesCount;
+            this.occurrences = occurrences;
+        }
+
+        /**
+         * Checks whether all occurrences relevant for a search between the given Instants are indexed.
+         */
+        boolean covers(Instant begin, Instant end) {
+            return !begin.isBefore(windowStart) && end.isBefore(windowEnd);
+        }
+
+        @Nullable
+        VEventWPeriod getCurrent(Instant instant) {
+            VEventWPeriod earliestEndingEvent = null;
+            for (int i = indexOfFirstStartNotBefore(instant.minus(maxDuration)); i < occurrences.size(); i++) {
+                final VEventWPeriod occurrence = occurrences.get(i);
+                if (!occurrence.start.isBefore(instant)) {
+                    break;
+                }
+                if (occurrence.end.isAfter(instant) && (earliestEndingEvent == null
+                        || occurrence.end.isBefore(earliestEndingEvent.end)
+                        || (occurrence.end.equals(earliestEndingEvent.end)
+                                && occurrence.series < earliestEndingEvent.series))) {
+                    earliestEndingEvent = occurrence;
+                }
+            }
+            return earliestEndingEvent;
+        }
+
+        @Nullable
+        VEventWPeriod getNext(Instant instant) {
+            final int i = indexOfFirstStartNotBefore(instant.plusNanos(1));
+            return i < occurrences.size() ? occurrences.get(i) : null;
+        }
+
+        /**
+         * Finds the occurrences in the given frame, in the same order as found by iterating through each series.
+         */
+        List<VEventWPeriod> getBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
+                EventTimeFilter eventTimeFilter) {
+            final List<VEventWPeriod> eventList = new ArrayList<>();
+            final int[] foundInSeries = new int[seriesCount];
+            final Instant searchFrom = eventTimeFilter.searchFrom(frameBegin, maxDuration);
+            for (int i = indexOfFirstStartNotBefore(searchFrom); i < occurrences.size(); i++) {
+                final VEventWPeriod occurrence = occurrences.get(i);
+                if (occurrence.start.isAfter(frameEnd)) {
+                    break;
+                }
+                final Duration duration = Duration.between(occurrence.start, occurrence.end);
+                if (eventTimeFilter.eventAfterFrame(frameEnd, occurrence.start, duration)
+                        || eventTimeFilter.eventBeforeFrame(frameBegin, occurrence.start, duration)) {
+                    continue;
+                }
+                if (maximumPerSeries != 0 && foundInSeries[occurrence.series] >= maximumPerSeries) {
+                    continue;
+                }
+                foundInSeries[occurrence.series]++;
+                eventList.add(occurrence);
+            }
+            eventList.sort(Comparator.comparingInt((VEventWPeriod occurrence) -> occurrence.series)
+                    .thenComparing(occurrence -> occurrence.start));
+            return eventList;
+        }
+
+        private int indexOfFirstStartNotBefore(Instant instant) {
+            int low = 0;
+            int high = occurrences.size();
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (occurrences.get(middle).start.isBefore(instant)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
 }
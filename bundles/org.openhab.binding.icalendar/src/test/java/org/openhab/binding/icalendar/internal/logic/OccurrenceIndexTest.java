@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.icalendar.internal.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests that searches using the precomputed index of occurrences give the same results as searches iterating through
+ * the occurrences.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OccurrenceIndexTest {
+    private static final Duration STEP = Duration.ofHours(7).plusMinutes(13);
+    private static final Duration TESTED_DURATION = Duration.ofDays(120);
+    private static final List<EventTimeFilter> FILTERS = List.of(EventTimeFilter.searchByStart(),
+            EventTimeFilter.searchByEnd(), EventTimeFilter.searchByActive());
+
+    @ParameterizedTest
+    @CsvSource({ "test.ics, 2019-09-01T00:00:00Z", "test2.ics, 2019-10-15T00:00:00Z",
+            "test3.ics, 2020-01-01T00:00:00Z", "test-issue9647.ics, 2020-07-01T00:00:00Z",
+            "test-issue10808.ics, 2021-05-20T00:00:00Z", "test-issue11084.ics, 2021-08-01T00:00:00Z",
+            "test-multiday.ics, 2023-12-01T00:00:00Z" })
+    public void testIndexedSearchesEqualIteratingSearches(String file, String begin)
+            throws IOException, CalendarException {
+        // a short horizon to include searches that rebuild the index or are outside of it
+        final AbstractPresentableCalendar indexed = load(file, Duration.ofDays(20));
+        final AbstractPresentableCalendar iterated = load(file, Duration.ZERO);
+
+        final Instant start = Instant.parse(begin);
+        for (Instant instant = start; instant.isBefore(start.plus(TESTED_DURATION)); instant = instant.plus(STEP)) {
+            assertEquals(iterated.getCurrentEvent(instant), indexed.getCurrentEvent(instant), instant.toString());
+            assertEquals(iterated.getNextEvent(instant), indexed.getNextEvent(instant), instant.toString());
+            final Instant hourLater = instant.plus(Duration.ofHours(1));
+            assertEquals(iterated.getJustBegunEvents(instant, hourLater),
+                    indexed.getJustBegunEvents(instant, hourLater), instant.toString());
+            assertEquals(iterated.getJustEndedEvents(instant, hourLater),
+                    indexed.getJustEndedEvents(instant, hourLater), instant.toString());
+            final Instant weekLater = instant.plus(Duration.ofDays(7));
+            for (EventTimeFilter filter : FILTERS) {
+                for (int maximumCount : new int[] { 0, 2 }) {
+                    assertEquals(iterated.getFilteredEventsBetween(instant, weekLater, filter, null, maximumCount),
+                            indexed.getFilteredEventsBetween(instant, weekLater, filter, null, maximumCount),
+                            instant.toString());
+                }
+            }
+        }
+    }
+
+    private AbstractPresentableCalendar load(String file, Duration indexHorizon)
+            throws IOException, CalendarException {
+        try (FileInputStream stream = new FileInputStream("src/test/resources/" + file)) {
+            return new BiweeklyPresentableCalendar(stream, indexHorizon);
+        }
+    }
+}
@@ -205,6 +205,10 @@ public class Ffmpeg {
             } else {
                 logger.debug("Starting ffmpeg with this command now: {}", ffmpegCommand);
             }
+            if (format.equals(FFmpegFormat.HLS)) {
+                // segments of a previous run must not be served
+                ipCameraHandler.hlsSegmentStore.clear();
+            }
             ipCameraFfmpegThread.start();
             if (format.equals(FFmpegFormat.HLS)) {
                 ipCameraHandler.setChannelState(CHANNEL_START_STREAM, OnOffType.ON);
@@ -235,6 +239,8 @@ public class Ffmpeg {
                 process = null;
             }
             if (format.equals(FFmpegFormat.HLS)) {
+                ipCameraHandler.hlsSegmentStore.clear();
+                ipCameraHandler.updateHlsMemoryUsage();
                 ipCameraHandler.setChannelState(CHANNEL_START_STREAM, OnOffType.OFF);
             }
         }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link HlsSegmentStore} holds the HLS playlist and segments that FFmpeg uploads to the binding, so they can be
+ * served from RAM instead of being written to and read from disk.
+ *
+ * Segments are kept while the playlist references them, plus a few more for clients that fetched an older playlist.
+ * The total size is limited, the oldest segments are dropped first.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HlsSegmentStore {
+    // segments kept after they left the playlist
+    private static final int RETAINED_SEGMENTS = 2;
+    private static final long MAX_BYTES = 64L * 1024 * 1024;
+    private static final String MAP_URI = "#EXT-X-MAP:URI=\"";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    // in order of arrival, oldest first
+    private final Map<String, byte[]> segments = new LinkedHashMap<>();
+    private String playlist = "";
+    private long bytes;
+
+    /**
+     * Store a segment, replacing a segment of the same name.
+     *
+     * @param name the file name of the segment
+     * @param data the contents of the segment
+     */
+    public synchronized void putSegment(String name, byte[] data) {
+        byte[] previous = segments.remove(name);
+        if (previous != null) {
+            bytes -= previous.length;
+        }
+        segments.put(name, data);
+        bytes += data.length;
+        enforceSizeLimit();
+    }
+
+    /**
+     * Store a new playlist and drop the segments it does not reference anymore, except the newest ones.
+     *
+     * @param playlist the contents of the playlist
+     */
+    public synchronized void putPlaylist(String playlist) {
+        this.playlist = playlist;
+        Set<String> referenced = referencedSegments(playlist);
+        int unreferenced = 0;
+        for (String name : segments.keySet()) {
+            if (!referenced.contains(name)) {
+                unreferenced++;
+            }
+        }
+        Iterator<Map.Entry<String, byte[]>> iterator = segments.entrySet().iterator();
+        while (unreferenced > RETAINED_SEGMENTS && iterator.hasNext()) {
+            Map.Entry<String, byte[]> segment = iterator.next();
+            if (!referenced.contains(segment.getKey())) {
+                bytes -= segment.getValue().length;
+                iterator.remove();
+                unreferenced--;
+            }
+        }
+        logger.trace("HLS store holds {} segments using {} bytes", segments.size(), bytes);
+        notifyAll();
+    }
+
+    /**
+     * @return the segment of the given name, or null if it is not available
+     */
+    public synchronized byte @Nullable [] getSegment(String name) {
+        return segments.get(name);
+    }
+
+    public synchronized void removeSegment(String name) {
+        byte[] previous = segments.remove(name);
+        if (previous != null) {
+            bytes -= previous.length;
+        }
+    }
+
+    /**
+     * @return the playlist, or an empty string if there is none
+     */
+    public synchronized String getPlaylist() {
+        return playlist;
+    }
+
+    /**
+     * Wait until FFmpeg has uploaded a playlist.
+     *
+     * @param timeoutMillis the maximum time to wait
+     * @return the playlist, or an empty string if there still is none
+     */
+    public synchronized String awaitPlaylist(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (playlist.isEmpty() && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return playlist;
+    }
+
+    /**
+     * Drop the playlist and all segments, used when FFmpeg is (re)started or stopped.
+     */
+    public synchronized void clear() {
+        segments.clear();
+        playlist = "";
+        bytes = 0;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return the number of bytes used by the segments
+     */
+    public synchronized long getMemoryUsage() {
+        return bytes;
+    }
+
+    private void enforceSizeLimit() {
+        Iterator<byte[]> iterator = segments.values().iterator();
+        while (bytes > MAX_BYTES && segments.size() > 1 && iterator.hasNext()) {
+            bytes -= iterator.next().length;
+            iterator.remove();
+            logger.debug("HLS store exceeded {} bytes, dropped the oldest segment", MAX_BYTES);
+        }
+    }
+
+    static Set<String> referencedSegments(String playlist) {
+        Set<String> referenced = new HashSet<>();
+        for (String line : playlist.split("\n")) {
+            line = line.trim();
+            if (line.startsWith(MAP_URI)) {
+                // initialization segment of fragmented MP4 streams
+                int end = line.indexOf('"', MAP_URI.length());
+                if (end > 0) {
+                    referenced.add(fileName(line.substring(MAP_URI.length(), end)));
+                }
+            } else if (!line.isEmpty() && !line.startsWith("#")) {
+                referenced.add(fileName(line));
+            }
+        }
+        return referenced;
+    }
+
+    private static String fileName(String uri) {
+        return uri.substring(uri.lastIndexOf('/') + 1);
+    }
+}
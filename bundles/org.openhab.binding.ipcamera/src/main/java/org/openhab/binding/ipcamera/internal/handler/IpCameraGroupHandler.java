@@ -14,11 +14,8 @@ package org.openhab.binding.ipcamera.internal.handler;
 
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -102,19 +99,25 @@ public class IpCameraGroupHandler extends BaseThingHandler {
         return cameraOrder.get(cameraIndex).getSnapshot();
     }
 
-    public String getOutputFolder(int index) {
-        IpCameraHandler handle = cameraOrder.get(index);
-        return handle.cameraConfig.getFfmpegOutput();
+    /**
+     * Get a HLS segment of a camera of this group
+     *
+     * @param index the index of the camera
+     * @param name the file name of the segment
+     * @return the segment, or null if it is not available
+     */
+    public byte @Nullable [] getHlsSegment(int index, String name) {
+        if (index >= cameraOrder.size()) {
+            return null;
+        }
+        return cameraOrder.get(index).hlsSegmentStore.getSegment(name);
     }
 
     private String readCamerasPlaylist(int cameraIndex) {
-        String camerasm3u8 = "";
         IpCameraHandler handle = cameraOrder.get(cameraIndex);
-        try {
-            String file = handle.cameraConfig.getFfmpegOutput() + "ipcamera.m3u8";
-            camerasm3u8 = new String(Files.readAllBytes(Paths.get(file)));
-        } catch (IOException e) {
-            logger.warn("Error occurred fetching a groupDisplay cameras m3u8 file :{}", e.getMessage());
+        String camerasm3u8 = handle.hlsSegmentStore.getPlaylist();
+        if (camerasm3u8.isEmpty()) {
+            logger.warn("A groupDisplay camera has no HLS playlist available.");
         }
         return camerasm3u8;
     }
@@ -53,6 +53,7 @@ import org.openhab.binding.ipcamera.internal.FoscamHandler;
 import org.openhab.binding.ipcamera.internal.GroupTracker;
 import org.openhab.binding.ipcamera.internal.Helper;
 import org.openhab.binding.ipcamera.internal.HikvisionHandler;
+import org.openhab.binding.ipcamera.internal.HlsSegmentStore;
 import org.openhab.binding.ipcamera.internal.HttpOnlyHandler;
 import org.openhab.binding.ipcamera.internal.InstarHandler;
 import org.openhab.binding.ipcamera.internal.IpCameraActions;
@@ -67,8 +68,10 @@ import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.RawType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.Units;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
@@ -138,6 +141,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable CameraServlet servlet;
     public String mjpegContentType = "";
     public @Nullable Ffmpeg ffmpegHLS = null;
+    public final HlsSegmentStore hlsSegmentStore = new HlsSegmentStore();
     public @Nullable Ffmpeg ffmpegRecord = null;
     public @Nullable Ffmpeg ffmpegGIF = null;
     public @Nullable Ffmpeg ffmpegRtspHelper = null;
@@ -821,16 +825,18 @@ public class IpCameraHandler extends BaseThingHandler {
         switch (format) {
             case HLS:
                 if (ffmpegHLS == null) {
+                    // FFmpeg uploads the playlist and segments to the servlet, which keeps them in hlsSegmentStore
+                    String hlsOutput = "http://127.0.0.1:" + SERVLET_PORT + "/ipcamera/" + getThing().getUID().getId()
+                            + CameraServlet.HLS_UPLOAD_PATH + "/ipcamera.m3u8";
+                    String hlsOutOptions = cameraConfig.getHlsOutOptions() + " -method PUT";
                     if (!inputOptions.isEmpty()) {
                         ffmpegHLS = new Ffmpeg(this, format, cameraConfig.getFfmpegLocation(),
-                                "-hide_banner -loglevel warning " + inputOptions, rtspUri,
-                                cameraConfig.getHlsOutOptions(), cameraConfig.getFfmpegOutput() + "ipcamera.m3u8",
+                                "-hide_banner -loglevel warning " + inputOptions, rtspUri, hlsOutOptions, hlsOutput,
                                 cameraConfig.getUser(), cameraConfig.getPassword());
                     } else {
                         ffmpegHLS = new Ffmpeg(this, format, cameraConfig.getFfmpegLocation(),
-                                "-hide_banner -loglevel warning", rtspUri, cameraConfig.getHlsOutOptions(),
-                                cameraConfig.getFfmpegOutput() + "ipcamera.m3u8", cameraConfig.getUser(),
-                                cameraConfig.getPassword());
+                                "-hide_banner -loglevel warning", rtspUri, hlsOutOptions, hlsOutput,
+                                cameraConfig.getUser(), cameraConfig.getPassword());
                     }
                 }
                 Ffmpeg localHLS = ffmpegHLS;
@@ -1364,6 +1370,10 @@ public class IpCameraHandler extends BaseThingHandler {
         updateState(channelToUpdate, valueOf);
     }
 
+    public void updateHlsMemoryUsage() {
+        updateState(CHANNEL_HLS_MEMORY_USAGE, new QuantityType<>(hlsSegmentStore.getMemoryUsage(), Units.BYTE));
+    }
+
     private void bringCameraOnline() {
         isOnline.set(true);
         updateStatus(ThingStatus.ONLINE);
@@ -35,7 +35,7 @@ import io.netty.util.ReferenceCountUtil;
 @NonNullByDefault
 public class OnvifCodec extends ChannelDuplexHandler {
     private final Logger logger = LoggerFactory.getLogger(getClass());
-    private String incomingMessage = "";
+    private final StringBuilder incomingMessage = new StringBuilder();
     private OnvifConnection onvifConnection;
     private RequestType requestType = RequestType.GetStatus;
 
@@ -77,10 +77,10 @@ public class OnvifCodec extends ChannelDuplexHandler {
                 }
             }
             if (msg instanceof HttpContent content) {
-                incomingMessage += content.content().toString(CharsetUtil.UTF_8);
+                incomingMessage.append(content.content().toString(CharsetUtil.UTF_8));
             }
             if (msg instanceof LastHttpContent) {
-                onvifConnection.processReply(requestType, incomingMessage);
+                onvifConnection.processReply(requestType, incomingMessage.toString());
                 ctx.close();
             }
         } finally {
@@ -14,6 +14,7 @@ package org.openhab.binding.ipcamera.internal.onvif;
 
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
@@ -29,25 +30,23 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.TimeZone;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.ipcamera.internal.Helper;
 import org.openhab.binding.ipcamera.internal.handler.IpCameraHandler;
+import org.openhab.binding.ipcamera.internal.onvif.OnvifEventParser.EventMapping;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.types.StateOption;
 import org.openhab.core.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
@@ -59,7 +58,8 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ConnectTimeoutException;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -69,6 +69,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
 /**
  * The {@link OnvifConnection} This is a basic Netty implementation for connecting and communicating to ONVIF cameras.
@@ -119,9 +120,11 @@ public class OnvifConnection {
     }
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
-    private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(2);
     private @Nullable Bootstrap bootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(2);
+    // shared by all cameras, only held while this connection is in use
+    private @Nullable EventLoopGroup eventLoopGroup;
+    // ChannelGroup is thread safe
+    private final ChannelGroup openChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private ReentrantLock connecting = new ReentrantLock();
     private String ipAddress = "";
     private String user = "";
@@ -719,11 +722,54 @@ public class OnvifConnection {
         request.headers().set("Content-Length", bbuf.readableBytes());
         request.content().clear().writeBytes(bbuf);
 
+        Bootstrap localBootstap = getBootstrap();
+        // Tapo brand have different ports for the event xAddr to the other xAddr, can't use 1 port for all calls.
+        localBootstap.connect(new InetSocketAddress(ipAddress, port)).addListener(new ChannelFutureListener() {
+
+            @Override
+            public void operationComplete(@Nullable ChannelFuture future) {
+                if (future == null) {
+                    return;
+                }
+                if (future.isDone() && future.isSuccess()) {
+                    Channel ch = future.channel();
+                    openChannels.add(ch);
+                    OnvifCodec onvifCodec = (OnvifCodec) ch.pipeline().get(ONVIF_CODEC);
+                    onvifCodec.setRequestType(requestType);
+                    ch.writeAndFlush(request);
+                } else { // an error occurred
+                    if (future.isDone() && !future.isCancelled()) {
+                        Throwable cause = future.cause();
+                        String msg = cause.getMessage();
+                        logger.debug("Connect failed - cause is: {}", cause.getMessage());
+                        if (cause instanceof ConnectTimeoutException) {
+                            usingEvents = false;// Prevent Unsubscribe from being sent
+                            ipCameraHandler.cameraCommunicationError(
+                                    "Camera timed out when trying to connect to the ONVIF port:" + port);
+                        } else if ((cause instanceof ConnectException) && msg != null
+                                && msg.contains("Connection refused")) {
+                            usingEvents = false;// Prevent Unsubscribe from being sent
+                            ipCameraHandler.cameraCommunicationError(
+                                    "Camera refused to connect when using ONVIF to port:" + port);
+                        }
+                    } else {
+                        ipCameraHandler.cameraCommunicationError("Camera failed to connect due to being cancelled");
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * The bootstrap uses the event loop group shared by all cameras, which is acquired for the first request.
+     */
+    private synchronized Bootstrap getBootstrap() {
         Bootstrap localBootstap = bootstrap;
         if (localBootstap == null) {
-            mainEventLoopGroup = new NioEventLoopGroup(2);
+            EventLoopGroup localEventLoopGroup = OnvifEventLoop.acquire();
+            eventLoopGroup = localEventLoopGroup;
             localBootstap = new Bootstrap();
-            localBootstap.group(mainEventLoopGroup);
+            localBootstap.group(localEventLoopGroup);
             localBootstap.channel(NioSocketChannel.class);
             localBootstap.option(ChannelOption.SO_KEEPALIVE, true);
             localBootstap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000);
@@ -741,44 +787,7 @@ public class OnvifConnection {
             });
             bootstrap = localBootstap;
         }
-        if (!mainEventLoopGroup.isShuttingDown()) {
-            // Tapo brand have different ports for the event xAddr to the other xAddr, can't use 1 port for all calls.
-            localBootstap.connect(new InetSocketAddress(ipAddress, port)).addListener(new ChannelFutureListener() {
-
-                @Override
-                public void operationComplete(@Nullable ChannelFuture future) {
-                    if (future == null) {
-                        return;
-                    }
-                    if (future.isDone() && future.isSuccess()) {
-                        Channel ch = future.channel();
-                        OnvifCodec onvifCodec = (OnvifCodec) ch.pipeline().get(ONVIF_CODEC);
-                        onvifCodec.setRequestType(requestType);
-                        ch.writeAndFlush(request);
-                    } else { // an error occurred
-                        if (future.isDone() && !future.isCancelled()) {
-                            Throwable cause = future.cause();
-                            String msg = cause.getMessage();
-                            logger.debug("Connect failed - cause is: {}", cause.getMessage());
-                            if (cause instanceof ConnectTimeoutException) {
-                                usingEvents = false;// Prevent Unsubscribe from being sent
-                                ipCameraHandler.cameraCommunicationError(
-                                        "Camera timed out when trying to connect to the ONVIF port:" + port);
-                            } else if ((cause instanceof ConnectException) && msg != null
-                                    && msg.contains("Connection refused")) {
-                                usingEvents = false;// Prevent Unsubscribe from being sent
-                                ipCameraHandler.cameraCommunicationError(
-                                        "Camera refused to connect when using ONVIF to port:" + port);
-                            }
-                        } else {
-                            ipCameraHandler.cameraCommunicationError("Camera failed to connect due to being cancelled");
-                        }
-                    }
-                }
-            });
-        } else {
-            logger.debug("ONVIF message not sent as connection is shutting down");
-        }
+        return localBootstap;
     }
 
     OnvifConnection getHandle() {
@@ -818,169 +827,50 @@ public class OnvifConnection {
     }
 
     public void eventReceived(String eventMessage) {
-        Document xmlDocument;
         try {
-            xmlDocument = Helper.loadXMLFromString(eventMessage);
-        } catch (Exception e) {
+            OnvifEventParser.parse(eventMessage, this::onvifEvent);
+        } catch (XMLStreamException e) {
             logger.error("Error parsing ONVIF xml.", e);
-            return;
         }
-        NodeList NotificationMessageNodeList = xmlDocument.getElementsByTagName("wsnt:NotificationMessage");
-        for (int i = 0; i < NotificationMessageNodeList.getLength(); i++) {
-            Element notificationMessageElement = (Element) NotificationMessageNodeList.item(i);
-
-            Element topicElement = (Element) notificationMessageElement.getElementsByTagName("wsnt:Topic").item(0);
-            String topic = topicElement.getFirstChild().getNodeValue().replace("tns1:", "");
-
-            Element sourceElement = (Element) notificationMessageElement.getElementsByTagName("tt:Source").item(0);
-
-            Element dataElement = (Element) notificationMessageElement.getElementsByTagName("tt:Data").item(0);
-
-            if (dataElement == null) {
-                // Events without data element are not relevant.
-                continue;
-            }
-
-            Element dataItemElement = (Element) dataElement.getElementsByTagName("tt:SimpleItem").item(0);
+    }
 
-            String dataName = dataItemElement.getAttributes().getNamedItem("Name").getNodeValue();
-            String dataValue = dataItemElement.getAttributes().getNamedItem("Value").getNodeValue();
+    public void eventReceived(InputStream eventMessage) {
+        try {
+            OnvifEventParser.parse(eventMessage, this::onvifEvent);
+        } catch (XMLStreamException e) {
+            logger.error("Error parsing ONVIF xml.", e);
+        }
+    }
 
-            logger.debug("ONVIF Event Topic: {}, Data name: {}, Data value: {}", topic, dataName, dataValue);
-            switch (topic) {
-                case "RuleEngine/CellMotionDetector/Motion":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.motionDetected(CHANNEL_CELL_MOTION_ALARM);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.noMotionDetected(CHANNEL_CELL_MOTION_ALARM);
-                    }
-                    break;
-                case "VideoAnalytics/Motion":
-                    if ("Trigger".equals(dataValue)) {
-                        ipCameraHandler.motionDetected(CHANNEL_MOTION_ALARM);
-                    } else if ("Normal".equals(dataValue)) {
-                        ipCameraHandler.noMotionDetected(CHANNEL_MOTION_ALARM);
-                    }
-                    break;
-                case "RuleEngine/tnsaxis:VMD3/vmd3_video_1":
-                case "RuleEngine/MotionRegionDetector/Motion":
-                case "VideoSource/MotionAlarm":
-                    if ("true".equals(dataValue) || "1".equals(dataValue)) {
-                        ipCameraHandler.motionDetected(CHANNEL_MOTION_ALARM);
-                    } else if ("false".equals(dataValue) || "0".equals(dataValue)) {
-                        ipCameraHandler.noMotionDetected(CHANNEL_MOTION_ALARM);
-                    }
-                    break;
-                case "AudioAnalytics/Audio/DetectedSound":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.audioDetected();
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.noAudioDetected();
-                    }
-                    break;
-                case "RuleEngine/FieldDetector/ObjectsInside":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.motionDetected(CHANNEL_FIELD_DETECTION_ALARM);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.noMotionDetected(CHANNEL_FIELD_DETECTION_ALARM);
-                    }
-                    break;
-                case "RuleEngine/LineDetector/Crossed":
-                    if ("ObjectId".equals(dataName)) {
-                        ipCameraHandler.motionDetected(CHANNEL_LINE_CROSSING_ALARM);
-                    } else {
-                        ipCameraHandler.noMotionDetected(CHANNEL_LINE_CROSSING_ALARM);
-                    }
-                    break;
-                case "RuleEngine/TamperDetector/Tamper":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TAMPER_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TAMPER_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "Device/tnsaxis:HardwareFailure/StorageFailure":
-                case "Device/HardwareFailure/StorageFailure":
-                    if ("true".equals(dataValue) || "1".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_STORAGE_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue) || "0".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_STORAGE_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "VideoSource/ImageTooDark/AnalyticsService":
-                case "VideoSource/ImageTooDark/ImagingService":
-                case "VideoSource/ImageTooDark/RecordingService":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TOO_DARK_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TOO_DARK_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "VideoSource/GlobalSceneChange/AnalyticsService":
-                case "VideoSource/GlobalSceneChange/ImagingService":
-                case "VideoSource/GlobalSceneChange/RecordingService":
-                    if ("true".equals(dataValue) || "1".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_SCENE_CHANGE_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue) || "0".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_SCENE_CHANGE_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "VideoSource/ImageTooBright/AnalyticsService":
-                case "VideoSource/ImageTooBright/ImagingService":
-                case "VideoSource/ImageTooBright/RecordingService":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TOO_BRIGHT_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TOO_BRIGHT_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "VideoSource/ImageTooBlurry/AnalyticsService":
-                case "VideoSource/ImageTooBlurry/ImagingService":
-                case "VideoSource/ImageTooBlurry/RecordingService":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TOO_BLURRY_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_TOO_BLURRY_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "RuleEngine/MyRuleDetector/Visitor":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_DOORBELL, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_DOORBELL, OnOffType.OFF);
-                    }
-                    break;
-                case "RuleEngine/MyRuleDetector/VehicleDetect":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_CAR_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_CAR_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "RuleEngine/MyRuleDetector/DogCatDetect":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_ANIMAL_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_ANIMAL_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                case "RuleEngine/MyRuleDetector/FaceDetect":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_FACE_DETECTED, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_FACE_DETECTED, OnOffType.OFF);
-                    }
-                    break;
-                case "RuleEngine/MyRuleDetector/PeopleDetect":
-                    if ("true".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_HUMAN_ALARM, OnOffType.ON);
-                    } else if ("false".equals(dataValue)) {
-                        ipCameraHandler.changeAlarmState(CHANNEL_HUMAN_ALARM, OnOffType.OFF);
-                    }
-                    break;
-                default:
-                    logger.debug("Please report this camera has an un-implemented ONVIF event. Topic: {}", topic);
-            }
+    private void onvifEvent(String topic, String dataName, String dataValue) {
+        logger.debug("ONVIF Event Topic: {}, Data name: {}, Data value: {}", topic, dataName, dataValue);
+        EventMapping mapping = OnvifEventParser.getMapping(topic);
+        if (mapping == null) {
+            logger.debug("Please report this camera has an un-implemented ONVIF event. Topic: {}", topic);
+            return;
+        }
+        Boolean state = mapping.getState(dataName, dataValue);
+        if (state == null) {
+            return;
+        }
+        switch (mapping.action) {
+            case MOTION:
+                if (state) {
+                    ipCameraHandler.motionDetected(mapping.channel);
+                } else {
+                    ipCameraHandler.noMotionDetected(mapping.channel);
+                }
+                break;
+            case AUDIO:
+                if (state) {
+                    ipCameraHandler.audioDetected();
+                } else {
+                    ipCameraHandler.noAudioDetected();
+                }
+                break;
+            case ALARM:
+                ipCameraHandler.changeAlarmState(mapping.channel, OnOffType.from(state));
+                break;
         }
     }
 
@@ -1140,7 +1030,6 @@ public class OnvifConnection {
         try {
             if (!isConnected) {
                 logger.debug("Connecting {} to ONVIF", ipAddress);
-                threadPool = Executors.newScheduledThreadPool(2);
                 sendOnvifRequest(RequestType.GetSystemDateAndTime, deviceXAddr);
                 usingEvents = useEvents;
                 sendOnvifRequest(RequestType.GetCapabilities, deviceXAddr);
@@ -1172,33 +1061,29 @@ public class OnvifConnection {
         }
     }
 
-    private void cleanup() {
-        if (!isConnected && !mainEventLoopGroup.isShuttingDown()) {
-            try {
-                mainEventLoopGroup.shutdownGracefully();
-                mainEventLoopGroup.awaitTermination(3, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                logger.warn("ONVIF was not cleanly shutdown, due to being interrupted");
-            } finally {
-                logger.debug("Eventloop is shutdown: {}", mainEventLoopGroup.isShutdown());
-                bootstrap = null;
-                threadPool.shutdown();
-            }
+    private synchronized void cleanup() {
+        if (!isConnected && bootstrap != null) {
+            // only closes the channels of this camera, the event loop group is shared
+            openChannels.close();
+            bootstrap = null;
+            eventLoopGroup = null;
+            OnvifEventLoop.release();
+            logger.debug("ONVIF connection to {} is closed", ipAddress);
         }
     }
 
     public void disconnect() {
         connecting.lock();// Lock out multiple disconnect()/connect() attempts as we try to send Unsubscribe.
         try {
-            if (bootstrap != null) {
-                if (isConnected && usingEvents && !mainEventLoopGroup.isShuttingDown()
-                        && !subscriptionXAddr.isEmpty()) {
+            EventLoopGroup localEventLoopGroup = eventLoopGroup;
+            if (localEventLoopGroup != null) {
+                if (isConnected && usingEvents && !subscriptionXAddr.isEmpty()) {
                     // Only makes sense to send if connected
                     // Some cameras may continue to send events even when they can't reach a server.
                     sendOnvifRequest(RequestType.Unsubscribe, subscriptionXAddr);
                 }
-                // give time for the Unsubscribe request to be sent, shutdownGracefully will try to send it first.
-                threadPool.schedule(this::cleanup, 50, TimeUnit.MILLISECONDS);
+                // give time for the Unsubscribe request to be sent before the channels are closed.
+                localEventLoopGroup.schedule(this::cleanup, 50, TimeUnit.MILLISECONDS);
             } else {
                 cleanup();
             }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.onvif;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+
+/**
+ * The {@link OnvifEventLoop} holds the Netty event loop group that is shared by the ONVIF connections of all cameras.
+ * ONVIF requests, including the long polling PullMessages requests, never block a thread, so a few threads serve any
+ * number of cameras. The group is created for the first connection and shut down when the last one is closed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class OnvifEventLoop {
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static @Nullable EventLoopGroup eventLoopGroup;
+    private static int users;
+
+    private OnvifEventLoop() {
+    }
+
+    static synchronized EventLoopGroup acquire() {
+        EventLoopGroup localEventLoopGroup = eventLoopGroup;
+        if (localEventLoopGroup == null) {
+            localEventLoopGroup = new NioEventLoopGroup(THREADS, new NamedThreadFactory("ipcamera-onvif", true));
+            eventLoopGroup = localEventLoopGroup;
+        }
+        users++;
+        return localEventLoopGroup;
+    }
+
+    static synchronized void release() {
+        EventLoopGroup localEventLoopGroup = eventLoopGroup;
+        if (localEventLoopGroup != null && --users <= 0) {
+            localEventLoopGroup.shutdownGracefully();
+            eventLoopGroup = null;
+            users = 0;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.onvif;
+
+import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link OnvifEventParser} reads the notification messages of ONVIF PullMessages replies and WSBaseSubscription
+ * notifications with a streaming parser, without building a DOM of the whole SOAP message. The topics of the events
+ * are mapped to the channels of the binding by a table that is built once.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OnvifEventParser {
+    private static final Set<String> TRUE = Set.of("true");
+    private static final Set<String> FALSE = Set.of("false");
+    private static final Set<String> TRUE_OR_1 = Set.of("true", "1");
+    private static final Set<String> FALSE_OR_0 = Set.of("false", "0");
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+    private static final Map<String, EventMapping> TOPICS = createTopicTable();
+
+    /**
+     * Receives the events found in a message.
+     */
+    public interface EventListener {
+        /**
+         * @param topic the topic without the tns1: prefix
+         * @param dataName the name of the first data item
+         * @param dataValue the value of the first data item
+         */
+        void onEvent(String topic, String dataName, String dataValue);
+    }
+
+    /**
+     * How an event is reflected in openHAB.
+     */
+    public enum Action {
+        // motionDetected()/noMotionDetected() of the channel
+        MOTION,
+        // audioDetected()/noAudioDetected()
+        AUDIO,
+        // changeAlarmState() of the channel
+        ALARM
+    }
+
+    /**
+     * The channel and values of a known topic.
+     */
+    public static class EventMapping {
+        public final Action action;
+        public final String channel;
+        private final Set<String> onValues;
+        private final Set<String> offValues;
+        // the state is given by the name of the data item, not by its value
+        private final @Nullable String onDataName;
+
+        private EventMapping(Action action, String channel, Set<String> onValues, Set<String> offValues,
+                @Nullable String onDataName) {
+            this.action = action;
+            this.channel = channel;
+            this.onValues = onValues;
+            this.offValues = offValues;
+            this.onDataName = onDataName;
+        }
+
+        /**
+         * @return true if the event switches the channel on, false if it switches it off, null if it is not relevant
+         */
+        public @Nullable Boolean getState(String dataName, String dataValue) {
+            String localOnDataName = onDataName;
+            if (localOnDataName != null) {
+                return localOnDataName.equals(dataName);
+            }
+            if (onValues.contains(dataValue)) {
+                return Boolean.TRUE;
+            } else if (offValues.contains(dataValue)) {
+                return Boolean.FALSE;
+            }
+            return null;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static Map<String, EventMapping> createTopicTable() {
+        Map<String, EventMapping> topics = new HashMap<>();
+        put(topics, Action.MOTION, CHANNEL_CELL_MOTION_ALARM, TRUE, FALSE, "RuleEngine/CellMotionDetector/Motion");
+        put(topics, Action.MOTION, CHANNEL_MOTION_ALARM, Set.of("Trigger"), Set.of("Normal"), "VideoAnalytics/Motion");
+        put(topics, Action.MOTION, CHANNEL_MOTION_ALARM, TRUE_OR_1, FALSE_OR_0, "RuleEngine/tnsaxis:VMD3/vmd3_video_1",
+                "RuleEngine/MotionRegionDetector/Motion", "VideoSource/MotionAlarm");
+        put(topics, Action.AUDIO, CHANNEL_AUDIO_ALARM, TRUE, FALSE, "AudioAnalytics/Audio/DetectedSound");
+        put(topics, Action.MOTION, CHANNEL_FIELD_DETECTION_ALARM, TRUE, FALSE,
+                "RuleEngine/FieldDetector/ObjectsInside");
+        topics.put("RuleEngine/LineDetector/Crossed",
+                new EventMapping(Action.MOTION, CHANNEL_LINE_CROSSING_ALARM, Set.of(), Set.of(), "ObjectId"));
+        put(topics, Action.ALARM, CHANNEL_TAMPER_ALARM, TRUE, FALSE, "RuleEngine/TamperDetector/Tamper");
+        put(topics, Action.ALARM, CHANNEL_STORAGE_ALARM, TRUE_OR_1, FALSE_OR_0,
+                "Device/tnsaxis:HardwareFailure/StorageFailure", "Device/HardwareFailure/StorageFailure");
+        put(topics, Action.ALARM, CHANNEL_TOO_DARK_ALARM, TRUE, FALSE, "VideoSource/ImageTooDark/AnalyticsService",
+                "VideoSource/ImageTooDark/ImagingService", "VideoSource/ImageTooDark/RecordingService");
+        put(topics, Action.ALARM, CHANNEL_SCENE_CHANGE_ALARM, TRUE_OR_1, FALSE_OR_0,
+                "VideoSource/GlobalSceneChange/AnalyticsService", "VideoSource/GlobalSceneChange/ImagingService",
+                "VideoSource/GlobalSceneChange/RecordingService");
+        put(topics, Action.ALARM, CHANNEL_TOO_BRIGHT_ALARM, TRUE, FALSE, "VideoSource/ImageTooBright/AnalyticsService",
+                "VideoSource/ImageTooBright/ImagingService", "VideoSource/ImageTooBright/RecordingService");
+        put(topics, Action.ALARM, CHANNEL_TOO_BLURRY_ALARM, TRUE, FALSE,
+                "VideoSource/ImageTooBlurry/AnalyticsService", "VideoSource/ImageTooBlurry/ImagingService",
+                "VideoSource/ImageTooBlurry/RecordingService");
+        put(topics, Action.ALARM, CHANNEL_DOORBELL, TRUE, FALSE, "RuleEngine/MyRuleDetector/Visitor");
+        put(topics, Action.ALARM, CHANNEL_CAR_ALARM, TRUE, FALSE, "RuleEngine/MyRuleDetector/VehicleDetect");
+        put(topics, Action.ALARM, CHANNEL_ANIMAL_ALARM, TRUE, FALSE, "RuleEngine/MyRuleDetector/DogCatDetect");
+        put(topics, Action.ALARM, CHANNEL_FACE_DETECTED, TRUE, FALSE, "RuleEngine/MyRuleDetector/FaceDetect");
+        put(topics, Action.ALARM, CHANNEL_HUMAN_ALARM, TRUE, FALSE, "RuleEngine/MyRuleDetector/PeopleDetect");
+        return Map.copyOf(topics);
+    }
+
+    private static void put(Map<String, EventMapping> topics, Action action, String channel, Set<String> onValues,
+            Set<String> offValues, String... topicNames) {
+        EventMapping mapping = new EventMapping(action, channel, onValues, offValues, null);
+        for (String topic : topicNames) {
+            topics.put(topic, mapping);
+        }
+    }
+
+    /**
+     * @param topic the topic without the tns1: prefix
+     * @return the mapping of the topic, or null if the topic is not supported
+     */
+    public static @Nullable EventMapping getMapping(String topic) {
+        return TOPICS.get(topic);
+    }
+
+    public static void parse(String xml, EventListener listener) throws XMLStreamException {
+        parse(XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml)), listener);
+    }
+
+    public static void parse(InputStream xml, EventListener listener) throws XMLStreamException {
+        parse(XML_INPUT_FACTORY.createXMLStreamReader(xml), listener);
+    }
+
+    /**
+     * Reports the topic and the first data item of every notification message. Messages without data are skipped.
+     */
+    private static void parse(XMLStreamReader reader, EventListener listener) throws XMLStreamException {
+        try {
+            String topic = "";
+            String dataName = null;
+            String dataValue = "";
+            boolean inData = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "NotificationMessage":
+                            topic = "";
+                            dataName = null;
+                            inData = false;
+                            break;
+                        case "Topic":
+                            topic = reader.getElementText().trim().replace("tns1:", "");
+                            break;
+                        case "Data":
+                            inData = true;
+                            break;
+                        case "SimpleItem":
+                            if (inData && dataName == null) {
+                                dataName = valueOf(reader.getAttributeValue(null, "Name"));
+                                dataValue = valueOf(reader.getAttributeValue(null, "Value"));
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("Data".equals(name)) {
+                        inData = false;
+                    } else if ("NotificationMessage".equals(name) && dataName != null) {
+                        listener.onEvent(topic, dataName, dataValue);
+                        dataName = null;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static String valueOf(@Nullable String attribute) {
+        return attribute == null ? "" : attribute;
+    }
+}
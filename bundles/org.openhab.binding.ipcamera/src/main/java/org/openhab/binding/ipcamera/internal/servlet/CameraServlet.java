@@ -15,10 +15,14 @@ package org.openhab.binding.ipcamera.internal.servlet;
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.HLS_STARTUP_DELAY_MS;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.HexFormat;
 import java.util.Map;
 
 import javax.servlet.AsyncContext;
@@ -46,6 +50,13 @@ public class CameraServlet extends IpCameraServlet {
     private static final long serialVersionUID = -134658667574L;
     private static final Dictionary<Object, Object> INIT_PARAMETERS = new Hashtable<>(
             Map.of("async-supported", "true"));
+    // larger than any HLS segment FFmpeg creates with the usual segment durations
+    private static final int MAX_HLS_UPLOAD_BYTES = 16 * 1024 * 1024;
+    /**
+     * FFmpeg uploads the HLS files below this path. It contains a random token that is only given to FFmpeg, so other
+     * clients can not change the files, even when a reverse proxy on this host makes all requests appear local.
+     */
+    public static final String HLS_UPLOAD_PATH = "/hls/" + createUploadToken();
 
     private final IpCameraHandler handler;
     public OpenStreams openStreams = new OpenStreams();
@@ -80,8 +91,8 @@ public class CameraServlet extends IpCameraServlet {
                 break;
             case "/OnvifEvent":
                 ServletInputStream inputStream = req.getInputStream();
-                String xmlData = new String(inputStream.readAllBytes(), "UTF-8");
-                handler.onvifCamera.eventReceived(xmlData);
+                handler.onvifCamera.eventReceived(inputStream);
+                inputStream.close();
                 break;
             default:
                 logger.debug("Received unknown request \tPOST:{}", pathInfo);
@@ -115,16 +126,19 @@ public class CameraServlet extends IpCameraServlet {
                     localFfmpeg.startConverting();
                 } else {
                     localFfmpeg.setKeepAlive(8);
-                    sendFile(resp, pathInfo, "application/x-mpegURL");
-                    return;
                 }
-                // Allow files to be created, or you get old m3u8 from the last time this ran.
+                // Starting FFmpeg cleared the store, so this waits for the first playlist of the new stream.
+                String playlist;
                 try {
-                    Thread.sleep(HLS_STARTUP_DELAY_MS);
+                    playlist = handler.hlsSegmentStore.awaitPlaylist(HLS_STARTUP_DELAY_MS);
                 } catch (InterruptedException e) {
                     return;
                 }
-                sendFile(resp, pathInfo, "application/x-mpegURL");
+                if (playlist.isEmpty()) {
+                    resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                    return;
+                }
+                sendBytes(resp, playlist.getBytes(StandardCharsets.UTF_8), "application/x-mpegURL");
                 return;
             case "/ipcamera.mpd":
                 sendFile(resp, pathInfo, "application/dash+xml");
@@ -202,30 +216,9 @@ public class CameraServlet extends IpCameraServlet {
                     output = new StreamOutput(resp, handler.mjpegContentType);
                 }
                 openStreams.addStream(output);
-                do {
-                    try {
-                        output.sendFrame();
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
-                        if (openStreams.isEmpty()) {
-                            if (output.isSnapshotBased) {
-                                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
-                                if (localMjpeg != null) {
-                                    localMjpeg.stopConverting();
-                                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
-                                    // in handler's pollCameraRunnable() check for frozen camera
-                                    handler.ffmpegMjpeg = null;
-                                }
-                            } else {
-                                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
-                            }
-                            logger.debug("All ipcamera.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (!openStreams.isEmpty());
+                final StreamOutput mjpegOutput = output;
+                mjpegOutput.startAsync(req, openStreams.getRing(), () -> mjpegStreamClosed(mjpegOutput));
+                return;
             case "/autofps.mjpeg":
                 handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
@@ -259,19 +252,133 @@ public class CameraServlet extends IpCameraServlet {
                 return;
             default:
                 if (pathInfo.endsWith(".ts")) {
-                    sendFile(resp, pathInfo, "video/MP2T");
+                    sendHlsSegment(resp, pathInfo, "video/MP2T");
+                } else if (pathInfo.endsWith(".m4s")) {
+                    sendHlsSegment(resp, pathInfo, "video/iso.segment");
                 } else if (pathInfo.endsWith(".gif")) {
                     sendFile(resp, pathInfo, "image/gif");
                 } else if (pathInfo.endsWith(".jpg")) {
                     // Allow access to the preroll and postroll jpg files
                     sendFile(resp, pathInfo, "image/jpg");
                 } else if (pathInfo.endsWith(".mp4")) {
-                    sendFile(resp, pathInfo, "video/mp4");
+                    // initialization segment of a fragmented MP4 HLS stream, or a recording
+                    sendHlsSegment(resp, pathInfo, "video/mp4");
                 }
                 return;
         }
     }
 
+    /**
+     * FFmpeg uploads the HLS playlist and segments here, they are kept in RAM.
+     */
+    @Override
+    protected void doPut(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
+        if (req == null || resp == null) {
+            return;
+        }
+        String pathInfo = req.getPathInfo();
+        if (pathInfo == null) {
+            return;
+        }
+        if (!isHlsUpload(pathInfo)) {
+            logger.debug("Refused PUT:{} from {}", pathInfo, req.getRemoteAddr());
+            resp.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        if (req.getContentLengthLong() > MAX_HLS_UPLOAD_BYTES) {
+            resp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        String name = pathInfo.substring(pathInfo.lastIndexOf("/") + 1);
+        ServletInputStream inputStream = req.getInputStream();
+        // the content length is not known for chunked uploads
+        byte[] data = inputStream.readNBytes(MAX_HLS_UPLOAD_BYTES + 1);
+        inputStream.close();
+        if (data.length > MAX_HLS_UPLOAD_BYTES) {
+            logger.debug("Refused PUT:{} larger than {} bytes", name, MAX_HLS_UPLOAD_BYTES);
+            resp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        if ("ipcamera.m3u8".equals(name)) {
+            handler.hlsSegmentStore.putPlaylist(new String(data, StandardCharsets.UTF_8));
+            handler.updateHlsMemoryUsage();
+        } else if (name.endsWith(".ts") || name.endsWith(".m4s") || name.endsWith(".mp4")) {
+            handler.hlsSegmentStore.putSegment(name, data);
+        } else {
+            logger.debug("Received unknown request \tPUT:{}", name);
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    /**
+     * FFmpeg deletes old HLS segments when the delete_segments flag is set.
+     */
+    @Override
+    protected void doDelete(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
+        if (req == null || resp == null) {
+            return;
+        }
+        String pathInfo = req.getPathInfo();
+        if (pathInfo == null) {
+            return;
+        }
+        if (!isHlsUpload(pathInfo)) {
+            logger.debug("Refused DELETE:{} from {}", pathInfo, req.getRemoteAddr());
+            resp.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        handler.hlsSegmentStore.removeSegment(pathInfo.substring(pathInfo.lastIndexOf("/") + 1));
+    }
+
+    private static String createUploadToken() {
+        byte[] token = new byte[16];
+        new SecureRandom().nextBytes(token);
+        return HexFormat.of().formatHex(token);
+    }
+
+    /**
+     * Only FFmpeg, which was given the upload path, may change the HLS store.
+     */
+    static boolean isHlsUpload(String pathInfo) {
+        String folder = pathInfo.substring(0, Math.max(0, pathInfo.lastIndexOf("/")));
+        return MessageDigest.isEqual(HLS_UPLOAD_PATH.getBytes(StandardCharsets.US_ASCII),
+                folder.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void sendHlsSegment(HttpServletResponse resp, String pathInfo, String contentType) throws IOException {
+        byte[] segment = handler.hlsSegmentStore.getSegment(pathInfo.substring(pathInfo.lastIndexOf("/") + 1));
+        if (segment != null) {
+            sendBytes(resp, segment, contentType);
+        } else {
+            sendFile(resp, pathInfo, contentType);
+        }
+    }
+
+    /**
+     * Called once a non-blocking ipcamera.mjpeg stream has been closed, normally when the browser stops the stream.
+     */
+    private void mjpegStreamClosed(StreamOutput output) {
+        openStreams.removeStream(output);
+        logger.debug("ipcamera.mjpeg stream closed after sending {} frames, {} frames dropped for a slow client",
+                output.getFramesSent(), output.getFramesDropped());
+        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+        if (openStreams.isEmpty()) {
+            if (output.isSnapshotBased) {
+                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
+                if (localMjpeg != null) {
+                    localMjpeg.stopConverting();
+                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
+                    // in handler's pollCameraRunnable() check for frozen camera
+                    handler.ffmpegMjpeg = null;
+                }
+            } else {
+                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
+            }
+            logger.debug("All ipcamera.mjpeg streams have stopped, {} frames sent and {} frames dropped in total.",
+                    openStreams.getFramesSent(), openStreams.getFramesDropped());
+        }
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
@@ -14,7 +14,6 @@ package org.openhab.binding.ipcamera.internal.servlet;
 
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
@@ -108,27 +107,22 @@ public class GroupServlet extends IpCameraServlet {
         }
     }
 
-    private String resolveIndexToPath(String uri) {
-        if (!"i".equals(uri.substring(1, 2))) {
-            return handler.getOutputFolder(Integer.parseInt(uri.substring(1, 2)));
-        }
-        return "notFound";
-    }
-
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
         String truncated = filename.substring(filename.lastIndexOf("/"));
-        truncated = resolveIndexToPath(truncated) + truncated.substring(2);
-        File file = new File(truncated);
-        if (!file.exists()) {
-            logger.warn(
-                    "HLS File {} was not found. Try adding a larger -hls_delete_threshold to each cameras HLS out options.",
-                    file.getName());
+        // The first character is the index of the camera in the group
+        byte[] segment = null;
+        if (truncated.length() > 2 && Character.isDigit(truncated.charAt(1))) {
+            segment = handler.getHlsSegment(Character.getNumericValue(truncated.charAt(1)), truncated.substring(2));
+        }
+        if (segment == null) {
+            logger.warn("HLS File {} was not found. Try adding a larger -hls_list_size to each cameras HLS out "
+                    + "options.", truncated.substring(1));
             response.sendError(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
-        super.sendFile(response, truncated, contentType);
+        sendBytes(response, segment, contentType);
     }
 
     @Override
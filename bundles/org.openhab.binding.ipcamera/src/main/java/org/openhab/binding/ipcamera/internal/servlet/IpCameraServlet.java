@@ -99,6 +99,16 @@ public abstract class IpCameraServlet extends HttpServlet {
         }
     }
 
+    protected void sendBytes(HttpServletResponse response, byte[] contents, String contentType) throws IOException {
+        response.setContentType(contentType);
+        response.setHeader("Access-Control-Allow-Origin", "*");
+        response.setHeader("Access-Control-Expose-Headers", "*");
+        response.setContentLength(contents.length);
+        response.setHeader("Pragma", "no-cache");
+        response.setHeader("Cache-Control", "max-age=0, no-cache, no-store");
+        response.getOutputStream().write(contents);
+    }
+
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         File file = new File(filename);
         if (!file.exists()) {
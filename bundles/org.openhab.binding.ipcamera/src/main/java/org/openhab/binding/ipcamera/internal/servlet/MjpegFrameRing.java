@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link MjpegFrameRing} holds the most recent buffers of a mjpeg stream, shared by all clients of a camera.
+ * Buffers are never copied or modified after they have been published, each client only keeps its own read position.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MjpegFrameRing {
+
+    /**
+     * A published buffer of the stream.
+     */
+    public static class Entry {
+        final long sequence;
+        final byte[] data;
+        // offset of the first byte of a new frame inside data, or -1 if data only continues a frame
+        final int frameStart;
+        // number of frames started up to and including this entry
+        final long frameNumber;
+
+        private Entry(long sequence, byte[] data, int frameStart, long frameNumber) {
+            this.sequence = sequence;
+            this.data = data;
+            this.frameStart = frameStart;
+            this.frameNumber = frameNumber;
+        }
+    }
+
+    private final @Nullable Entry[] entries;
+    private long nextSequence;
+    private long clearedSequence;
+    private long frameCount;
+    private long publishedBytes;
+    private @Nullable Entry latestFrame;
+
+    public MjpegFrameRing(int capacity) {
+        entries = new Entry[capacity];
+    }
+
+    /**
+     * Publish a buffer, overwriting the oldest one if the ring is full.
+     *
+     * @param data the buffer, must not be modified afterwards
+     * @param frameStart offset of the start of a new frame inside the buffer, or -1 if there is none
+     */
+    public synchronized void publish(byte[] data, int frameStart) {
+        if (frameStart >= 0) {
+            frameCount++;
+        }
+        Entry entry = new Entry(nextSequence, data, frameStart, frameCount);
+        entries[(int) (nextSequence % entries.length)] = entry;
+        nextSequence++;
+        publishedBytes += data.length;
+        if (frameStart >= 0) {
+            latestFrame = entry;
+        }
+    }
+
+    /**
+     * @return the entry with the given sequence number, or null if it has not been published yet or was overwritten
+     */
+    public synchronized @Nullable Entry get(long sequence) {
+        if (sequence < getOldestSequence() || sequence >= nextSequence) {
+            return null;
+        }
+        return entries[(int) (sequence % entries.length)];
+    }
+
+    /**
+     * @return the newest entry that starts a frame, or null if there is none in the ring
+     */
+    public synchronized @Nullable Entry getLatestFrame() {
+        Entry localLatestFrame = latestFrame;
+        return localLatestFrame == null || localLatestFrame.sequence < getOldestSequence() ? null : localLatestFrame;
+    }
+
+    /**
+     * @return the sequence number the next published entry will get
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    public synchronized long getOldestSequence() {
+        return Math.max(clearedSequence, nextSequence - entries.length);
+    }
+
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized long getPublishedBytes() {
+        return publishedBytes;
+    }
+
+    /**
+     * Drop all buffers, so that a new client does not receive a stale frame. Sequence numbers keep increasing.
+     */
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        clearedSequence = nextSequence;
+        latestFrame = null;
+    }
+}
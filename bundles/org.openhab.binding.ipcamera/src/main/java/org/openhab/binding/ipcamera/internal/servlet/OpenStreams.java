@@ -12,29 +12,47 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all streams to allow
  * 1 to many streams without needing to open more than 1 source stream.
  *
+ * Frames are published once to a shared {@link MjpegFrameRing}, each stream writes them from there.
+ *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
-    public String boundary = "thisMjpegStream";
+    // same depth as the former FIFO buffer of each stream
+    private static final int RING_CAPACITY = 50;
+
+    private List<StreamOutput> openStreams = new CopyOnWriteArrayList<>();
+    private final MjpegFrameRing ring = new MjpegFrameRing(RING_CAPACITY);
+    public String boundary = StreamOutput.SNAPSHOT_BOUNDARY;
+    private byte[] boundaryBytes = boundary.getBytes(StandardCharsets.US_ASCII);
+    private boolean snapshotBased;
+    private long framesSent;
+    private long framesDropped;
 
     public synchronized void addStream(StreamOutput stream) {
+        snapshotBased = stream.isSnapshotBased;
         openStreams.add(stream);
     }
 
     public synchronized void removeStream(StreamOutput stream) {
-        openStreams.remove(stream);
+        if (openStreams.remove(stream)) {
+            framesSent += stream.getFramesSent();
+            framesDropped += stream.getFramesDropped();
+        }
+        if (openStreams.isEmpty()) {
+            // a new client must not receive stale frames
+            ring.clear();
+        }
     }
 
     public synchronized int getNumberOfStreams() {
@@ -45,20 +63,87 @@ public class OpenStreams {
         return openStreams.isEmpty();
     }
 
-    public synchronized void updateContentType(String contentType, String boundary) {
-        this.boundary = boundary;
+    /**
+     * @return the ring the frames of these streams are published to
+     */
+    public MjpegFrameRing getRing() {
+        return ring;
+    }
+
+    public void updateContentType(String contentType, String boundary) {
+        synchronized (this) {
+            this.boundary = boundary;
+            boundaryBytes = boundary.getBytes(StandardCharsets.US_ASCII);
+        }
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    /**
+     * Publish data to all open streams. For snapshot based streams the data is a jpeg, which is framed once for all
+     * streams. Otherwise the data is passed on unchanged as a part of the camera's multipart stream.
+     *
+     * @param frame a jpeg or a chunk of the camera's stream
+     */
+    public void queueFrame(byte[] frame) {
+        boolean localSnapshotBased;
+        byte[] localBoundary;
+        synchronized (this) {
+            localSnapshotBased = snapshotBased;
+            localBoundary = boundaryBytes;
+        }
+        if (localSnapshotBased) {
+            ring.publish(StreamOutput.frameJpeg(StreamOutput.SNAPSHOT_BOUNDARY, frame), 0);
+        } else {
+            ring.publish(frame, findFrameStart(frame, localBoundary));
+        }
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            stream.frameAvailable();
         }
     }
 
-    public synchronized void closeAllStreams() {
+    /**
+     * Find the start of a new part in a chunk of a multipart stream.
+     *
+     * @return offset of the part's boundary line, or -1 if the chunk does not contain a boundary
+     */
+    static int findFrameStart(byte[] chunk, byte[] boundary) {
+        if (boundary.length == 0) {
+            // without a known boundary every chunk is treated as a frame
+            return 0;
+        }
+        outer: for (int i = 0; i <= chunk.length - boundary.length; i++) {
+            for (int j = 0; j < boundary.length; j++) {
+                if (chunk[i + j] != boundary[j]) {
+                    continue outer;
+                }
+            }
+            // include the leading dashes of the boundary line
+            int start = i;
+            while (start > 0 && start > i - 2 && chunk[start - 1] == '-') {
+                start--;
+            }
+            return start;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the number of frames sent to streams that have been closed
+     */
+    public synchronized long getFramesSent() {
+        return framesSent;
+    }
+
+    /**
+     * @return the number of frames skipped for slow clients, by streams that have been closed
+     */
+    public synchronized long getFramesDropped() {
+        return framesDropped;
+    }
+
+    public void closeAllStreams() {
         for (StreamOutput stream : openStreams) {
             stream.close();
         }
@@ -13,34 +13,64 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ipcamera.internal.servlet.MjpegFrameRing.Entry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link StreamOutput} Streams mjpeg out to a client
+ * The {@link StreamOutput} Streams mjpeg out to a client.
+ *
+ * Streams registered with {@link OpenStreams} are written with non-blocking servlet I/O from the shared
+ * {@link MjpegFrameRing} of the camera. A client that can not keep up skips to the newest frame once it has finished
+ * the frame it is writing. The entries of that frame are kept by the stream, so they can still be written after the
+ * ring has overwritten them, unless the frame is longer than the whole ring.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
-public class StreamOutput {
+public class StreamOutput implements WriteListener {
+    static final String SNAPSHOT_BOUNDARY = "thisMjpegStream";
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
     private boolean connected = false;
     public boolean isSnapshotBased = false;
 
+    // non-blocking streaming, guarded by this
+    private @Nullable MjpegFrameRing ring;
+    private @Nullable AsyncContext asyncContext;
+    private @Nullable Runnable closeListener;
+    private long nextSequence;
+    private int nextOffset;
+    // entries from nextSequence up to the start of the frame after the one being written
+    private final ArrayDeque<Entry> frameRest = new ArrayDeque<>();
+    private boolean synced;
+    private boolean waiting;
+    private boolean initialFrameRepeated;
+    private boolean closed;
+    private long lastFrameNumber;
+    private long framesSent;
+    private long framesDropped;
+
     public StreamOutput(HttpServletResponse response) throws IOException {
-        boundary = "thisMjpegStream";
+        boundary = SNAPSHOT_BOUNDARY;
         contentType = "multipart/x-mixed-replace; boundary=" + boundary;
         this.response = response;
         output = response.getOutputStream();
@@ -58,45 +88,255 @@ public class StreamOutput {
         }
     }
 
+    /**
+     * Wrap a jpeg into a part of a multipart stream
+     *
+     * @param boundary the boundary of the multipart stream
+     * @param jpeg the jpeg
+     * @return the part, including the leading boundary and trailing line break
+     */
+    static byte[] frameJpeg(String boundary, byte[] jpeg) {
+        byte[] header = ("--" + boundary + "\r\nContent-Type: image/jpeg\r\nContent-Length: " + jpeg.length
+                + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] frame = new byte[header.length + jpeg.length + CRLF.length];
+        System.arraycopy(header, 0, frame, 0, header.length);
+        System.arraycopy(jpeg, 0, frame, header.length, jpeg.length);
+        System.arraycopy(CRLF, 0, frame, header.length + jpeg.length, CRLF.length);
+        return frame;
+    }
+
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        byte[] frame = frameJpeg(boundary, currentSnapshot);
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
-            output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            output.write(frame);
             connected = true;
         }
-        output.write(header.getBytes());
-        output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        output.write(frame);
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+    /**
+     * Start non-blocking streaming of the frames published to the ring. Frames are written whenever the client is
+     * ready to receive data, the calling thread returns immediately.
+     *
+     * @param request the request of the client
+     * @param ring the ring holding the frames of the camera
+     * @param closeListener called once, when the stream has been closed
+     */
+    public void startAsync(HttpServletRequest request, MjpegFrameRing ring, Runnable closeListener) {
+        AsyncContext localAsyncContext = request.startAsync();
+        localAsyncContext.setTimeout(0);
+        localAsyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(@Nullable AsyncEvent event) {
+                streamClosed();
+            }
+
+            @Override
+            public void onTimeout(@Nullable AsyncEvent event) {
+                streamClosed();
+            }
+
+            @Override
+            public void onError(@Nullable AsyncEvent event) {
+                streamClosed();
+            }
+
+            @Override
+            public void onStartAsync(@Nullable AsyncEvent event) {
+            }
+        });
+        synchronized (this) {
+            this.ring = ring;
+            this.closeListener = closeListener;
+            this.asyncContext = localAsyncContext;
+            // start with the newest frame that is still in the ring
+            nextSequence = ring.getOldestSequence();
+            if (isSnapshotBased && !connected) {
+                sendInitialHeaders();
+                connected = true;
+            }
+        }
+        output.setWriteListener(this);
+    }
+
+    @Override
+    public void onWritePossible() {
+        writeFrames();
+    }
+
+    @Override
+    public void onError(@Nullable Throwable t) {
+        logger.debug("Mjpeg stream failed: {}", t == null ? "" : t.getMessage());
+        streamClosed();
+    }
+
+    /**
+     * Called when a new buffer was published to the ring, resumes writing if the client was waiting for it.
+     */
+    public void frameAvailable() {
+        boolean write;
+        synchronized (this) {
+            MjpegFrameRing localRing = ring;
+            if (localRing != null && !closed) {
+                // called right after each publish, before the ring can overwrite the new entry
+                retainFrameRest(localRing);
+            }
+            write = waiting;
+        }
+        if (write) {
+            writeFrames();
         }
     }
 
     public void updateContentType(String contentType) {
-        this.contentType = contentType;
-        if (!connected) {
+        synchronized (this) {
+            this.contentType = contentType;
+            if (connected) {
+                return;
+            }
             sendInitialHeaders();
             connected = true;
         }
+        frameAvailable();
+    }
+
+    public synchronized long getFramesSent() {
+        return framesSent;
+    }
+
+    public synchronized long getFramesDropped() {
+        return framesDropped;
+    }
+
+    private void writeFrames() {
+        boolean failed;
+        synchronized (this) {
+            failed = !writeAvailableFrames();
+        }
+        if (failed) {
+            // outside of the lock, the close listener updates the open streams
+            streamClosed();
+        }
+    }
+
+    /**
+     * Write as many buffers as the client accepts without blocking.
+     *
+     * @return false if the stream failed
+     */
+    private boolean writeAvailableFrames() {
+        MjpegFrameRing localRing = ring;
+        if (closed || localRing == null) {
+            return true;
+        }
+        if (!connected) {
+            // content type of the camera's stream is not known yet
+            waiting = true;
+            return true;
+        }
+        try {
+            while (output.isReady()) {
+                Entry entry = nextEntry(localRing);
+                if (entry == null) {
+                    waiting = true;
+                    return true;
+                }
+                Entry latest = localRing.getLatestFrame();
+                if (latest != null && latest.sequence > entry.sequence && entry.frameStart >= nextOffset) {
+                    // latest frame wins: finish the current frame and skip to the newest one
+                    int offset = nextOffset;
+                    jumpTo(localRing, latest);
+                    if (entry.frameStart > offset) {
+                        output.write(entry.data, offset, entry.frameStart - offset);
+                    }
+                    continue;
+                }
+                if (entry.frameStart >= nextOffset) {
+                    framesSent++;
+                    lastFrameNumber = entry.frameNumber;
+                }
+                output.write(entry.data, nextOffset, entry.data.length - nextOffset);
+                if (isSnapshotBased && !initialFrameRepeated) {
+                    // iOS needs to have two jpgs sent for the picture to appear instantly.
+                    initialFrameRepeated = true;
+                } else {
+                    if (entry == frameRest.peekFirst()) {
+                        frameRest.removeFirst();
+                    }
+                    nextSequence++;
+                    nextOffset = 0;
+                    retainFrameRest(localRing);
+                }
+            }
+            waiting = false;
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Mjpeg stream could not be written: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return the entry to write next, or null if the client has to wait for new data
+     */
+    private @Nullable Entry nextEntry(MjpegFrameRing localRing) {
+        Entry kept = frameRest.peekFirst();
+        if (synced && kept != null) {
+            // may have been overwritten in the ring already, the started frame is finished anyway
+            return kept;
+        }
+        if (!synced || nextSequence < localRing.getOldestSequence()) {
+            // new client, or the client fell behind in a frame longer than the ring, start with the newest frame
+            Entry latest = localRing.getLatestFrame();
+            if (latest == null || latest.sequence < nextSequence) {
+                synced = false;
+                frameRest.clear();
+                nextSequence = Math.max(nextSequence, localRing.getNextSequence());
+                return null;
+            }
+            jumpTo(localRing, latest);
+        }
+        return localRing.get(nextSequence);
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+    private void jumpTo(MjpegFrameRing localRing, Entry frame) {
+        if (synced && framesSent > 0) {
+            framesDropped += Math.max(0, frame.frameNumber - lastFrameNumber - 1);
+        }
+        synced = true;
+        nextSequence = frame.sequence;
+        nextOffset = frame.frameStart;
+        frameRest.clear();
+        retainFrameRest(localRing);
+    }
+
+    /**
+     * Keep the published entries the client still needs to finish its frame, up to and including the entry where
+     * the following frame starts. Entries are shared and never modified, only the references are kept.
+     */
+    private void retainFrameRest(MjpegFrameRing localRing) {
+        if (!synced) {
+            return;
+        }
+        Entry last = frameRest.peekLast();
+        if (last != null && last.sequence > nextSequence && last.frameStart >= 0) {
+            // the end of the frame is kept already
+            return;
+        }
+        long sequence = last == null ? nextSequence : last.sequence + 1;
+        while (sequence < localRing.getNextSequence() && frameRest.size() < localRing.getCapacity()) {
+            Entry entry = localRing.get(sequence);
+            if (entry == null) {
+                // overwritten before it could be kept
+                return;
+            }
+            frameRest.add(entry);
+            if (entry.sequence > nextSequence && entry.frameStart >= 0) {
+                return;
+            }
+            sequence++;
         }
     }
 
@@ -106,7 +346,39 @@ public class StreamOutput {
         response.setHeader("Access-Control-Expose-Headers", "*");
     }
 
+    private void streamClosed() {
+        Runnable listener;
+        AsyncContext localAsyncContext;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            frameRest.clear();
+            listener = closeListener;
+            localAsyncContext = asyncContext;
+        }
+        if (listener != null) {
+            listener.run();
+        }
+        if (localAsyncContext != null) {
+            try {
+                localAsyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed
+            }
+        }
+    }
+
     public void close() {
+        boolean async;
+        synchronized (this) {
+            async = asyncContext != null;
+        }
+        if (async) {
+            streamClosed();
+            return;
+        }
         try {
             output.close();
         } catch (IOException e) {
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link HlsSegmentStore}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HlsSegmentStoreTest {
+    private static final String INIT_SEGMENT = "init.mp4";
+
+    private final HlsSegmentStore store = new HlsSegmentStore();
+
+    @Test
+    public void testReferencedSegments() {
+        String playlist = """
+                #EXTM3U
+                #EXT-X-VERSION:7
+                #EXT-X-TARGETDURATION:2
+                #EXT-X-MEDIA-SEQUENCE:3
+                #EXT-X-MAP:URI="init.mp4"
+                #EXTINF:2.000000,
+                ipcamera3.m4s
+                #EXTINF:2.000000,
+                /ipcamera/camera/ipcamera4.m4s
+                """;
+
+        assertEquals(Set.of(INIT_SEGMENT, "ipcamera3.m4s", "ipcamera4.m4s"),
+                HlsSegmentStore.referencedSegments(playlist));
+    }
+
+    @Test
+    public void testUnreferencedSegmentsAreRetained() {
+        for (int i = 0; i < 5; i++) {
+            store.putSegment(segment(i), new byte[10]);
+        }
+        store.putPlaylist(playlist(3, 4));
+
+        // the two newest segments that left the playlist are kept for clients with an older playlist
+        assertNull(store.getSegment(segment(0)));
+        assertNotNull(store.getSegment(segment(1)));
+        assertNotNull(store.getSegment(segment(2)));
+        assertNotNull(store.getSegment(segment(3)));
+        assertNotNull(store.getSegment(segment(4)));
+        assertEquals(4, store.getSegmentCount());
+        assertEquals(40, store.getMemoryUsage());
+
+        store.putSegment(segment(5), new byte[10]);
+        store.putPlaylist(playlist(4, 5));
+
+        assertNull(store.getSegment(segment(1)));
+        assertNotNull(store.getSegment(segment(2)));
+        assertNotNull(store.getSegment(segment(3)));
+        assertEquals(4, store.getSegmentCount());
+    }
+
+    @Test
+    public void testReferencedSegmentsAreNotEvicted() {
+        // the initialization segment is the oldest, but referenced by every playlist
+        store.putSegment(INIT_SEGMENT, new byte[10]);
+        for (int i = 0; i < 10; i++) {
+            store.putSegment(segment(i), new byte[10]);
+            store.putPlaylist("#EXTM3U\n#EXT-X-MAP:URI=\"" + INIT_SEGMENT + "\"\n" + playlist(Math.max(i - 1, 0), i));
+        }
+
+        assertNotNull(store.getSegment(INIT_SEGMENT));
+        assertNotNull(store.getSegment(segment(8)));
+        assertNotNull(store.getSegment(segment(9)));
+        assertNotNull(store.getSegment(segment(7)));
+        assertNotNull(store.getSegment(segment(6)));
+        assertNull(store.getSegment(segment(5)));
+        assertEquals(5, store.getSegmentCount());
+    }
+
+    @Test
+    public void testSizeLimitDropsOldestSegments() {
+        byte[] data = new byte[20 * 1024 * 1024];
+        for (int i = 0; i < 5; i++) {
+            store.putSegment(segment(i), data);
+        }
+
+        assertNull(store.getSegment(segment(0)));
+        assertNull(store.getSegment(segment(1)));
+        assertNotNull(store.getSegment(segment(2)));
+        assertNotNull(store.getSegment(segment(4)));
+        assertEquals(3L * data.length, store.getMemoryUsage());
+    }
+
+    @Test
+    public void testReplaceAndRemoveSegment() {
+        store.putSegment(segment(0), new byte[10]);
+        store.putSegment(segment(0), new byte[20]);
+        assertEquals(1, store.getSegmentCount());
+        assertEquals(20, store.getMemoryUsage());
+
+        store.removeSegment(segment(0));
+        store.removeSegment(segment(1));
+        assertEquals(0, store.getSegmentCount());
+        assertEquals(0, store.getMemoryUsage());
+    }
+
+    @Test
+    public void testAwaitPlaylist() throws InterruptedException {
+        assertEquals("", store.awaitPlaylist(10));
+
+        Thread uploader = new Thread(() -> store.putPlaylist(playlist(0, 0)));
+        uploader.start();
+        assertEquals(playlist(0, 0), store.awaitPlaylist(5000));
+        uploader.join();
+
+        store.clear();
+        assertEquals("", store.getPlaylist());
+        assertEquals(0, store.getSegmentCount());
+    }
+
+    private static String segment(int index) {
+        return "ipcamera" + index + ".ts";
+    }
+
+    private static String playlist(int first, int last) {
+        StringBuilder playlist = new StringBuilder("#EXTM3U\n#EXT-X-TARGETDURATION:2\n");
+        for (int i = first; i <= last; i++) {
+            playlist.append("#EXTINF:2.000000,\n").append(segment(i)).append('\n');
+        }
+        return playlist.toString();
+    }
+}
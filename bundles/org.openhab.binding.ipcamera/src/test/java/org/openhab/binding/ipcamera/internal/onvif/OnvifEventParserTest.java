@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.onvif;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.ipcamera.internal.onvif.OnvifEventParser.Action;
+import org.openhab.binding.ipcamera.internal.onvif.OnvifEventParser.EventMapping;
+
+/**
+ * Tests for the {@link OnvifEventParser} with messages as they are sent by cameras.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OnvifEventParserTest {
+
+    @Test
+    public void testPullMessagesResponse() throws IOException, XMLStreamException {
+        List<String> events = parse("hikvision-pullmessages.xml");
+
+        // the items of the source are not taken as data
+        assertEquals(List.of("RuleEngine/CellMotionDetector/Motion|IsMotion|true",
+                "RuleEngine/LineDetector/Crossed|ObjectId|0", "Monitoring/ProcessorUsage|Value|0.12",
+                "RuleEngine/CellMotionDetector/Motion|IsMotion|false"), events);
+    }
+
+    @Test
+    public void testPullMessagesResponseWithOtherPrefixes() throws IOException, XMLStreamException {
+        List<String> events = parse("dahua-pullmessages.xml");
+
+        // the topic is trimmed, the message without data is skipped
+        assertEquals(List.of("VideoSource/MotionAlarm|State|true", "RuleEngine/TamperDetector/Tamper|IsTamper|false"),
+                events);
+    }
+
+    @Test
+    public void testNotifyWithDefaultNamespaces() throws IOException, XMLStreamException {
+        List<String> events = parse("axis-notify.xml");
+
+        assertEquals(List.of("RuleEngine/tnsaxis:VMD3/vmd3_video_1|active|1",
+                "Device/tnsaxis:HardwareFailure/StorageFailure|disruption|0",
+                "tnsaxis:CameraApplicationPlatform/ObjectAnalytics/Device1Scenario1|active|1"), events);
+    }
+
+    @Test
+    public void testParseString() throws XMLStreamException {
+        List<String> events = new ArrayList<>();
+        OnvifEventParser.parse("""
+                <s:Envelope xmlns:s="http://www.w3.org/2003/05/soap-envelope"><s:Body>
+                <wsnt:Notify xmlns:wsnt="http://docs.oasis-open.org/wsn/b-2"
+                 xmlns:tt="http://www.onvif.org/ver10/schema">
+                <wsnt:NotificationMessage><wsnt:Topic>tns1:RuleEngine/MyRuleDetector/PeopleDetect</wsnt:Topic>
+                <wsnt:Message><tt:Message><tt:Data><tt:SimpleItem Name="State" Value="true"/>
+                <tt:SimpleItem Name="Second" Value="ignored"/></tt:Data></tt:Message></wsnt:Message>
+                </wsnt:NotificationMessage></wsnt:Notify></s:Body></s:Envelope>
+                """, (topic, dataName, dataValue) -> events.add(topic + "|" + dataName + "|" + dataValue));
+
+        assertEquals(List.of("RuleEngine/MyRuleDetector/PeopleDetect|State|true"), events);
+    }
+
+    @Test
+    public void testMotionMappings() {
+        EventMapping cellMotion = mapping("RuleEngine/CellMotionDetector/Motion");
+        assertEquals(Action.MOTION, cellMotion.action);
+        assertEquals(CHANNEL_CELL_MOTION_ALARM, cellMotion.channel);
+        assertEquals(Boolean.TRUE, cellMotion.getState("IsMotion", "true"));
+        assertEquals(Boolean.FALSE, cellMotion.getState("IsMotion", "false"));
+        assertNull(cellMotion.getState("IsMotion", "1"));
+
+        EventMapping motionAlarm = mapping("VideoSource/MotionAlarm");
+        assertEquals(CHANNEL_MOTION_ALARM, motionAlarm.channel);
+        assertEquals(Boolean.TRUE, motionAlarm.getState("State", "true"));
+        assertEquals(Boolean.TRUE, motionAlarm.getState("State", "1"));
+        assertEquals(Boolean.FALSE, motionAlarm.getState("State", "0"));
+
+        EventMapping axisMotion = mapping("RuleEngine/tnsaxis:VMD3/vmd3_video_1");
+        assertEquals(CHANNEL_MOTION_ALARM, axisMotion.channel);
+        assertEquals(Boolean.TRUE, axisMotion.getState("active", "1"));
+
+        EventMapping videoAnalytics = mapping("VideoAnalytics/Motion");
+        assertEquals(Boolean.TRUE, videoAnalytics.getState("State", "Trigger"));
+        assertEquals(Boolean.FALSE, videoAnalytics.getState("State", "Normal"));
+        assertNull(videoAnalytics.getState("State", "true"));
+    }
+
+    @Test
+    public void testLineCrossingIsGivenByDataName() {
+        EventMapping lineCrossing = mapping("RuleEngine/LineDetector/Crossed");
+
+        assertEquals(CHANNEL_LINE_CROSSING_ALARM, lineCrossing.channel);
+        assertEquals(Boolean.TRUE, lineCrossing.getState("ObjectId", "0"));
+        assertEquals(Boolean.FALSE, lineCrossing.getState("State", "true"));
+    }
+
+    @Test
+    public void testAlarmMappings() {
+        EventMapping tamper = mapping("RuleEngine/TamperDetector/Tamper");
+        assertEquals(Action.ALARM, tamper.action);
+        assertEquals(CHANNEL_TAMPER_ALARM, tamper.channel);
+        assertEquals(Boolean.FALSE, tamper.getState("IsTamper", "false"));
+
+        EventMapping storage = mapping("Device/tnsaxis:HardwareFailure/StorageFailure");
+        assertEquals(CHANNEL_STORAGE_ALARM, storage.channel);
+        assertEquals(Boolean.FALSE, storage.getState("disruption", "0"));
+        assertEquals(mapping("Device/HardwareFailure/StorageFailure"), storage);
+
+        assertEquals(Action.AUDIO, mapping("AudioAnalytics/Audio/DetectedSound").action);
+    }
+
+    @Test
+    public void testUnknownTopics() {
+        assertNull(OnvifEventParser.getMapping("Monitoring/ProcessorUsage"));
+        assertNull(OnvifEventParser.getMapping("tnsaxis:CameraApplicationPlatform/ObjectAnalytics/Device1Scenario1"));
+        // topics are looked up without the prefix
+        assertNull(OnvifEventParser.getMapping("tns1:RuleEngine/CellMotionDetector/Motion"));
+    }
+
+    @Test
+    public void testInvalidMessage() {
+        assertThrows(XMLStreamException.class, () -> OnvifEventParser.parse("<Envelope><Body>", (a, b, c) -> {
+        }));
+    }
+
+    private static EventMapping mapping(String topic) {
+        return Objects.requireNonNull(OnvifEventParser.getMapping(topic));
+    }
+
+    private List<String> parse(String file) throws IOException, XMLStreamException {
+        List<String> events = new ArrayList<>();
+        try (InputStream stream = getClass().getResourceAsStream("/onvif/" + file)) {
+            OnvifEventParser.parse(Objects.requireNonNull(stream),
+                    (topic, dataName, dataValue) -> events.add(topic + "|" + dataName + "|" + dataValue));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that only FFmpeg, which knows the upload path, can change the HLS files of the {@link CameraServlet}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CameraServletTest {
+
+    @Test
+    public void testUploadPathIsAccepted() {
+        assertTrue(CameraServlet.isHlsUpload(CameraServlet.HLS_UPLOAD_PATH + "/ipcamera.m3u8"));
+        assertTrue(CameraServlet.isHlsUpload(CameraServlet.HLS_UPLOAD_PATH + "/ipcamera12.ts"));
+    }
+
+    @Test
+    public void testOtherPathsAreRefused() {
+        assertFalse(CameraServlet.isHlsUpload("/ipcamera.m3u8"));
+        assertFalse(CameraServlet.isHlsUpload("/hls/ipcamera0.ts"));
+        assertFalse(CameraServlet.isHlsUpload("/hls/0123456789abcdef0123456789abcdef/ipcamera0.ts"));
+        assertFalse(CameraServlet.isHlsUpload(CameraServlet.HLS_UPLOAD_PATH + "/sub/ipcamera0.ts"));
+        assertFalse(CameraServlet.isHlsUpload(""));
+    }
+
+    @Test
+    public void testUploadPathIsRandom() {
+        assertTrue(CameraServlet.HLS_UPLOAD_PATH.matches("/hls/[0-9a-f]{32}"));
+    }
+}
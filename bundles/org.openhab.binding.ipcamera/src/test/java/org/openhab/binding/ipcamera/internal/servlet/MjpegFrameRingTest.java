@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.ipcamera.internal.servlet.MjpegFrameRing.Entry;
+
+/**
+ * Tests for the {@link MjpegFrameRing}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MjpegFrameRingTest {
+
+    @Test
+    public void testOldestEntriesAreOverwritten() {
+        MjpegFrameRing ring = new MjpegFrameRing(3);
+        for (int i = 0; i < 5; i++) {
+            ring.publish(new byte[] { (byte) i }, 0);
+        }
+
+        assertEquals(2, ring.getOldestSequence());
+        assertEquals(5, ring.getNextSequence());
+        assertNull(ring.get(0));
+        assertNull(ring.get(1));
+        for (int i = 2; i < 5; i++) {
+            Entry entry = ring.get(i);
+            assertNotNull(entry);
+            assertEquals(i, entry.sequence);
+            assertEquals(i, entry.data[0]);
+        }
+        assertNull(ring.get(5));
+        assertEquals(5, ring.getFrameCount());
+        assertEquals(5, ring.getPublishedBytes());
+    }
+
+    @Test
+    public void testLatestFrame() {
+        MjpegFrameRing ring = new MjpegFrameRing(3);
+        assertNull(ring.getLatestFrame());
+
+        ring.publish(new byte[4], 2);
+        ring.publish(new byte[4], -1);
+        Entry latest = ring.getLatestFrame();
+        assertNotNull(latest);
+        assertEquals(0, latest.sequence);
+        assertEquals(2, latest.frameStart);
+        assertEquals(1, latest.frameNumber);
+
+        // the entry that starts the frame is overwritten by parts of the same frame
+        ring.publish(new byte[4], -1);
+        ring.publish(new byte[4], -1);
+        assertNull(ring.getLatestFrame());
+        assertEquals(1, ring.getFrameCount());
+    }
+
+    @Test
+    public void testClear() {
+        MjpegFrameRing ring = new MjpegFrameRing(3);
+        ring.publish(new byte[1], 0);
+        ring.publish(new byte[1], 0);
+
+        ring.clear();
+
+        assertNull(ring.get(1));
+        assertNull(ring.getLatestFrame());
+        assertEquals(2, ring.getOldestSequence());
+
+        ring.publish(new byte[1], 0);
+        Entry entry = ring.get(2);
+        assertNotNull(entry);
+        assertEquals(entry, ring.getLatestFrame());
+        assertEquals(3, entry.frameNumber);
+    }
+}
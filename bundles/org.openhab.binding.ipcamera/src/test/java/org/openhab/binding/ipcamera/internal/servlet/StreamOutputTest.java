@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the non-blocking streaming of the {@link StreamOutput} from the shared {@link MjpegFrameRing}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StreamOutputTest {
+    private static final String BOUNDARY = "frame";
+    private static final String CONTENT_TYPE = "multipart/x-mixed-replace; boundary=" + BOUNDARY;
+
+    private final OpenStreams openStreams = new OpenStreams();
+
+    @BeforeEach
+    public void setUp() {
+        openStreams.updateContentType(CONTENT_TYPE, BOUNDARY);
+    }
+
+    @Test
+    public void testFramesAreWrittenWhenPublished() throws IOException {
+        TestOutputStream output = new TestOutputStream();
+        StreamOutput stream = openStream(output);
+
+        openStreams.queueFrame(frame("A"));
+        openStreams.queueFrame(frame("B"));
+
+        assertEquals(part("A") + part("B"), output.getWritten());
+        assertEquals(2, stream.getFramesSent());
+        assertEquals(0, stream.getFramesDropped());
+    }
+
+    @Test
+    public void testNewClientStartsWithLatestFrame() throws IOException {
+        openStreams.queueFrame(frame("A"));
+        openStreams.queueFrame(frame("B"));
+        openStreams.queueFrame(frame("C"));
+
+        TestOutputStream output = new TestOutputStream();
+        openStream(output);
+
+        assertEquals(part("C"), output.getWritten());
+    }
+
+    @Test
+    public void testSlowClientSkipsToLatestFrame() throws IOException {
+        TestOutputStream output = new TestOutputStream();
+        StreamOutput stream = openStream(output);
+        openStreams.queueFrame(frame("A"));
+
+        output.ready = false;
+        openStreams.queueFrame(frame("B"));
+        openStreams.queueFrame(frame("C"));
+        openStreams.queueFrame(frame("D"));
+        assertEquals(part("A"), output.getWritten());
+
+        output.ready = true;
+        stream.onWritePossible();
+
+        assertEquals(part("A") + part("D"), output.getWritten());
+        assertEquals(2, stream.getFramesSent());
+        assertEquals(2, stream.getFramesDropped());
+    }
+
+    @Test
+    public void testOverwrittenClientSkipsToLatestFrame() throws IOException {
+        TestOutputStream output = new TestOutputStream();
+        StreamOutput stream = openStream(output);
+        openStreams.queueFrame(frame("A"));
+
+        output.ready = false;
+        for (int i = 0; i < 100; i++) {
+            openStreams.queueFrame(frame("F" + i));
+        }
+        assertTrue(openStreams.getRing().getOldestSequence() > 1);
+
+        output.ready = true;
+        stream.onWritePossible();
+
+        assertEquals(part("A") + part("F99"), output.getWritten());
+        assertEquals(2, stream.getFramesSent());
+        assertEquals(99, stream.getFramesDropped());
+    }
+
+    @Test
+    public void testCurrentFrameIsFinishedBeforeSkipping() throws IOException {
+        TestOutputStream output = new TestOutputStream();
+        StreamOutput stream = openStream(output);
+        // frames arrive in chunks that do not align with the parts of the stream
+        openStreams.queueFrame(bytes("--frame\r\nA1"));
+
+        output.ready = false;
+        openStreams.queueFrame(bytes("A2\r\n--frame\r\nB1"));
+        openStreams.queueFrame(bytes("B2\r\n"));
+        openStreams.queueFrame(bytes("--frame\r\nC1"));
+
+        output.ready = true;
+        stream.onWritePossible();
+
+        assertEquals("--frame\r\nA1A2\r\n--frame\r\nC1", output.getWritten());
+        assertEquals(1, stream.getFramesDropped());
+    }
+
+    @Test
+    public void testOverwrittenClientFinishesStartedFrame() throws IOException {
+        TestOutputStream output = new TestOutputStream();
+        StreamOutput stream = openStream(output);
+        openStreams.queueFrame(bytes("--frame\r\nA1"));
+
+        output.ready = false;
+        openStreams.queueFrame(bytes("A2"));
+        openStreams.queueFrame(bytes("A3\r\n"));
+        for (int i = 0; i < 60; i++) {
+            openStreams.queueFrame(bytes("--frame\r\nF" + i));
+            openStreams.queueFrame(bytes("F" + i + "\r\n"));
+        }
+        // the rest of the frame the client has started is no longer in the ring
+        assertTrue(openStreams.getRing().getOldestSequence() > 2);
+
+        output.ready = true;
+        stream.onWritePossible();
+
+        assertEquals("--frame\r\nA1A2A3\r\n" + part("F59F59"), output.getWritten());
+        assertEquals(2, stream.getFramesSent());
+        assertEquals(59, stream.getFramesDropped());
+    }
+
+    @Test
+    public void testMultipleClientsShareTheRing() throws IOException {
+        TestOutputStream fastOutput = new TestOutputStream();
+        TestOutputStream slowOutput = new TestOutputStream();
+        StreamOutput fastStream = openStream(fastOutput);
+        StreamOutput slowStream = openStream(slowOutput);
+        openStreams.queueFrame(frame("A"));
+
+        slowOutput.ready = false;
+        openStreams.queueFrame(frame("B"));
+        openStreams.queueFrame(frame("C"));
+        slowOutput.ready = true;
+        slowStream.onWritePossible();
+        openStreams.queueFrame(frame("D"));
+
+        assertEquals(part("A") + part("B") + part("C") + part("D"), fastOutput.getWritten());
+        assertEquals(part("A") + part("C") + part("D"), slowOutput.getWritten());
+        assertEquals(0, fastStream.getFramesDropped());
+        assertEquals(1, slowStream.getFramesDropped());
+
+        fastStream.close();
+        assertEquals(1, openStreams.getNumberOfStreams());
+        assertNotNull(openStreams.getRing().getLatestFrame());
+
+        slowStream.close();
+        assertTrue(openStreams.isEmpty());
+        // a new client must not receive stale frames
+        assertNull(openStreams.getRing().getLatestFrame());
+        assertEquals(7, openStreams.getFramesSent());
+        assertEquals(1, openStreams.getFramesDropped());
+    }
+
+    @Test
+    public void testFailedWriteClosesStream() throws IOException {
+        TestOutputStream output = new TestOutputStream();
+        openStream(output);
+        output.failing = true;
+
+        openStreams.queueFrame(frame("A"));
+
+        assertTrue(openStreams.isEmpty());
+    }
+
+    private StreamOutput openStream(TestOutputStream output) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(output);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.startAsync()).thenReturn(mock(AsyncContext.class));
+
+        StreamOutput stream = new StreamOutput(response, CONTENT_TYPE);
+        openStreams.addStream(stream);
+        stream.startAsync(request, openStreams.getRing(), () -> openStreams.removeStream(stream));
+        // the servlet container calls the write listener once it is registered
+        stream.onWritePossible();
+        return stream;
+    }
+
+    private static String part(String content) {
+        return "--" + BOUNDARY + "\r\n" + content + "\r\n";
+    }
+
+    private static byte[] frame(String content) {
+        return bytes(part(content));
+    }
+
+    private static byte[] bytes(String data) {
+        return data.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Output stream of a client, which can stop accepting data like a client with a slow connection.
+     */
+    private static class TestOutputStream extends ServletOutputStream {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private boolean ready = true;
+        private boolean failing;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(@Nullable WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (failing) {
+                throw new IOException("Connection reset");
+            }
+            written.write(b, off, len);
+        }
+
+        String getWritten() {
+            return written.toString(StandardCharsets.US_ASCII);
+        }
+    }
+}
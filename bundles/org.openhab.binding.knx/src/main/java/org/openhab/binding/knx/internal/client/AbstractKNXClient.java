@@ -15,13 +15,16 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -85,6 +88,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private ClientState state = ClientState.INIT;
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    // upper limit for pausing read requests after failed reads
+    private static final long MAX_READ_BACKOFF_MILLIS = 5000;
+    // read requests are deferred while other devices are writing more group telegrams than this per second
+    private static final int BUSY_BUS_GROUP_WRITES = 20;
+    private static final long BUS_LOAD_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -107,8 +115,16 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners indexed by the group addresses they are interested in, and the addresses each listener was
+    // registered with (used for unregistering)
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> registeredGroupAddresses = new ConcurrentHashMap<>();
+    private final ReadDatapointQueue readDatapoints = new ReadDatapointQueue();
+    // pacing of read requests, only accessed by the bus job except for the counter
+    private final AtomicInteger groupWritesInWindow = new AtomicInteger();
+    private long busLoadWindowStartNanos = System.nanoTime();
+    private long nextReadNanos = System.nanoTime();
+    private long readBackoffMillis = 0;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -125,6 +141,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
+            groupWritesInWindow.incrementAndGet();
+            skipQueuedRead(e.getDestination());
             processEvent("Group Write", e, (listener, source, destination, asdu) -> listener
                     .onGroupWrite(AbstractKNXClient.this, source, destination, asdu));
         }
@@ -137,6 +155,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
+            skipQueuedRead(e.getDestination());
             processEvent("Group Read Response", e, (listener, source, destination, asdu) -> listener
                     .onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu));
         }
@@ -342,12 +361,19 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
         boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners != null) {
+            for (GroupAddressListener listener : listeners) {
+                if (listener.listensTo(destination)) {
+                    isHandled = true;
+                    knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0,
+                            TimeUnit.SECONDS);
+                }
             }
         }
+        if (isHandled) {
+            commandExtensionData.telegramsPerGA().computeIfAbsent(destination, ga -> new LongAdder()).increment();
+        }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -364,6 +390,39 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    private void skipQueuedRead(GroupAddress destination) {
+        // the value has been received in the meantime, no need to read it
+        if (readDatapoints.remove(destination)) {
+            logger.trace("Value of {} received, skipping queued read request", destination);
+        }
+    }
+
+    /**
+     * Read requests are paused after failed reads (backing off exponentially) and while the bus is busy with group
+     * writes from other devices.
+     */
+    private boolean isReadingPaused() {
+        long now = System.nanoTime();
+        if (now - busLoadWindowStartNanos >= BUS_LOAD_WINDOW_NANOS) {
+            int groupWrites = groupWritesInWindow.getAndSet(0);
+            busLoadWindowStartNanos = now;
+            if (groupWrites > BUSY_BUS_GROUP_WRITES) {
+                logger.trace("Bus is busy ({} group writes within a second), deferring read requests", groupWrites);
+                nextReadNanos = Math.max(nextReadNanos, now + BUS_LOAD_WINDOW_NANOS);
+            }
+        }
+        return now - nextReadNanos < 0;
+    }
+
+    private void updateReadBackoff(boolean success) {
+        if (success) {
+            readBackoffMillis = 0;
+        } else {
+            readBackoffMillis = Math.min(MAX_READ_BACKOFF_MILLIS, Math.max(readingPause, readBackoffMillis * 2));
+            nextReadNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readBackoffMillis);
+        }
+    }
+
     // datapoint is null at end of the list, warning is misleading
     @SuppressWarnings("null")
     private void readNextQueuedDatapoint() {
@@ -371,7 +430,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             return;
         }
         ProcessCommunicator processCommunicator = this.processCommunicator;
-        if (processCommunicator == null) {
+        if (processCommunicator == null || isReadingPaused()) {
             return;
         }
         ReadDatapoint datapoint = readDatapoints.poll();
@@ -387,9 +446,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                updateReadBackoff(true);
             } catch (KNXException e) {
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
+                updateReadBackoff(false);
                 if (datapoint.getRetries() < datapoint.getLimit()) {
                     readDatapoints.add(datapoint);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
@@ -509,23 +570,40 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        if (readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit, priority))) {
+            logger.trace("Queued {} read request for {}, {} requests pending", priority,
+                    datapoint.getMainAddress(), readDatapoints.size());
         }
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (registeredGroupAddresses) {
+            // group addresses may have changed since an earlier registration
+            unregisterGroupAddressListener(listener);
+            Set<GroupAddress> groupAddresses = listener.getGroupAddresses();
+            registeredGroupAddresses.put(listener, groupAddresses);
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (registeredGroupAddresses) {
+            Set<GroupAddress> groupAddresses = registeredGroupAddresses.remove(listener);
+            if (groupAddresses == null) {
+                return;
+            }
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfPresent(groupAddress, (ga, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of data points to be read from the KNX bus.
+ *
+ * Data points are keyed by their group address, so that each group address is queued at most once. Within a
+ * {@link ReadPriority}, data points are read in the order they were added.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadDatapointQueue {
+
+    private final List<Map<GroupAddress, ReadDatapoint>> queues = new ArrayList<>();
+
+    public ReadDatapointQueue() {
+        for (int i = 0; i < ReadPriority.values().length; i++) {
+            queues.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Add a data point to the queue.
+     *
+     * If the group address is already queued with a lower priority, it is moved to the priority of the given data
+     * point.
+     *
+     * @param datapoint the data point to read
+     * @return true if the data point was queued, false if the group address was already queued
+     */
+    public synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        for (ReadPriority priority : ReadPriority.values()) {
+            Map<GroupAddress, ReadDatapoint> queue = queue(priority);
+            if (queue.containsKey(groupAddress)) {
+                if (priority.compareTo(datapoint.getPriority()) <= 0) {
+                    return false;
+                }
+                queue.remove(groupAddress);
+                break;
+            }
+        }
+        queue(datapoint.getPriority()).put(groupAddress, datapoint);
+        return true;
+    }
+
+    /**
+     * Retrieve and remove the next data point to read.
+     *
+     * @return the oldest data point of the highest priority, or null if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (Map<GroupAddress, ReadDatapoint> queue : queues) {
+            Iterator<ReadDatapoint> iterator = queue.values().iterator();
+            if (iterator.hasNext()) {
+                ReadDatapoint datapoint = iterator.next();
+                iterator.remove();
+                return datapoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove a queued group address, e.g. because its value has been received in the meantime.
+     *
+     * @param groupAddress the group address
+     * @return true if the group address was queued
+     */
+    public synchronized boolean remove(GroupAddress groupAddress) {
+        for (Map<GroupAddress, ReadDatapoint> queue : queues) {
+            if (queue.remove(groupAddress) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized int size() {
+        return queues.stream().mapToInt(Map::size).sum();
+    }
+
+    public synchronized void clear() {
+        queues.forEach(Map::clear);
+    }
+
+    private Map<GroupAddress, ReadDatapoint> queue(ReadPriority priority) {
+        return queues.get(priority.ordinal());
+    }
+}
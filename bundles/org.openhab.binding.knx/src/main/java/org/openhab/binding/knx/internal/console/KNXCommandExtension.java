@@ -12,8 +12,10 @@
  */
 package org.openhab.binding.knx.internal.console;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -29,6 +31,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import tuwien.auto.calimero.GroupAddress;
+
 /**
  * The {@link KNXCommandExtension} is responsible for handling console commands
  *
@@ -39,7 +43,9 @@ import org.osgi.service.component.annotations.Reference;
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_LIST_GA_TELEGRAMS = "list-ga-telegrams";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_LIST_GA_TELEGRAMS), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -61,13 +67,26 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
             }
             return;
         }
+        if (args.length == 1 && CMD_LIST_GA_TELEGRAMS.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel()
+                        + "\": group address and number of telegrams since last reload of binding:");
+                bridgeHandler.getCommandExtensionData().telegramsPerGA().entrySet().stream()
+                        .sorted(Comparator.comparing((Entry<GroupAddress, LongAdder> e) -> e.getKey().getRawAddress()))
+                        .forEach(entry -> console.println(String.format("%2d/%1d/%3d  %d",
+                                entry.getKey().getMainGroup(), entry.getKey().getMiddleGroup(),
+                                entry.getKey().getSubGroup8(), entry.getValue().sum())));
+            }
+            return;
+        }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_LIST_GA_TELEGRAMS, "list number of telegrams received per group address"));
     }
 
     @Override
@@ -20,7 +20,10 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -82,6 +85,14 @@ public class ValueDecoder {
             .compile("(?:\\((?<x>\\d+(?:[,.]\\d+)?) (?<y>\\d+(?:[,.]\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:[,.]\\d+)?)\\s%)?");
     public static final Pattern TSD_SEPARATOR = Pattern.compile("^[0-9]+(?<sep>[,\\.])[0-9][0-9][0-9].*");
 
+    // DPTs where Calimero scales the raw value, those are not supported by direct decoding
+    private static final Set<String> SCALED_DPTS = Set.of(DPTXlator8BitUnsigned.DPT_SCALING.getID(),
+            DPTXlator8BitUnsigned.DPT_ANGLE.getID());
+    private static final Map<String, Optional<DirectDpt>> DIRECT_DPTS = new ConcurrentHashMap<>();
+
+    private record DirectDpt(String mainType, String subType, int length) {
+    }
+
     private static boolean check235001(byte[] data) throws KNXException {
         if (data.length != 6) {
             throw new KNXFormatException("DPT235 broken frame");
@@ -113,6 +124,101 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        Type type = decodeDirect(dptId, data, preferredType);
+        if (type != null) {
+            return type;
+        }
+        return decodeWithTranslator(dptId, data, preferredType);
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value without using a Calimero translator
+     *
+     * Only DPTs with a plain binary representation (1.x, 5.x w/o scaling, 9.x, 13.x and 14.x) are supported. The
+     * result is identical to the one of {@link #decodeWithTranslator(String, byte[], Class)}, but avoids creating a
+     * translator and formatting the value as string for each telegram.
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @param preferredType the preferred datatype for this conversion
+     * @return the data converted to an openHAB Type (or null if the DPT or data is not supported)
+     */
+    static @Nullable Type decodeDirect(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        DirectDpt dpt = DIRECT_DPTS.computeIfAbsent(dptId, ValueDecoder::resolveDirectDpt).orElse(null);
+        if (dpt == null || data.length != dpt.length()) {
+            return null;
+        }
+        switch (dpt.mainType()) {
+            case "1":
+                return handleDpt1(dpt.subType(), (data[0] & 0x01) != 0, preferredType);
+            case "5":
+                return handleNumericValue(dptId, data[0] & 0xff, null, preferredType);
+            case "9":
+                if (data[0] == (byte) 0x7f && data[1] == (byte) 0xff) {
+                    // invalid value, leave logging to the translator path
+                    return null;
+                }
+                // high byte: MEEEEMMM, low byte: MMMMMMMM, left align the mantissa to sign-extend it
+                int mantissa = ((data[0] & 0x80) << 24 | (data[0] & 0x07) << 28 | (data[1] & 0xff) << 20) >> 20;
+                int exponent = (data[0] & 0x78) >> 3;
+                return handleNumericValue(dptId, (1 << exponent) * mantissa * 0.01, null, preferredType);
+            case "13":
+                return handleNumericValue(dptId, readInt(data), null, preferredType);
+            case "14":
+                float floatValue = Float.intBitsToFloat(readInt(data));
+                if (!Float.isFinite(floatValue)) {
+                    // NaN and infinity are rejected by the translator path
+                    return null;
+                }
+                return handleNumericValue(dptId, floatValue, null, preferredType);
+            default:
+                return null;
+        }
+    }
+
+    private static Optional<DirectDpt> resolveDirectDpt(String dptId) {
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        if (!m.matches() || SCALED_DPTS.contains(dptId)) {
+            return Optional.empty();
+        }
+        String mainType = m.group("main");
+        String subType = m.group("sub");
+        if (mainType == null || subType == null) {
+            return Optional.empty();
+        }
+        int length = switch (mainType) {
+            case "1", "5" -> 1;
+            case "9" -> 2;
+            case "13", "14" -> 4;
+            default -> 0;
+        };
+        if (length == 0) {
+            return Optional.empty();
+        }
+        try {
+            // unknown subtypes are rejected by Calimero, keep that behavior by using the translator path for them
+            if (!dptId.equals(TranslatorTypes.createTranslator(0, dptId).getType().getID())) {
+                return Optional.empty();
+            }
+        } catch (KNXException e) {
+            return Optional.empty();
+        }
+        return Optional.of(new DirectDpt(mainType, subType, length));
+    }
+
+    private static int readInt(byte[] data) {
+        return (data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff);
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value using a Calimero translator
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @param preferredType the preferred datatype for this conversion
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    static @Nullable Type decodeWithTranslator(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
             String value = "";
             String translatorDptId = dptId;
@@ -167,7 +273,7 @@ public class ValueDecoder {
 
             switch (mainType) {
                 case "1":
-                    return handleDpt1(subType, translator, preferredType);
+                    return handleDpt1(subType, ((DPTXlatorBoolean) translator).getValueBoolean(), preferredType);
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -246,34 +352,33 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    private static Type handleDpt1(String subType, boolean value, Class<? extends Type> preferredType) {
         return switch (subType) {
-            case "008" -> translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+            case "008" -> value ? UpDownType.DOWN : UpDownType.UP;
             case "009", "019" -> {
                 // default is OpenClosedType (Contact), but it may be mapped to OnOffType as well
                 if (OnOffType.class.equals(preferredType)) {
-                    yield OnOffType.from(translatorBoolean.getValueBoolean());
+                    yield OnOffType.from(value);
                 }
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
             }
-            case "010" -> translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-            case "022" -> DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+            case "010" -> value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case "022" -> DecimalType.valueOf(value ? "1" : "0");
             default -> {
                 // default is OnOffType (Switch), but it may be mapped to OpenClosedType as well
                 if (OpenClosedType.class.equals(preferredType)) {
-                    yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
                 }
 
-                yield OnOffType.from(translatorBoolean.getValueBoolean());
+                yield OnOffType.from(value);
             }
         };
     }
@@ -494,9 +599,17 @@ public class ValueDecoder {
 
     private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
             throws KNXFormatException {
+        // prevent loss of precision, do not represent 64bit decimal using double
+        Long signedValue = translator instanceof DPTXlator64BitSigned translatorSigned
+                ? translatorSigned.getValueSigned()
+                : null;
+        return handleNumericValue(id, translator.getNumericValue(), signedValue, preferredType);
+    }
+
+    private static @Nullable Type handleNumericValue(String id, double value, @Nullable Long signedValue,
+            Class<? extends Type> preferredType) {
         Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
 
-        double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
@@ -506,9 +619,8 @@ public class ValueDecoder {
             String unit = DPTUnits.getUnitForDpt(id);
             if (unit != null) {
                 try {
-                    if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                        // prevent loss of precision, do not represent 64bit decimal using double
-                        return new QuantityType<>(translatorSigned.getValueSigned() + " " + unit);
+                    if (signedValue != null) {
+                        return new QuantityType<>(signedValue + " " + unit);
                     }
                     return new QuantityType<>(value + " " + unit);
                 } catch (IllegalArgumentException e) {
@@ -521,9 +633,8 @@ public class ValueDecoder {
         }
 
         if (allowedTypes.contains(DecimalType.class)) {
-            if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                // prevent loss of precision, do not represent 64bit decimal using double
-                return new DecimalType(translatorSigned.getValueSigned());
+            if (signedValue != null) {
+                return new DecimalType(signedValue.longValue());
             }
             return new DecimalType(value);
         }
@@ -23,8 +23,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -86,7 +88,8 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
      * Helper class to carry information which can be used by the
      * command line extension (openHAB console).
      */
-    public record CommandExtensionData(SortedMap<String, Long> unknownGA) {
+    public record CommandExtensionData(SortedMap<String, Long> unknownGA,
+            Map<GroupAddress, LongAdder> telegramsPerGA) {
     }
 
     private final ScheduledExecutorService knxScheduler = ThreadPoolManager.getScheduledPool("knx");
@@ -107,7 +110,7 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
         openhabSecurity = Security.newSecurity();
         secureRouting = new SecureRoutingConfig();
         secureTunnel = new SecureTunnelConfig();
-        commandExtensionData = new CommandExtensionData(new TreeMap<>());
+        commandExtensionData = new CommandExtensionData(new TreeMap<>(), new ConcurrentHashMap<>());
     }
 
     protected abstract KNXClient getClient();
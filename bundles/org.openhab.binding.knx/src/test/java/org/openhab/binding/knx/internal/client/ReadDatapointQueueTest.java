@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ReadDatapointQueueTest {
+
+    private static ReadDatapoint datapoint(int subGroup, ReadPriority priority) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(1, 2, subGroup), "test", 0, "1.001"), 3, priority);
+    }
+
+    private static GroupAddress polledAddress(ReadDatapointQueue queue) {
+        return Objects.requireNonNull(queue.poll()).getDatapoint().getMainAddress();
+    }
+
+    @Test
+    void duplicatesAreIgnored() {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        assertTrue(queue.add(datapoint(1, ReadPriority.NORMAL)));
+        assertFalse(queue.add(datapoint(1, ReadPriority.NORMAL)));
+        assertFalse(queue.add(datapoint(1, ReadPriority.LOW)));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void higherPriorityIsReadFirst() {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(datapoint(1, ReadPriority.LOW));
+        queue.add(datapoint(2, ReadPriority.NORMAL));
+        queue.add(datapoint(3, ReadPriority.NORMAL));
+        queue.add(datapoint(4, ReadPriority.HIGH));
+
+        assertEquals(new GroupAddress(1, 2, 4), polledAddress(queue));
+        assertEquals(new GroupAddress(1, 2, 2), polledAddress(queue));
+        assertEquals(new GroupAddress(1, 2, 3), polledAddress(queue));
+        assertEquals(new GroupAddress(1, 2, 1), polledAddress(queue));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void queuedAddressIsPromoted() {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(datapoint(1, ReadPriority.NORMAL));
+        queue.add(datapoint(2, ReadPriority.LOW));
+        assertTrue(queue.add(datapoint(2, ReadPriority.HIGH)));
+
+        assertEquals(2, queue.size());
+        assertEquals(new GroupAddress(1, 2, 2), polledAddress(queue));
+        assertEquals(new GroupAddress(1, 2, 1), polledAddress(queue));
+    }
+
+    @Test
+    void receivedAddressIsRemoved() {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(datapoint(1, ReadPriority.NORMAL));
+        queue.add(datapoint(2, ReadPriority.NORMAL));
+
+        assertTrue(queue.remove(new GroupAddress(1, 2, 1)));
+        assertFalse(queue.remove(new GroupAddress(1, 2, 1)));
+        assertEquals(new GroupAddress(1, 2, 2), polledAddress(queue));
+        assertNull(queue.poll());
+    }
+}
@@ -15,6 +15,8 @@ package org.openhab.binding.knx.internal.dpt;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.text.DecimalFormat;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -30,10 +32,14 @@ import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 import org.openhab.core.util.ColorUtil;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -590,6 +596,53 @@ class DPTTest {
         }
     }
 
+    private static Stream<String> directDecodingDptProvider() {
+        return Stream.of("1.001", "1.008", "1.009", "1.010", "1.019", "1.022", "5.004", "5.005", "5.006", "5.010",
+                "9.001", "9.004", "9.007", "9.020", "13.001", "13.010", "13.002", "13.013", "14.019", "14.056",
+                "14.068", "14.1200");
+    }
+
+    @ParameterizedTest
+    @MethodSource("directDecodingDptProvider")
+    public void directDecodingMatchesTranslator(String dpt) {
+        int length = switch (dpt.substring(0, dpt.indexOf('.'))) {
+            case "1", "5" -> 1;
+            case "9" -> 2;
+            default -> 4;
+        };
+        for (int i = 0; i < 1024; i++) {
+            // spread the bits over all bytes to cover sign, exponent and mantissa
+            int bits = i * 0x9e3779b1;
+            byte[] data = new byte[length];
+            for (int j = 0; j < length; j++) {
+                data[j] = (byte) (bits >> (8 * j));
+            }
+            for (Class<? extends Type> preferredType : List.of(DecimalType.class, QuantityType.class, OnOffType.class,
+                    OpenClosedType.class, PercentType.class)) {
+                Type direct = ValueDecoder.decodeDirect(dpt, data, preferredType);
+                Type translated = ValueDecoder.decodeWithTranslator(dpt, data, preferredType);
+                if (direct != null) {
+                    assertEquals(translated, direct, dpt + " " + HexFormat.of().formatHex(data));
+                    assertEquals(Objects.toString(translated), direct.toString());
+                }
+            }
+        }
+        assertNotNull(ValueDecoder.decodeDirect(dpt, new byte[length], DecimalType.class));
+    }
+
+    @Test
+    public void directDecodingNotUsedForUnsupportedDpts() {
+        // scaled values and unknown subtypes are left to the translator
+        assertNull(ValueDecoder.decodeDirect("5.001", new byte[] { 0x40 }, PercentType.class));
+        assertNull(ValueDecoder.decodeDirect("1.091", new byte[] { 0 }, DecimalType.class));
+        // invalid values
+        assertNull(ValueDecoder.decodeDirect("9.001", new byte[] { (byte) 0x7f, (byte) 0xff }, DecimalType.class));
+        assertNull(ValueDecoder.decodeDirect("14.019", new byte[] { (byte) 0x7f, (byte) 0x80, 0, 0 },
+                DecimalType.class));
+        // unexpected length
+        assertNull(ValueDecoder.decodeDirect("13.001", new byte[] { 0, 1 }, DecimalType.class));
+    }
+
     private static Stream<byte[]> rgbValueProvider() {
         // Returning all combinations is too much. Implementation tries to catch rounding errors
         // but is still deterministic to get reproducible test results.
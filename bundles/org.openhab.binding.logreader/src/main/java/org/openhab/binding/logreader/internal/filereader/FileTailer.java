@@ -12,13 +12,25 @@
  */
 package org.openhab.binding.logreader.internal.filereader;
 
-import java.io.File;
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.input.Tailer;
-import org.apache.commons.io.input.TailerListener;
-import org.apache.commons.io.input.TailerListenerAdapter;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
@@ -27,71 +39,216 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Apache Tailer based log file reader implementation.
+ * NIO based log file reader implementation.
+ *
+ * The directory of the log file is watched for changes, the refresh rate is only the maximum delay between two reads
+ * when no change is notified (e.g. on file systems without change notifications). New data is read into a reusable
+ * buffer and split into lines directly in that buffer. A file rotation is detected when the file is truncated or
+ * replaced by a new file.
  *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class FileTailer extends AbstractLogFileReader implements LogFileReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(FileTailer.class);
 
-    private @Nullable Tailer tailer;
     private @Nullable ExecutorService executor;
+    private @Nullable Tailer tailer;
+
+    @Override
+    public void start(String filePath, long refreshRate) throws FileReaderException {
+        Path file = Path.of(filePath).toAbsolutePath();
+        Path directory = Objects.requireNonNull(file.getParent());
+        WatchService watchService;
+        try {
+            watchService = file.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new FileReaderException(e);
+        }
+        Tailer localTailer = new Tailer(file, watchService, Math.max(refreshRate, 1));
+        tailer = localTailer;
+        ExecutorService localExecutor = Executors.newSingleThreadExecutor();
+        executor = localExecutor;
+        logger.debug("Start executor");
+        localExecutor.execute(localTailer);
+        logger.debug("Executor started");
+    }
 
-    TailerListener logListener = new TailerListenerAdapter() {
+    @Override
+    public void stop() {
+        logger.debug("Shutdown");
+        Tailer localTailer = tailer;
+        if (localTailer != null) {
+            localTailer.stop();
+            tailer = null;
+        }
+        ExecutorService localExecutor = executor;
+        if (localExecutor != null) {
+            localExecutor.shutdown();
+            executor = null;
+        }
+        logger.debug("Shutdown complete");
+    }
 
-        @Override
-        public void handle(@Nullable String line) {
-            if (line == null) {
-                return;
-            }
+    /**
+     * Tails one file from {@link #start(String, long)} until {@link #stop()}. The state of a run is kept here, so that
+     * a run which is still ending does not interfere with the next one.
+     */
+    private class Tailer implements Runnable {
+        private final Path file;
+        private final WatchService watchService;
+        private final long refreshRate;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private volatile boolean running = true;
 
-            sendLineToListeners(line);
+        private @Nullable FileChannel channel;
+        private @Nullable Object fileKey;
+        private boolean fileNotFound;
+
+        Tailer(Path file, WatchService watchService, long refreshRate) {
+            this.file = file;
+            this.watchService = watchService;
+            this.refreshRate = refreshRate;
         }
 
-        @Override
-        public void fileNotFound() {
-            sendFileNotFoundToListeners();
+        void stop() {
+            running = false;
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the watch service", e);
+            }
         }
 
         @Override
-        public void handle(@Nullable Exception e) {
-            if (e == null) {
-                return;
+        public void run() {
+            try {
+                // Start reading from the end of the file, like "tail -f"
+                open(true);
+                while (running) {
+                    readNewLines();
+                    // Wait for a change in the directory, the events are not relevant as the file itself is checked
+                    WatchKey watchKey = watchService.poll(refreshRate, TimeUnit.MILLISECONDS);
+                    if (watchKey != null) {
+                        watchKey.pollEvents();
+                        watchKey.reset();
+                    }
+                }
+            } catch (ClosedWatchServiceException e) {
+                // stopped
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
             }
+        }
 
-            sendExceptionToListeners(e);
+        private void open(boolean fromEnd) {
+            try {
+                FileChannel localChannel = FileChannel.open(file, StandardOpenOption.READ);
+                if (fromEnd) {
+                    localChannel.position(localChannel.size());
+                }
+                channel = localChannel;
+                fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+                fileNotFound = false;
+                buffer.clear();
+            } catch (NoSuchFileException e) {
+                if (!fileNotFound) {
+                    fileNotFound = true;
+                    sendFileNotFoundToListeners();
+                }
+            } catch (IOException e) {
+                sendExceptionToListeners(e);
+            }
         }
 
-        @Override
-        public void fileRotated() {
-            sendFileRotationToListeners();
+        private void close() {
+            FileChannel localChannel = channel;
+            if (localChannel != null) {
+                try {
+                    localChannel.close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close the log file", e);
+                }
+                channel = null;
+            }
         }
-    };
 
-    @Override
-    public void start(String filePath, long refreshRate) throws FileReaderException {
-        Tailer localTailer = new Tailer(new File(filePath), logListener, refreshRate, true, false, true);
-        executor = Executors.newSingleThreadExecutor();
-        try {
-            logger.debug("Start executor");
-            executor.execute(localTailer);
-            logger.debug("Executor started");
-            this.tailer = localTailer;
-        } catch (Exception e) {
-            throw new FileReaderException(e);
+        private void readNewLines() {
+            FileChannel localChannel = channel;
+            if (localChannel == null) {
+                // The file was removed by a rotation if it was already opened
+                boolean rotated = fileKey != null;
+                open(false);
+                localChannel = channel;
+                if (localChannel == null) {
+                    return;
+                }
+                if (rotated) {
+                    sendFileRotationToListeners();
+                }
+            }
+            try {
+                read(localChannel);
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    // Rotated, the new file is not created yet
+                    close();
+                    return;
+                }
+                Object currentFileKey = attributes.fileKey();
+                boolean replaced = currentFileKey != null && !currentFileKey.equals(fileKey);
+                if (replaced || attributes.size() < localChannel.position()) {
+                    logger.debug("Log file rotation detected ({})", replaced ? "new file" : "truncated");
+                    close();
+                    open(false);
+                    sendFileRotationToListeners();
+                    FileChannel newChannel = channel;
+                    if (newChannel != null) {
+                        read(newChannel);
+                    }
+                }
+            } catch (IOException e) {
+                sendExceptionToListeners(e);
+                close();
+            }
         }
-    }
 
-    @Override
-    public void stop() {
-        logger.debug("Shutdown");
-        if (tailer != null) {
-            tailer.stop();
+        /**
+         * Read all available data and send the complete lines to the listeners. An incomplete last line is kept in
+         * the buffer until the rest of the line is written.
+         */
+        private void read(FileChannel localChannel) throws IOException {
+            while (running && localChannel.read(buffer) > 0) {
+                buffer.flip();
+                byte[] bytes = buffer.array();
+                int lineStart = 0;
+                int limit = buffer.limit();
+                for (int i = 0; i < limit; i++) {
+                    if (bytes[i] == '\n') {
+                        sendLine(bytes, lineStart, i);
+                        lineStart = i + 1;
+                    }
+                }
+                if (lineStart == 0 && limit == buffer.capacity()) {
+                    // Line longer than the buffer, send it in parts
+                    sendLine(bytes, 0, limit);
+                    lineStart = limit;
+                }
+                buffer.position(lineStart);
+                buffer.compact();
+            }
         }
-        if (executor != null) {
-            executor.shutdown();
+
+        private void sendLine(byte[] bytes, int start, int end) {
+            int lineEnd = end > start && bytes[end - 1] == '\r' ? end - 1 : end;
+            sendLineToListeners(new String(bytes, start, lineEnd - start, StandardCharsets.UTF_8));
         }
-        logger.debug("Shutdown complite");
     }
 }
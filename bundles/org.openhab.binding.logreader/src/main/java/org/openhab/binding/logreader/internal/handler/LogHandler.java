@@ -15,6 +15,9 @@ package org.openhab.binding.logreader.internal.handler;
 import static org.openhab.binding.logreader.internal.LogReaderBindingConstants.*;
 
 import java.time.ZonedDateTime;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,6 +49,8 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class LogHandler extends BaseThingHandler implements FileReaderListener {
+    private static final int STATISTICS_INTERVAL = 30;
+
     private final Logger logger = LoggerFactory.getLogger(LogHandler.class);
 
     private final LogFileReader fileReader;
@@ -56,6 +61,11 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
     private @Nullable SearchEngine warningEngine;
     private @Nullable SearchEngine customEngine;
 
+    private final LongAdder lineCount = new LongAdder();
+    private final LongAdder matchedLineCount = new LongAdder();
+    private long statisticsTimestamp;
+    private @Nullable ScheduledFuture<?> statisticsJob;
+
     public LogHandler(Thing thing, LogFileReader fileReader) {
         super(thing);
         this.fileReader = fileReader;
@@ -115,6 +125,9 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
             fileReader.registerListener(this);
             fileReader.start(configuration.filePath, configuration.refreshRate);
             updateStatus(ThingStatus.ONLINE);
+            statisticsTimestamp = System.nanoTime();
+            statisticsJob = scheduler.scheduleWithFixedDelay(this::updateStatistics, STATISTICS_INTERVAL,
+                    STATISTICS_INTERVAL, TimeUnit.SECONDS);
         } catch (Exception e) {
             logger.debug("Exception occurred during initalization: {}. ", e.getMessage(), e);
             shutdown();
@@ -160,7 +173,27 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
         }
     }
 
+    /**
+     * Update the rates of read and matched lines since the last update.
+     */
+    private void updateStatistics() {
+        long now = System.nanoTime();
+        double seconds = (now - statisticsTimestamp) / (double) TimeUnit.SECONDS.toNanos(1);
+        statisticsTimestamp = now;
+        long lines = lineCount.sumThenReset();
+        long matchedLines = matchedLineCount.sumThenReset();
+        if (seconds > 0) {
+            updateChannelIfLinked(CHANNEL_LINERATE, new DecimalType(lines / seconds));
+            updateChannelIfLinked(CHANNEL_MATCHRATE, new DecimalType(matchedLines / seconds));
+        }
+    }
+
     private void shutdown() {
+        ScheduledFuture<?> localStatisticsJob = statisticsJob;
+        if (localStatisticsJob != null) {
+            localStatisticsJob.cancel(true);
+            statisticsJob = null;
+        }
         logger.debug("Stop file reader");
         fileReader.unregisterListener(this);
         fileReader.stop();
@@ -188,21 +221,29 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
             updateStatus(ThingStatus.ONLINE);
         }
 
+        lineCount.increment();
+        boolean matched = false;
         if (errorEngine != null && errorEngine.isMatching(line)) {
+            matched = true;
             updateChannelIfLinked(CHANNEL_ERRORS, new DecimalType(errorEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(line));
             triggerChannel(CHANNEL_NEWERROR, line);
         }
         if (warningEngine != null && warningEngine.isMatching(line)) {
+            matched = true;
             updateChannelIfLinked(CHANNEL_WARNINGS, new DecimalType(warningEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTWARNING, new StringType(line));
             triggerChannel(CHANNEL_NEWWARNING, line);
         }
         if (customEngine != null && customEngine.isMatching(line)) {
+            matched = true;
             updateChannelIfLinked(CHANNEL_CUSTOMEVENTS, new DecimalType(customEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTCUSTOMEVENT, new StringType(line));
             triggerChannel(CHANNEL_NEWCUSTOM, line);
         }
+        if (matched) {
+            matchedLineCount.increment();
+        }
     }
 
     @Override
@@ -14,6 +14,7 @@ package org.openhab.binding.logreader.internal.searchengine;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -24,13 +25,21 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * This class implements logic for regular expression based searching.
  *
+ * The search patterns are combined into a single alternation, so that each line is scanned once whatever the number
+ * of patterns. Patterns using back references, named groups or comments cannot be combined and are kept separately.
+ * The matchers are reused between lines, so a search engine must only be used by the thread reading the log file.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class SearchEngine {
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    // Group numbers of back references change in a combined pattern, a group name may be used by several patterns
+    // and a comment could swallow the closing group
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]|\\(\\?[a-zA-Z-]*x");
+
+    private List<Matcher> matchers;
+    private List<Matcher> blacklistingMatchers;
 
     private long matchCount;
 
@@ -75,35 +84,51 @@ public class SearchEngine {
     }
 
     /**
-     * Split pattern string and precompile search patterns.
+     * Split pattern string and precompile search patterns into a combined matcher.
      *
      * @param patterns patterns which will handled.
-     * @return list of precompiled patterns. If pattern parameter is null, empty list is returned.
+     * @return list of matchers, the first one combining all patterns which can be combined. If pattern parameter is
+     *         null, empty list is returned.
      */
-    private List<Pattern> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
-        List<Pattern> patternsList = new ArrayList<>();
+    private List<Matcher> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
+        List<Matcher> matchersList = new ArrayList<>();
         if (patterns != null && !patterns.isEmpty()) {
-            String[] list = patterns.split("\\|");
-            if (list.length > 0) {
-                for (String patternStr : list) {
-                    patternsList.add(Pattern.compile(patternStr));
+            List<Pattern> combinablePatterns = new ArrayList<>();
+            StringJoiner combinedPattern = new StringJoiner("|");
+            for (String patternStr : patterns.split("\\|")) {
+                // Compiled on its own first, so that a syntax error refers to the configured pattern
+                Pattern pattern = Pattern.compile(patternStr);
+                if (NOT_COMBINABLE.matcher(patternStr).find()) {
+                    matchersList.add(pattern.matcher(""));
+                } else {
+                    combinablePatterns.add(pattern);
+                    combinedPattern.add("(?:" + patternStr + ")");
+                }
+            }
+            if (combinablePatterns.size() == 1) {
+                matchersList.add(0, combinablePatterns.get(0).matcher(""));
+            } else if (!combinablePatterns.isEmpty()) {
+                try {
+                    matchersList.add(0, Pattern.compile(combinedPattern.toString()).matcher(""));
+                } catch (PatternSyntaxException e) {
+                    // Patterns valid on their own, but not together: search them separately
+                    for (int i = 0; i < combinablePatterns.size(); i++) {
+                        matchersList.add(i, combinablePatterns.get(i).matcher(""));
+                    }
                 }
             }
         }
-        return patternsList;
+        return matchersList;
     }
 
     private boolean notBlacklisted(String data) {
         return !isMatching(blacklistingMatchers, data);
     }
 
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
-        if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
-                    return true;
-                }
+    private boolean isMatching(List<Matcher> matchers, String data) {
+        for (Matcher matcher : matchers) {
+            if (matcher.reset(data).find()) {
+                return true;
             }
         }
         return false;
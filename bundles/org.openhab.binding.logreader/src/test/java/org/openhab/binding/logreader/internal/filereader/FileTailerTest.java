@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Tests for the {@link FileTailer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileTailerTest {
+    private static final long REFRESH_RATE = 50;
+    private static final long TIMEOUT = 5000;
+
+    private @TempDir @NonNullByDefault({}) Path directory;
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final AtomicInteger rotations = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final FileTailer tailer = new FileTailer();
+
+    private final FileReaderListener listener = new FileReaderListener() {
+        @Override
+        public void fileNotFound() {
+            notFound.incrementAndGet();
+        }
+
+        @Override
+        public void fileRotated() {
+            rotations.incrementAndGet();
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            if (line != null) {
+                lines.add(line);
+            }
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+        }
+    };
+
+    @AfterEach
+    public void tearDown() {
+        tailer.stop();
+    }
+
+    @Test
+    public void testNewLinesAreRead() throws Exception {
+        Path file = directory.resolve("test.log");
+        Files.writeString(file, "existing line\n");
+        tailer.registerListener(listener);
+        tailer.start(file.toString(), REFRESH_RATE);
+        // give the tailer time to open the file at its end
+        Thread.sleep(REFRESH_RATE * 4);
+
+        append(file, "first\r\nsecond\nincom");
+        waitFor(() -> lines.size() == 2);
+        append(file, "plete\n");
+        waitFor(() -> lines.size() == 3);
+
+        assertEquals(List.of("first", "second", "incomplete"), lines);
+        assertEquals(0, rotations.get());
+    }
+
+    @Test
+    public void testRotation() throws Exception {
+        Path file = directory.resolve("test.log");
+        Files.writeString(file, "");
+        tailer.registerListener(listener);
+        tailer.start(file.toString(), REFRESH_RATE);
+        Thread.sleep(REFRESH_RATE * 4);
+
+        append(file, "before rotation\n");
+        waitFor(() -> lines.size() == 1);
+        Files.move(file, directory.resolve("test.log.1"));
+        Files.writeString(file, "after rotation\n");
+        waitFor(() -> lines.size() == 2);
+
+        assertEquals(List.of("before rotation", "after rotation"), lines);
+        assertEquals(1, rotations.get());
+    }
+
+    @Test
+    public void testFileNotFoundIsReportedOnce() throws Exception {
+        Path file = directory.resolve("missing.log");
+        tailer.registerListener(listener);
+        tailer.start(file.toString(), REFRESH_RATE);
+        Thread.sleep(REFRESH_RATE * 4);
+
+        assertEquals(1, notFound.get());
+
+        Files.writeString(file, "created\n");
+        waitFor(() -> lines.size() == 1);
+        assertEquals(List.of("created"), lines);
+    }
+
+    @Test
+    public void testRestartDoesNotReadTheFileAgain() throws Exception {
+        Path file = directory.resolve("test.log");
+        Files.writeString(file, "old line\n");
+        tailer.registerListener(listener);
+        for (int i = 0; i < 10; i++) {
+            tailer.stop();
+            tailer.start(file.toString(), REFRESH_RATE);
+        }
+        Thread.sleep(REFRESH_RATE * 4);
+
+        append(file, "new line\n");
+        waitFor(() -> !lines.isEmpty());
+        Thread.sleep(REFRESH_RATE * 4);
+
+        assertEquals(List.of("new line"), lines);
+        assertEquals(0, rotations.get());
+    }
+
+    private void append(Path file, String data) throws IOException {
+        Files.writeString(file, data, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > end) {
+                fail("Condition not met in time, lines " + lines);
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link SearchEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SearchEngineTest {
+
+    @Test
+    public void testCombinedPatterns() {
+        SearchEngine engine = new SearchEngine(".*ERROR.*|.*FATAL.*|^\\d{4} warn", null);
+
+        assertTrue(engine.isMatching("2025-01-01 [ERROR] something failed"));
+        assertTrue(engine.isMatching("2025-01-01 [FATAL] something failed"));
+        assertTrue(engine.isMatching("2025 warn"));
+        assertFalse(engine.isMatching("2025-01-01 [INFO] all fine"));
+        assertFalse(engine.isMatching("x2025 warn"));
+        assertEquals(3, engine.getMatchCount());
+    }
+
+    @Test
+    public void testNotCombinablePatterns() {
+        // back reference, named groups used twice and a comment
+        SearchEngine engine = new SearchEngine(
+                "(\\w+) \\1|(?<lvl>ERROR)|(?<lvl>FATAL)|(?x) WARN # comment|(?<word>\\w+)=\\k<word>|INFO", null);
+
+        assertTrue(engine.isMatching("again again"));
+        assertFalse(engine.isMatching("again once"));
+        assertTrue(engine.isMatching("ERROR"));
+        assertTrue(engine.isMatching("FATAL"));
+        assertTrue(engine.isMatching("WARN"));
+        assertTrue(engine.isMatching("a=a"));
+        assertFalse(engine.isMatching("a=b"));
+        assertTrue(engine.isMatching("INFO"));
+        assertFalse(engine.isMatching("DEBUG"));
+    }
+
+    @Test
+    public void testLookbehindIsCombined() {
+        SearchEngine engine = new SearchEngine("(?<=level=)ERROR|(?<!no )WARN", null);
+
+        assertTrue(engine.isMatching("level=ERROR"));
+        assertFalse(engine.isMatching("ERROR"));
+        assertTrue(engine.isMatching("WARN"));
+        assertFalse(engine.isMatching("no WARN"));
+    }
+
+    @Test
+    public void testBlacklistingPatterns() {
+        SearchEngine engine = new SearchEngine(".*ERROR.*|.*WARN.*", ".*ignored.*|(?<x>skip)|\\d+ \\d+");
+
+        assertTrue(engine.isMatching("ERROR in module"));
+        assertFalse(engine.isMatching("ERROR ignored"));
+        assertFalse(engine.isMatching("WARN skip"));
+        assertFalse(engine.isMatching("WARN 1 2"));
+        assertTrue(engine.isMatching("WARN 12"));
+        assertEquals(2, engine.getMatchCount());
+
+        engine.clearMatchCount();
+        assertEquals(0, engine.getMatchCount());
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        assertThrows(PatternSyntaxException.class, () -> new SearchEngine(".*ERROR.*|[unclosed", null));
+    }
+}
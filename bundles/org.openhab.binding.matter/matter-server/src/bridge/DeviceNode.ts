@@ -188,6 +188,22 @@ export class DeviceNode {
         }
     }
 
+    /**
+     * Updates the state of several attributes at once. Each attribute is set on its own, so an invalid attribute
+     * does not prevent the other attributes of the batch from being applied.
+     */
+    async setEndpointStates(states: { endpointId: string; clusterName: string; attributeName: string; state: any }[]) {
+        for (const { endpointId, clusterName, attributeName, state } of states) {
+            const device = this.devices.get(endpointId);
+            if (!device) {
+                continue;
+            }
+            device.updateState(clusterName, attributeName, state).catch(error => {
+                logger.warn(`Could not set ${endpointId} ${clusterName}.${attributeName} to ${state}: ${error}`);
+            });
+        }
+    }
+
     async openCommissioningWindow() {
         const dc = this.#getStartedServer().env.get(DeviceCommissioner);
         logger.debug("opening basic commissioning window");
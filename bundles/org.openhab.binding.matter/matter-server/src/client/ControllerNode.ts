@@ -4,9 +4,11 @@ import { ControllerStore } from "@matter/node";
 import { NodeId } from "@matter/types";
 import { CommissioningController } from "@project-chip/matter.js";
 import { Endpoint, NodeStates, PairedNode } from "@project-chip/matter.js/device";
+import { createHash } from "node:crypto";
 import { WebSocketSession } from "../app";
 import { EventType, NodeState } from "../MessageTypes";
 import { printError } from "../util/error";
+import { toJSON } from "../util/Json";
 const logger = Logger.get("ControllerNode");
 
 /**
@@ -293,9 +295,10 @@ export class ControllerNode {
      * Serializes a node and sends it to the web socket
      * @param node
      * @param endpointId Optional endpointId to serialize. If omitted, all endpoints will be serialized.
+     * @param knownVersions Optional data versions of the clusters the client already has, keyed by "endpoint/cluster"
      */
-    sendSerializedNode(node: PairedNode, endpointId?: number) {
-        this.serializePairedNode(node, endpointId)
+    sendSerializedNode(node: PairedNode, endpointId?: number, knownVersions?: Record<string, string>) {
+        this.serializePairedNode(node, endpointId, knownVersions)
             .then(data => {
                 this.ws.sendEvent(EventType.NodeData, data);
             })
@@ -307,12 +310,15 @@ export class ControllerNode {
     }
 
     /**
-     * Serializes a node and returns the json string
+     * Serializes a node and returns the json string.
+     * Every cluster gets a data version, a digest of its attribute values. Clusters whose data version matches the
+     * known version of the client are serialized without attributes and marked as unchanged.
      * @param node
      * @param endpointId Optional endpointId to serialize. If omitted, the root endpoint will be serialized.
+     * @param knownVersions Optional data versions of the clusters the client already has, keyed by "endpoint/cluster"
      * @returns
      */
-    async serializePairedNode(node: PairedNode, endpointId?: number) {
+    async serializePairedNode(node: PairedNode, endpointId?: number, knownVersions?: Record<string, string>) {
         if (!this.commissioningController) {
             throw new Error("CommissioningController not initialized");
         }
@@ -347,7 +353,18 @@ export class ControllerNode {
                     }
                 }
 
-                endpointData.clusters[cluster.name] = clusterData;
+                const dataVersion = createHash("sha1").update(toJSON(clusterData)).digest("hex").substring(0, 16);
+                if (knownVersions?.[`${endpoint.number}/${cluster.name}`] === dataVersion) {
+                    endpointData.clusters[cluster.name] = {
+                        id: cluster.id,
+                        name: cluster.name,
+                        dataVersion,
+                        unchanged: true,
+                    };
+                } else {
+                    clusterData.dataVersion = dataVersion;
+                    endpointData.clusters[cluster.name] = clusterData;
+                }
             }
 
             for (const child of endpoint.getChildEndpoints()) {
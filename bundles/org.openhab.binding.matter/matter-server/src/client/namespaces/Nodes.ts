@@ -36,12 +36,14 @@ export class Nodes {
     /**
      * Requests all attributes data for a node
      * @param nodeId
+     * @param knownVersions Optional data versions of the clusters the client already has, unchanged clusters are sent
+     * without attributes
      * @returns
      */
-    async requestAllData(nodeId: string | number) {
+    async requestAllData(nodeId: string | number, knownVersions?: Record<string, string>) {
         const node = this.controllerNode.getNode(nodeId);
         if (node.initialized) {
-            return this.controllerNode.sendSerializedNode(node);
+            return this.controllerNode.sendSerializedNode(node, undefined, knownVersions);
         } else {
             throw new Error(`Node ${nodeId} not initialized`);
         }
@@ -51,12 +53,14 @@ export class Nodes {
      * Requests all attributes data for a single endpoint and its children
      * @param nodeId
      * @param endpointId
+     * @param knownVersions Optional data versions of the clusters the client already has, unchanged clusters are sent
+     * without attributes
      * @returns
      */
-    async requestEndpointData(nodeId: string | number, endpointId: number) {
+    async requestEndpointData(nodeId: string | number, endpointId: number, knownVersions?: Record<string, string>) {
         const node = this.controllerNode.getNode(nodeId);
         if (node.initialized) {
-            return this.controllerNode.sendSerializedNode(node, endpointId);
+            return this.controllerNode.sendSerializedNode(node, endpointId, knownVersions);
         } else {
             throw new Error(`Node ${nodeId} not initialized`);
         }
@@ -12,10 +12,16 @@
  */
 package org.openhab.binding.matter.internal.bridge;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.matter.internal.client.MatterWebsocketClient;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeCommissionState;
 
@@ -32,6 +38,12 @@ import com.google.gson.JsonParseException;
 @NonNullByDefault
 public class MatterBridgeClient extends MatterWebsocketClient {
 
+    private static final int STATE_BATCH_DELAY_MS = 10;
+
+    // guarded by pendingStates
+    private final Map<String, EndpointState> pendingStates = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> flushStatesTask;
+
     public CompletableFuture<String> addEndpoint(String deviceType, String id, String nodeLabel, String productName,
             String productLabel, String serialNumber, Map<String, Map<String, Object>> attributeMap) {
         CompletableFuture<JsonElement> future = sendMessage("bridge", "addEndpoint",
@@ -39,13 +51,31 @@ public class MatterBridgeClient extends MatterWebsocketClient {
         return future.thenApply(obj -> obj.toString());
     }
 
+    /**
+     * Set the state of an endpoint attribute.
+     * 
+     * Updates are collected for {@value #STATE_BATCH_DELAY_MS} ms and sent as one message, so a burst of item changes
+     * like a scene results in a single request. Only the latest state of an attribute within a batch is sent.
+     * 
+     * @return a future completed once the batch containing the update was applied
+     */
     public CompletableFuture<Void> setEndpointState(String endpointId, String clusterName, String attributeName,
             Object state) {
-        CompletableFuture<JsonElement> future = sendMessage("bridge", "setEndpointState",
-                new Object[] { endpointId, clusterName, attributeName, state });
-        return future.thenAccept(obj -> {
-            // Do nothing, just to complete the future
-        });
+        String key = endpointId + "/" + clusterName + "/" + attributeName;
+        synchronized (pendingStates) {
+            EndpointState pendingState = pendingStates.get(key);
+            if (pendingState != null) {
+                pendingState.state = state;
+                return pendingState.future;
+            }
+            pendingState = new EndpointState(endpointId, clusterName, attributeName, state);
+            pendingStates.put(key, pendingState);
+            if (flushStatesTask == null) {
+                flushStatesTask = scheduler.schedule(this::flushEndpointStates, STATE_BATCH_DELAY_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+            return pendingState.future;
+        }
     }
 
     public CompletableFuture<Void> initializeBridge(boolean resetStorage) {
@@ -101,4 +131,41 @@ public class MatterBridgeClient extends MatterWebsocketClient {
             return obj.toString();
         });
     }
+
+    private void flushEndpointStates() {
+        List<EndpointState> states;
+        synchronized (pendingStates) {
+            states = new ArrayList<>(pendingStates.values());
+            pendingStates.clear();
+            flushStatesTask = null;
+        }
+        if (states.isEmpty()) {
+            return;
+        }
+        logger.debug("Sending {} endpoint state updates", states.size());
+        sendMessage("bridge", "setEndpointStates", new Object[] { states }).whenComplete((result, exception) -> {
+            for (EndpointState state : states) {
+                if (exception != null) {
+                    state.future.completeExceptionally(exception);
+                } else {
+                    state.future.complete(null);
+                }
+            }
+        });
+    }
+
+    static class EndpointState {
+        final String endpointId;
+        final String clusterName;
+        final String attributeName;
+        Object state;
+        final transient CompletableFuture<Void> future = new CompletableFuture<>();
+
+        EndpointState(String endpointId, String clusterName, String attributeName, Object state) {
+            this.endpointId = endpointId;
+            this.clusterName = clusterName;
+            this.attributeName = attributeName;
+            this.state = state;
+        }
+    }
 }
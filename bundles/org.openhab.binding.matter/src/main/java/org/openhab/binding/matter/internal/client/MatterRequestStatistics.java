@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link MatterRequestStatistics} collects the round-trip latency of the requests of one websocket function
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MatterRequestStatistics {
+
+    /**
+     * The latency of the requests of a function since the client was created.
+     *
+     * @param count the number of answered requests
+     * @param timeouts the number of requests that were not answered in time
+     * @param averageMillis the average round-trip time of the answered requests
+     * @param maxMillis the longest round-trip time of the answered requests
+     */
+    public record Snapshot(long count, long timeouts, double averageMillis, double maxMillis) {
+    }
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    void recordResponse(long latencyNanos) {
+        count.increment();
+        totalNanos.add(latencyNanos);
+        maxNanos.accumulate(latencyNanos);
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    public Snapshot snapshot() {
+        long count = this.count.sum();
+        double nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+        double averageMillis = count == 0 ? 0 : totalNanos.sum() / nanosPerMilli / count;
+        return new Snapshot(count, timeouts.sum(), averageMillis, maxNanos.get() / nanosPerMilli);
+    }
+}
@@ -32,6 +32,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -50,14 +51,11 @@ import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventTriggered;
-import org.openhab.binding.matter.internal.client.dto.ws.Event;
 import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.Message;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeStateMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.Path;
 import org.openhab.binding.matter.internal.client.dto.ws.Request;
-import org.openhab.binding.matter.internal.client.dto.ws.Response;
 import org.openhab.binding.matter.internal.client.dto.ws.ResponseType;
 import org.openhab.binding.matter.internal.client.dto.ws.TriggerEvent;
 import org.openhab.core.common.ThreadPoolManager;
@@ -70,8 +68,10 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
@@ -91,7 +91,7 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     private static final int BUFFER_SIZE = 1048576 * 2; // 2 Mb
     private static final int REQUEST_TIMEOUT_SECONDS = 60 * 3; // 3 minutes
 
-    private final ScheduledExecutorService scheduler = ThreadPoolManager
+    protected final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool("matter.MatterWebsocketClient");
 
     protected final Gson gson = new GsonBuilder().registerTypeAdapter(Node.class, new NodeDeserializer())
@@ -103,7 +103,8 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             .registerTypeAdapter(OctetString.class, new OctetStringSerializer()).create();
 
     protected final WebSocketClient client = new WebSocketClient();
-    protected final ConcurrentHashMap<String, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
+    protected final ConcurrentHashMap<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    protected final ConcurrentHashMap<String, MatterRequestStatistics> requestStatistics = new ConcurrentHashMap<>();
     protected final CopyOnWriteArrayList<MatterClientListener> clientListeners = new CopyOnWriteArrayList<>();
 
     @Nullable
@@ -134,9 +135,9 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     public void disconnect() {
         Session session = this.session;
         try {
-            pendingRequests.forEach((id, future) -> {
-                if (!future.isDone()) {
-                    future.completeExceptionally(new Exception("Client disconnected"));
+            pendingRequests.forEach((id, request) -> {
+                if (!request.future().isDone()) {
+                    request.future().completeExceptionally(new Exception("Client disconnected"));
                 }
             });
             pendingRequests.clear();
@@ -203,6 +204,16 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
         return future.thenApply(obj -> obj.toString());
     }
 
+    /**
+     * Get the round-trip latency of the requests sent to the controller
+     *
+     * @return the statistics by function name, e.g. "nodes.getNode"
+     */
+    public Map<String, MatterRequestStatistics.Snapshot> getRequestStatistics() {
+        return requestStatistics.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().snapshot()));
+    }
+
     @Override
     public void onNodeExit(int exitCode) {
     }
@@ -243,140 +254,162 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     @Override
     public void onWebSocketText(@Nullable String msg) {
         logger.debug("onWebSocketText {}", msg);
-        scheduler.submit(() -> {
-            Message message = gson.fromJson(msg, Message.class);
-            if (message == null) {
-                logger.debug("invalid Message");
-                return;
-            }
-            if ("response".equals(message.type)) {
-                Response response = gson.fromJson(message.message, Response.class);
-                if (response == null) {
-                    logger.debug("invalid response Message");
-                    return;
-                }
-                CompletableFuture<JsonElement> future = pendingRequests.remove(response.id);
-                if (future == null) {
-                    logger.debug("no future for response id {}, type {} , did the request timeout?", response.id,
-                            response.type);
-                    return;
-                }
-                logger.debug("result type: {} ", response.type);
-                if (response.type != ResponseType.RESULT_SUCCESS) {
-                    future.completeExceptionally(
-                            new MatterRequestException(response.error, MatterErrorCode.fromErrorId(response.errorId)));
-                } else {
-                    future.complete(response.result);
+        if (msg == null) {
+            return;
+        }
+        scheduler.submit(() -> handleMessage(msg));
+    }
+
+    /**
+     * Handle a message from the controller. The message is parsed once, only the payload handed to the listeners is
+     * converted to its type.
+     *
+     * @param msg the websocket message
+     */
+    void handleMessage(String msg) {
+        JsonObject message;
+        JsonObject body;
+        try {
+            message = JsonParser.parseString(msg).getAsJsonObject();
+            body = message.getAsJsonObject("message");
+        } catch (JsonParseException | IllegalStateException | ClassCastException e) {
+            logger.debug("invalid Message", e);
+            return;
+        }
+        if (body == null) {
+            logger.debug("invalid Message");
+            return;
+        }
+        String type = getString(message, "type");
+        if ("response".equals(type)) {
+            handleResponse(body);
+        } else if ("event".equals(type)) {
+            handleEvent(body);
+        }
+    }
+
+    private void handleResponse(JsonObject response) {
+        String id = getString(response, "id");
+        String type = getString(response, "type");
+        PendingRequest request = pendingRequests.remove(id);
+        if (request == null) {
+            logger.debug("no future for response id {}, type {} , did the request timeout?", id, type);
+            return;
+        }
+        long latencyNanos = System.nanoTime() - request.startNanos();
+        requestStatistics.computeIfAbsent(request.function(), function -> new MatterRequestStatistics())
+                .recordResponse(latencyNanos);
+        logger.debug("result type: {} for {} after {} ms", type, request.function(),
+                TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        if (!ResponseType.RESULT_SUCCESS.getValue().equals(type)) {
+            request.future().completeExceptionally(new MatterRequestException(getString(response, "error"),
+                    MatterErrorCode.fromErrorId(getString(response, "errorId"))));
+        } else {
+            JsonElement result = response.get("result");
+            request.future().complete(result != null ? result : JsonNull.INSTANCE);
+        }
+    }
+
+    private void handleEvent(JsonObject event) {
+        JsonElement data = event.get("data");
+        switch (getString(event, "type")) {
+            case "attributeChanged":
+                logger.debug("attributeChanged message {}", data);
+                notifyListeners(data, AttributeChangedMessage.class, MatterClientListener::onEvent);
+                break;
+            case "eventTriggered":
+                logger.debug("eventTriggered message {}", data);
+                notifyListeners(data, EventTriggeredMessage.class, MatterClientListener::onEvent);
+                break;
+            case "nodeStateInformation":
+                logger.debug("nodeStateInformation message {}", data);
+                notifyListeners(data, NodeStateMessage.class, MatterClientListener::onEvent);
+                break;
+            case "nodeData":
+                logger.debug("nodeData message {}", data);
+                NodeDataMessage nodeDataMessage = createNodeDataMessage(data);
+                if (nodeDataMessage != null) {
+                    notifyListeners(nodeDataMessage, MatterClientListener::onEvent);
                 }
-            } else if ("event".equals(message.type)) {
-                Event event = gson.fromJson(message.message, Event.class);
-                if (event == null) {
-                    logger.debug("invalid Event");
+                break;
+            case "bridgeEvent":
+                logger.debug("bridgeEvent message {}", data);
+                if (data == null || !data.isJsonObject()) {
+                    logger.debug("invalid bridgeEvent");
                     return;
                 }
-                switch (event.type) {
+                switch (getString(data.getAsJsonObject(), "type")) {
                     case "attributeChanged":
-                        logger.debug("attributeChanged message {}", event.data);
-                        AttributeChangedMessage changedMessage = gson.fromJson(event.data,
-                                AttributeChangedMessage.class);
-                        if (changedMessage == null) {
-                            logger.debug("invalid AttributeChangedMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(changedMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
+                        notifyListeners(data, BridgeEventAttributeChanged.class, MatterClientListener::onEvent);
                         break;
                     case "eventTriggered":
-                        logger.debug("eventTriggered message {}", event.data);
-                        EventTriggeredMessage triggeredMessage = gson.fromJson(event.data, EventTriggeredMessage.class);
-                        if (triggeredMessage == null) {
-                            logger.debug("invalid EventTriggeredMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(triggeredMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeStateInformation":
-                        logger.debug("nodeStateInformation message {}", event.data);
-                        NodeStateMessage nodeStateMessage = gson.fromJson(event.data, NodeStateMessage.class);
-                        if (nodeStateMessage == null) {
-                            logger.debug("invalid NodeStateMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(nodeStateMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeData":
-                        logger.debug("nodeData message {}", event.data);
-                        Node node = gson.fromJson(event.data, Node.class);
-                        if (node == null) {
-                            logger.debug("invalid nodeData");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(new NodeDataMessage(node));
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "bridgeEvent":
-                        logger.debug("bridgeEvent message {}", event.data);
-                        BridgeEventMessage bridgeEventMessage = gson.fromJson(event.data, BridgeEventMessage.class);
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent");
-                            return;
-                        }
-
-                        switch (bridgeEventMessage.type) {
-                            case "attributeChanged":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventAttributeChanged.class);
-                                break;
-                            case "eventTriggered":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventTriggered.class);
-                                break;
-                        }
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent subtype");
-                            return;
-                        }
-
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(bridgeEventMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "ready":
-                        for (MatterClientListener listener : clientListeners) {
-                            listener.onReady();
-                        }
+                        notifyListeners(data, BridgeEventTriggered.class, MatterClientListener::onEvent);
                         break;
                     default:
+                        notifyListeners(data, BridgeEventMessage.class, MatterClientListener::onEvent);
                         break;
                 }
+                break;
+            case "ready":
+                for (MatterClientListener listener : clientListeners) {
+                    listener.onReady();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Create the message for node data received from the controller
+     *
+     * @param data the node data
+     * @return the message, or null if the node data is invalid
+     */
+    protected @Nullable NodeDataMessage createNodeDataMessage(@Nullable JsonElement data) {
+        Node node = fromJson(data, Node.class);
+        if (node == null) {
+            logger.debug("invalid nodeData");
+            return null;
+        }
+        return new NodeDataMessage(node);
+    }
+
+    private <T> void notifyListeners(@Nullable JsonElement data, Class<T> messageClass,
+            BiConsumer<MatterClientListener, T> notification) {
+        T message = fromJson(data, messageClass);
+        if (message == null) {
+            logger.debug("invalid {}", messageClass.getSimpleName());
+            return;
+        }
+        notifyListeners(message, notification);
+    }
+
+    private <T> void notifyListeners(T message, BiConsumer<MatterClientListener, T> notification) {
+        for (MatterClientListener listener : clientListeners) {
+            try {
+                notification.accept(listener, message);
+            } catch (Exception e) {
+                logger.debug("Error notifying listener", e);
             }
-        });
+        }
+    }
+
+    protected <T> @Nullable T fromJson(@Nullable JsonElement data, Class<T> messageClass) {
+        if (data == null || data.isJsonNull()) {
+            return null;
+        }
+        try {
+            return gson.fromJson(data, messageClass);
+        } catch (JsonParseException e) {
+            logger.debug("Could not deserialize {}", messageClass.getSimpleName(), e);
+            return null;
+        }
+    }
+
+    private static String getString(JsonObject object, String memberName) {
+        JsonElement element = object.get(memberName);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : "";
     }
 
     @Override
@@ -415,7 +448,8 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             return responseFuture;
         }
         String requestId = UUID.randomUUID().toString();
-        pendingRequests.put(requestId, responseFuture);
+        String function = namespace + "." + functionName;
+        pendingRequests.put(requestId, new PendingRequest(function, System.nanoTime(), responseFuture));
         Request message = new Request(requestId, namespace, functionName, args);
         String jsonMessage = gson.toJson(message);
         logger.debug("sendMessage: {}", jsonMessage);
@@ -423,9 +457,10 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
 
         // timeout handling
         scheduler.schedule(() -> {
-            CompletableFuture<JsonElement> future = pendingRequests.remove(requestId);
-            if (future != null && !future.isDone()) {
-                future.completeExceptionally(new TimeoutException(String.format(
+            PendingRequest request = pendingRequests.remove(requestId);
+            if (request != null && !request.future().isDone()) {
+                requestStatistics.computeIfAbsent(function, f -> new MatterRequestStatistics()).recordTimeout();
+                request.future().completeExceptionally(new TimeoutException(String.format(
                         "Request %s:%s timed out after %d seconds", namespace, functionName, REQUEST_TIMEOUT_SECONDS)));
             }
         }, timeoutSeconds, TimeUnit.SECONDS);
@@ -451,6 +486,16 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
         client.connect(this, uri, new ClientUpgradeRequest()).get();
     }
 
+    /**
+     * A request waiting for its response
+     *
+     * @param function the namespace and name of the requested function
+     * @param startNanos the time the request was sent
+     * @param future the future completed with the result of the request
+     */
+    protected record PendingRequest(String function, long startNanos, CompletableFuture<JsonElement> future) {
+    }
+
     @NonNullByDefault({})
     class NodeDeserializer implements JsonDeserializer<Node> {
         @Override
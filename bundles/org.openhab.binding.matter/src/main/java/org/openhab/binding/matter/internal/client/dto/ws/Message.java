@@ -1,25 +0,0 @@
-/*
- * Copyright (c) 2010-2025 Contributors to the openHAB project
- *
- * See the NOTICE file(s) distributed with this work for additional
- * information.
- *
- * This program and the accompanying materials are made available under the
- * terms of the Eclipse Public License 2.0 which is available at
- * http://www.eclipse.org/legal/epl-2.0
- *
- * SPDX-License-Identifier: EPL-2.0
- */
-package org.openhab.binding.matter.internal.client.dto.ws;
-
-import com.google.gson.JsonObject;
-
-/**
- * Message
- *
- * @author Dan Cunningham - Initial contribution
- */
-public class Message {
-    public String type;
-    public JsonObject message;
-}
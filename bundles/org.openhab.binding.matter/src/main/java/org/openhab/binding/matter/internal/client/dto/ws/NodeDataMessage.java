@@ -22,8 +22,17 @@ import org.openhab.binding.matter.internal.client.dto.Node;
 public class NodeDataMessage {
 
     public Node node;
+    /**
+     * True if none of the clusters changed since the node data was last received
+     */
+    public boolean unchanged;
 
     public NodeDataMessage(Node node) {
         this.node = node;
     }
+
+    public NodeDataMessage(Node node, boolean unchanged) {
+        this.node = node;
+        this.unchanged = unchanged;
+    }
 }
@@ -14,6 +14,7 @@ package org.openhab.binding.matter.internal.controller;
 
 import java.lang.reflect.Type;
 import java.math.BigInteger;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -23,11 +24,13 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.matter.internal.client.MatterWebsocketClient;
 import org.openhab.binding.matter.internal.client.MatterWebsocketService;
+import org.openhab.binding.matter.internal.client.dto.Node;
 import org.openhab.binding.matter.internal.client.dto.PairingCodes;
 import org.openhab.binding.matter.internal.client.dto.cluster.ClusterCommand;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.BaseCluster;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.OperationalCredentialsCluster;
 import org.openhab.binding.matter.internal.client.dto.ws.ActiveSessionInformation;
+import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
@@ -43,9 +46,12 @@ public class MatterControllerClient extends MatterWebsocketClient {
 
     public static final int PAIRING_TIMEOUT_SECONDS = 60 * 3;
 
+    private @Nullable NodeAttributeCache attributeCache;
+
     public void connect(MatterWebsocketService wss, BigInteger nodeId, String controllerName, String storagePath) {
         Map<String, String> params = Map.of("nodeId", nodeId.toString(), "controllerName", controllerName,
                 "storagePath", storagePath);
+        attributeCache = new NodeAttributeCache(Path.of(storagePath, "attribute-cache", controllerName));
         connectWhenReady(wss, params);
     }
 
@@ -90,7 +96,8 @@ public class MatterControllerClient extends MatterWebsocketClient {
      * @throws MatterRequestException if the request fails
      */
     public CompletableFuture<Void> requestAllNodeData(BigInteger nodeId) {
-        CompletableFuture<JsonElement> future = sendMessage("nodes", "requestAllData", new Object[] { nodeId });
+        CompletableFuture<JsonElement> future = sendMessage("nodes", "requestAllData",
+                new Object[] { nodeId, getDataVersions(nodeId) });
         return future.thenAccept(obj -> {
             // Do nothing, just to complete the future
         });
@@ -106,12 +113,24 @@ public class MatterControllerClient extends MatterWebsocketClient {
      */
     public CompletableFuture<Void> requestEndpointData(BigInteger nodeId, Integer endpointId) {
         CompletableFuture<JsonElement> future = sendMessage("nodes", "requestEndpointData",
-                new Object[] { nodeId, endpointId });
+                new Object[] { nodeId, endpointId, getDataVersions(nodeId) });
         return future.thenAccept(obj -> {
             // Do nothing, just to complete the future
         });
     }
 
+    /**
+     * Remove the cached cluster attributes of a node, so the next request fetches all of them
+     *
+     * @param nodeId the node ID to remove the cached attributes for
+     */
+    public void removeNodeAttributeCache(BigInteger nodeId) {
+        NodeAttributeCache attributeCache = this.attributeCache;
+        if (attributeCache != null) {
+            attributeCache.remove(nodeId);
+        }
+    }
+
     /**
      * Pair a node using a pairing code, either a manual pairing code or a matter QR code (starts with MT:)
      * 
@@ -329,4 +348,36 @@ public class MatterControllerClient extends MatterWebsocketClient {
             return sessions == null ? new ActiveSessionInformation[0] : sessions;
         });
     }
+
+    @Override
+    protected @Nullable NodeDataMessage createNodeDataMessage(@Nullable JsonElement data) {
+        NodeAttributeCache attributeCache = this.attributeCache;
+        if (attributeCache == null || data == null || !data.isJsonObject()) {
+            return super.createNodeDataMessage(data);
+        }
+        NodeAttributeCache.MergeResult result;
+        try {
+            result = attributeCache.merge(data.getAsJsonObject());
+        } catch (RuntimeException e) {
+            logger.debug("Could not merge node data with the attribute cache", e);
+            return super.createNodeDataMessage(data);
+        }
+        if (result == null) {
+            // the cache was cleared, so this requests all attributes
+            requestAllNodeData(data.getAsJsonObject().get("id").getAsBigInteger());
+            return null;
+        }
+        logger.debug("nodeData with {} changed clusters", result.changedClusters().size());
+        Node node = fromJson(result.nodeData(), Node.class);
+        if (node == null) {
+            logger.debug("invalid nodeData");
+            return null;
+        }
+        return new NodeDataMessage(node, result.changedClusters().isEmpty());
+    }
+
+    private Map<String, String> getDataVersions(BigInteger nodeId) {
+        NodeAttributeCache attributeCache = this.attributeCache;
+        return attributeCache != null ? attributeCache.getDataVersions(nodeId) : Map.of();
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.controller;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link NodeAttributeCache} persists the last known cluster attributes of each node, together with the data
+ * version of each cluster.
+ *
+ * The known data versions are sent along with node data requests, and the matter server only sends the attributes of
+ * clusters whose data version changed. Unchanged clusters are marked as such and filled in from this cache. Only the
+ * data versions are kept in memory, the attributes are read from disk when a node is merged.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NodeAttributeCache {
+
+    private static final String DATA_VERSION = "dataVersion";
+    private static final String UNCHANGED = "unchanged";
+
+    /**
+     * The node data completed from the cache.
+     *
+     * @param nodeData the node data, unchanged clusters contain the cached attributes
+     * @param changedClusters the clusters sent with attributes, as "endpoint/cluster"
+     */
+    public record MergeResult(JsonObject nodeData, Set<String> changedClusters) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(NodeAttributeCache.class);
+    private final Path directory;
+    private final Map<BigInteger, Map<String, String>> dataVersions = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory the directory the node attributes are stored in
+     */
+    public NodeAttributeCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the data versions of the cached clusters of a node.
+     *
+     * @param nodeId the node
+     * @return the data versions by "endpoint/cluster", empty if nothing is cached
+     */
+    public Map<String, String> getDataVersions(BigInteger nodeId) {
+        return dataVersions.computeIfAbsent(nodeId, id -> getDataVersions(load(id)));
+    }
+
+    /**
+     * Complete node data with the cached attributes of unchanged clusters and store the attributes of changed ones.
+     *
+     * @param nodeData the node data as sent by the matter server, which is completed in place
+     * @return the merge result, or null if a cluster was marked unchanged but is missing in the cache, in which case
+     *         the cache of the node is cleared and the node data needs to be requested again
+     */
+    public synchronized @Nullable MergeResult merge(JsonObject nodeData) {
+        BigInteger nodeId = nodeData.get("id").getAsBigInteger();
+        JsonObject rootEndpoint = nodeData.getAsJsonObject("rootEndpoint");
+        Map<String, JsonObject> cached = load(nodeId);
+        Map<String, JsonObject> merged = new HashMap<>();
+        Set<String> changedClusters = new HashSet<>();
+        if (!mergeEndpoint(rootEndpoint, cached, merged, changedClusters)) {
+            logger.debug("Attribute cache of node {} is incomplete, clearing it", nodeId);
+            remove(nodeId);
+            return null;
+        }
+        // data for the root endpoint contains all clusters of the node, otherwise only a part of it was sent
+        if (rootEndpoint.get("number").getAsInt() != 0) {
+            cached.putAll(merged);
+            merged = cached;
+        }
+        if (!changedClusters.isEmpty() || merged.size() != cached.size()) {
+            save(nodeId, merged);
+        }
+        dataVersions.put(nodeId, getDataVersions(merged));
+        return new MergeResult(nodeData, changedClusters);
+    }
+
+    /**
+     * Remove the cached attributes of a node, e.g. because it was decommissioned.
+     *
+     * @param nodeId the node
+     */
+    public synchronized void remove(BigInteger nodeId) {
+        dataVersions.remove(nodeId);
+        try {
+            Files.deleteIfExists(getFile(nodeId));
+        } catch (IOException e) {
+            logger.debug("Could not delete attribute cache of node {}", nodeId, e);
+        }
+    }
+
+    private boolean mergeEndpoint(JsonObject endpoint, Map<String, JsonObject> cached, Map<String, JsonObject> merged,
+            Set<String> changedClusters) {
+        int number = endpoint.get("number").getAsInt();
+        JsonObject clusters = endpoint.getAsJsonObject("clusters");
+        if (clusters != null) {
+            for (String clusterName : Set.copyOf(clusters.keySet())) {
+                String key = number + "/" + clusterName;
+                JsonObject cluster = clusters.getAsJsonObject(clusterName);
+                if (cluster.has(UNCHANGED)) {
+                    JsonObject cachedCluster = cached.get(key);
+                    if (cachedCluster == null || !getDataVersion(cachedCluster).equals(getDataVersion(cluster))) {
+                        return false;
+                    }
+                    clusters.add(clusterName, cachedCluster);
+                    merged.put(key, cachedCluster);
+                } else {
+                    changedClusters.add(key);
+                    merged.put(key, cluster);
+                }
+            }
+        }
+        JsonArray children = endpoint.getAsJsonArray("children");
+        if (children != null) {
+            for (JsonElement child : children) {
+                if (!mergeEndpoint(child.getAsJsonObject(), cached, merged, changedClusters)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Map<String, String> getDataVersions(Map<String, JsonObject> clusters) {
+        Map<String, String> versions = new HashMap<>();
+        clusters.forEach((key, cluster) -> {
+            String dataVersion = getDataVersion(cluster);
+            if (!dataVersion.isEmpty()) {
+                versions.put(key, dataVersion);
+            }
+        });
+        return Map.copyOf(versions);
+    }
+
+    private String getDataVersion(JsonObject cluster) {
+        JsonElement dataVersion = cluster.get(DATA_VERSION);
+        return dataVersion != null && dataVersion.isJsonPrimitive() ? dataVersion.getAsString() : "";
+    }
+
+    private Map<String, JsonObject> load(BigInteger nodeId) {
+        Map<String, JsonObject> clusters = new HashMap<>();
+        try (Reader reader = Files.newBufferedReader(getFile(nodeId), StandardCharsets.UTF_8)) {
+            JsonParser.parseReader(reader).getAsJsonObject().entrySet()
+                    .forEach(entry -> clusters.put(entry.getKey(), entry.getValue().getAsJsonObject()));
+        } catch (NoSuchFileException e) {
+            // nothing cached yet
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            logger.debug("Could not read attribute cache of node {}", nodeId, e);
+            clusters.clear();
+        }
+        return clusters;
+    }
+
+    private void save(BigInteger nodeId, Map<String, JsonObject> clusters) {
+        JsonObject json = new JsonObject();
+        clusters.forEach(json::add);
+        Path file = getFile(nodeId);
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(tempFile, json.toString(), StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Could not write attribute cache of node {}", nodeId, e);
+        }
+    }
+
+    private Path getFile(BigInteger nodeId) {
+        return directory.resolve(nodeId + ".json");
+    }
+}
@@ -119,6 +119,7 @@ public class ControllerHandler extends BaseBridgeHandler implements MatterClient
         outstandingNodeRequests.clear();
         disconnectedNodes.clear();
         linkedNodes.clear();
+        logRequestStatistics();
         client.disconnect();
     }
 
@@ -205,6 +206,7 @@ public class ControllerHandler extends BaseBridgeHandler implements MatterClient
                 updateEndpointStatuses(message.nodeId, ThingStatus.OFFLINE, ThingStatusDetail.GONE,
                         "Node " + message.state);
                 removeNode(message.nodeId);
+                client.removeNodeAttributeCache(message.nodeId);
                 break;
             case DISCONNECTED:
                 if (linkedNodes.containsKey(message.nodeId)) {
@@ -243,7 +245,7 @@ public class ControllerHandler extends BaseBridgeHandler implements MatterClient
     @Override
     public void onEvent(NodeDataMessage message) {
         logger.debug("NodeDataMessage onEvent: node {} is {}", message.node.id, message.node);
-        updateNode(message.node);
+        updateNode(message.node, message.unchanged);
     }
 
     @Override
@@ -330,12 +332,13 @@ public class ControllerHandler extends BaseBridgeHandler implements MatterClient
      * Update the endpoints (devices) for a node
      * 
      * @param node
+     * @param unchanged true if no cluster of the node changed since its data was last received
      */
-    private synchronized void updateNode(Node node) {
+    private synchronized void updateNode(Node node, boolean unchanged) {
         NodeHandler handler = linkedNodes.get(node.id);
         disconnectedNodes.remove(node.id);
         if (handler != null) {
-            handler.updateNode(node);
+            handler.updateNode(node, unchanged);
         } else {
             discoverChildNode(node);
         }
@@ -429,8 +432,17 @@ public class ControllerHandler extends BaseBridgeHandler implements MatterClient
         }
     }
 
+    private void logRequestStatistics() {
+        if (logger.isDebugEnabled()) {
+            client.getRequestStatistics().forEach((function, statistics) -> logger.debug(
+                    "Requests {}: {} answered, {} timed out, average {} ms, max {} ms", function, statistics.count(),
+                    statistics.timeouts(), Math.round(statistics.averageMillis()), Math.round(statistics.maxMillis())));
+        }
+    }
+
     private void setOffline(@Nullable String message) {
         logger.debug("setOffline {}", message);
+        logRequestStatistics();
         client.disconnect();
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, message);
         reconnect();
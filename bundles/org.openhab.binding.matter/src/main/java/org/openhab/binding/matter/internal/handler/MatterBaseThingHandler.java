@@ -22,7 +22,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -72,6 +75,7 @@ import org.openhab.core.thing.type.ChannelGroupDefinition;
 import org.openhab.core.thing.type.ChannelGroupType;
 import org.openhab.core.thing.type.ChannelGroupTypeBuilder;
 import org.openhab.core.thing.type.ChannelGroupTypeUID;
+import org.openhab.core.thing.type.ThingType;
 import org.openhab.core.thing.type.ThingTypeBuilder;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
@@ -100,6 +104,8 @@ public abstract class MatterBaseThingHandler extends BaseThingHandler
     protected final MatterConfigDescriptionProvider configDescriptionProvider;
     protected final TranslationService translationService;
     protected Map<Integer, DeviceType> devices = new HashMap<>();
+    // endpoints whose channel states are sent once one of their channels gets linked
+    private final Set<Integer> uninitializedEndpoints = ConcurrentHashMap.newKeySet();
     protected @Nullable MatterControllerClient cachedClient;
     private @Nullable ScheduledFuture<?> pollingTask;
 
@@ -165,6 +171,19 @@ public abstract class MatterBaseThingHandler extends BaseThingHandler
         super.dispose();
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        super.channelLinked(channelUID);
+        String endpointIdString = channelUID.getGroupId();
+        if (endpointIdString != null) {
+            Integer endpointId = Integer.valueOf(endpointIdString);
+            DeviceType deviceType = devices.get(endpointId);
+            if (deviceType != null && uninitializedEndpoints.remove(endpointId)) {
+                deviceType.initState();
+            }
+        }
+    }
+
     @Override
     public void handleRemoval() {
         channelTypeProvider.removeThingType(getThing().getThingTypeUID());
@@ -330,6 +349,15 @@ public abstract class MatterBaseThingHandler extends BaseThingHandler
         return cachedClient;
     }
 
+    /**
+     * Check whether the endpoints of this thing have been processed, so its channels and cluster converters exist.
+     *
+     * @return true if the endpoints have been processed
+     */
+    public boolean isMaterialized() {
+        return !devices.isEmpty();
+    }
+
     /**
      * Update the property of the thing for a given cluster and attribute name. Null values will remove the property.
      * 
@@ -497,15 +525,65 @@ public abstract class MatterBaseThingHandler extends BaseThingHandler
                 .ofNullable(getBridge()).map(bridge -> List.of(bridge.getThingTypeUID().toString())).orElse(null));
 
         thingTypeBuilder.withChannelGroupDefinitions(groupDefs);
-        channelTypeProvider.putThingType(isBridgeType() ? thingTypeBuilder.buildBridge() : thingTypeBuilder.build());
         channelTypeProvider.updateChannelGroupTypesForPrefix(dynamicThingTypeUID.getId(), groupTypes);
 
-        ThingBuilder thingBuilder = editThing().withChannels();
-        thingBuilder.withChannels(channels);
-        updateThing(thingBuilder.build());
+        // rebuilding the thing is expensive, so it is only done if the endpoints have a different structure
+        if (isThingChanged(dynamicThingTypeUID, groupDefs, channels)) {
+            channelTypeProvider
+                    .putThingType(isBridgeType() ? thingTypeBuilder.buildBridge() : thingTypeBuilder.build());
+            ThingBuilder thingBuilder = editThing().withChannels();
+            thingBuilder.withChannels(channels);
+            updateThing(thingBuilder.build());
+        } else {
+            logger.debug("Channels of {} are unchanged", getThing().getUID());
+        }
+
+        // have the clusters send their initial states, endpoints without linked channels do so once they are linked
+        uninitializedEndpoints.clear();
+        devices.forEach((endpointNumber, deviceType) -> {
+            if (hasLinkedChannels(endpointNumber)) {
+                deviceType.initState();
+            } else {
+                uninitializedEndpoints.add(endpointNumber);
+            }
+        });
+    }
+
+    private boolean isThingChanged(ThingTypeUID thingTypeUID, List<ChannelGroupDefinition> groupDefs,
+            List<Channel> channels) {
+        ThingType thingType = channelTypeProvider.getThingType(thingTypeUID, null);
+        if (thingType == null || !getThing().getThingTypeUID().equals(thingTypeUID)
+                || !getGroupTypes(thingType.getChannelGroupDefinitions()).equals(getGroupTypes(groupDefs))) {
+            return true;
+        }
+        List<Channel> currentChannels = getThing().getChannels();
+        if (currentChannels.size() != channels.size()) {
+            return true;
+        }
+        Map<ChannelUID, Channel> currentChannelsByUID = currentChannels.stream()
+                .collect(Collectors.toMap(Channel::getUID, channel -> channel, (first, second) -> first));
+        for (Channel channel : channels) {
+            Channel currentChannel = currentChannelsByUID.get(channel.getUID());
+            if (currentChannel == null
+                    || !Objects.equals(currentChannel.getChannelTypeUID(), channel.getChannelTypeUID())
+                    || !Objects.equals(currentChannel.getAcceptedItemType(), channel.getAcceptedItemType())
+                    || !Objects.equals(currentChannel.getLabel(), channel.getLabel())
+                    || !currentChannel.getConfiguration().equals(channel.getConfiguration())
+                    || !currentChannel.getProperties().equals(channel.getProperties())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, ChannelGroupTypeUID> getGroupTypes(List<ChannelGroupDefinition> groupDefs) {
+        return groupDefs.stream().collect(Collectors.toMap(ChannelGroupDefinition::getId,
+                ChannelGroupDefinition::getTypeUID, (first, second) -> first));
+    }
 
-        // have all clusters send their initial states
-        devices.values().forEach(deviceType -> deviceType.initState());
+    private boolean hasLinkedChannels(Integer endpointNumber) {
+        return getThing().getChannelsOfGroup(endpointNumber.toString()).stream()
+                .anyMatch(channel -> isLinked(channel.getUID()));
     }
 
     /**
@@ -129,6 +129,7 @@ public class NodeHandler extends MatterBaseThingHandler implements BridgeHandler
         ControllerHandler bridge = controllerHandler();
         if (bridge != null) {
             bridge.removeNode(nodeId);
+            bridge.getClient().removeNodeAttributeCache(nodeId);
         }
         super.handleRemoval();
     }
@@ -185,7 +186,22 @@ public class NodeHandler extends MatterBaseThingHandler implements BridgeHandler
         super.updateBaseEndpoint(endpoint);
     }
 
-    public void updateNode(Node node) {
+    /**
+     * Update the endpoints of the node.
+     *
+     * @param node the node data
+     * @param unchanged true if no cluster of the node changed since its data was last received, in which case the
+     *            endpoints are kept if they were already created
+     */
+    public void updateNode(Node node, boolean unchanged) {
+        if (unchanged && node.rootEndpoint.number == 0 && isMaterialized()
+                && bridgedEndpoints.values().stream().allMatch(MatterBaseThingHandler::isMaterialized)) {
+            logger.debug("Node {} is unchanged, keeping its endpoints", getNodeId());
+            if (getThing().getStatus() != ThingStatus.ONLINE) {
+                updateStatus(ThingStatus.ONLINE);
+            }
+            return;
+        }
         updateRootProperties(node.rootEndpoint);
         updateBaseEndpoint(node.rootEndpoint);
     }
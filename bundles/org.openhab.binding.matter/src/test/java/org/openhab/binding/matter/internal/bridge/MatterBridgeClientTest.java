@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.bridge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+/**
+ * Test class for the MatterBridgeClient class.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class MatterBridgeClientTest {
+
+    private final List<String> sentMessages = new CopyOnWriteArrayList<>();
+
+    private final MatterBridgeClient client = new MatterBridgeClient() {
+        @Override
+        protected CompletableFuture<JsonElement> sendMessage(String namespace, String functionName,
+                @Nullable Object args[]) {
+            sentMessages.add(namespace + "." + functionName + gson.toJson(args));
+            return CompletableFuture.completedFuture(JsonNull.INSTANCE);
+        }
+    };
+
+    @Test
+    void testStateUpdatesAreBatched() throws Exception {
+        CompletableFuture<Void> onOff = client.setEndpointState("light", "onOff", "onOff", false);
+        CompletableFuture<Void> level = client.setEndpointState("light", "levelControl", "currentLevel", 100);
+        CompletableFuture<Void> onOffAgain = client.setEndpointState("light", "onOff", "onOff", true);
+
+        CompletableFuture.allOf(onOff, level, onOffAgain).get(5, TimeUnit.SECONDS);
+
+        assertSame(onOff, onOffAgain);
+        assertEquals(List.of("bridge.setEndpointStates[[" //
+                + "{\"endpointId\":\"light\",\"clusterName\":\"onOff\",\"attributeName\":\"onOff\",\"state\":true}," //
+                + "{\"endpointId\":\"light\",\"clusterName\":\"levelControl\",\"attributeName\":\"currentLevel\","
+                + "\"state\":100}]]"), sentMessages);
+    }
+}
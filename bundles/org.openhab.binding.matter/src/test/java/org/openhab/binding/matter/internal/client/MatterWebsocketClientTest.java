@@ -13,13 +13,23 @@
 package org.openhab.binding.matter.internal.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.binding.matter.internal.client.dto.Endpoint;
 import org.openhab.binding.matter.internal.client.dto.Node;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.DescriptorCluster;
@@ -27,10 +37,13 @@ import org.openhab.binding.matter.internal.client.dto.cluster.gen.LevelControlCl
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.OccupancySensingCluster;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.OnOffCluster;
 import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
+import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.Message;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 /**
  * Test class for the MatterWebsocketClient class.
@@ -136,9 +149,9 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
-        assertNotNull(message);
-        assertEquals("response", message.type);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject();
+        assertEquals("response", message.get("type").getAsString());
+        assertEquals("resultSuccess", message.getAsJsonObject("message").get("type").getAsString());
     }
 
     @Test
@@ -170,9 +183,9 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject().getAsJsonObject("message");
         assertNotNull(message);
-        JsonObject descriptorJson = message.message.getAsJsonObject("result").getAsJsonObject("rootEndpoint")
+        JsonObject descriptorJson = message.getAsJsonObject("result").getAsJsonObject("rootEndpoint")
                 .getAsJsonObject("clusters").getAsJsonObject("Descriptor");
         DescriptorCluster descriptorCluster = client.getGson().fromJson(descriptorJson, DescriptorCluster.class);
         assertNotNull(descriptorCluster);
@@ -216,9 +229,9 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject().getAsJsonObject("message");
         assertNotNull(message);
-        JsonObject onOffClusterJson = message.message.getAsJsonObject("result").getAsJsonObject("endpoints")
+        JsonObject onOffClusterJson = message.getAsJsonObject("result").getAsJsonObject("endpoints")
                 .getAsJsonObject("1").getAsJsonObject("clusters").getAsJsonObject("OnOff");
         OnOffCluster onOffCluster = client.getGson().fromJson(onOffClusterJson, OnOffCluster.class);
         assertNotNull(onOffCluster);
@@ -270,9 +283,9 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject().getAsJsonObject("message");
         assertNotNull(message);
-        JsonObject levelControlClusterJson = message.message.getAsJsonObject("result").getAsJsonObject("endpoints")
+        JsonObject levelControlClusterJson = message.getAsJsonObject("result").getAsJsonObject("endpoints")
                 .getAsJsonObject("1").getAsJsonObject("clusters").getAsJsonObject("LevelControl");
 
         LevelControlCluster levelControlCluster = client.getGson().fromJson(levelControlClusterJson,
@@ -313,4 +326,94 @@ class MatterWebsocketClientTest {
         assertNotNull(occupancyBitmap);
         assertEquals(true, occupancyBitmap.occupied);
     }
+
+    @Test
+    void testHandleResponse() throws InterruptedException, ExecutionException {
+        CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        client.pendingRequests.put("example-id",
+                new MatterWebsocketClient.PendingRequest("nodes.getNode", System.nanoTime(), future));
+
+        client.handleMessage("""
+                {
+                    "type": "response",
+                    "message": {
+                        "type": "resultSuccess",
+                        "id": "example-id",
+                        "result": { "id": "1234" }
+                    }
+                }
+                """);
+
+        assertTrue(future.isDone());
+        assertEquals("1234", future.get().getAsJsonObject().get("id").getAsString());
+        assertTrue(client.pendingRequests.isEmpty());
+        MatterRequestStatistics.Snapshot statistics = client.getRequestStatistics().get("nodes.getNode");
+        assertNotNull(statistics);
+        assertEquals(1, statistics.count());
+        assertEquals(0, statistics.timeouts());
+    }
+
+    @Test
+    void testHandleErrorResponse() {
+        CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        client.pendingRequests.put("example-id",
+                new MatterWebsocketClient.PendingRequest("nodes.getNode", System.nanoTime(), future));
+
+        client.handleMessage("""
+                {
+                    "type": "response",
+                    "message": {
+                        "type": "resultError",
+                        "id": "example-id",
+                        "error": "failed"
+                    }
+                }
+                """);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(MatterRequestException.class, exception.getCause());
+    }
+
+    @Test
+    void testHandleBridgeEvent() {
+        MatterClientListener listener = mock(MatterClientListener.class);
+        client.addListener(listener);
+
+        client.handleMessage("""
+                {
+                    "type": "event",
+                    "message": {
+                        "type": "bridgeEvent",
+                        "data": {
+                            "type": "attributeChanged",
+                            "data": {
+                                "endpointId": "light",
+                                "clusterName": "onOff",
+                                "attributeName": "onOff",
+                                "data": true
+                            }
+                        }
+                    }
+                }
+                """);
+
+        ArgumentCaptor<BridgeEventMessage> captor = ArgumentCaptor.forClass(BridgeEventMessage.class);
+        verify(listener).onEvent(captor.capture());
+        BridgeEventAttributeChanged event = assertInstanceOf(BridgeEventAttributeChanged.class, captor.getValue());
+        assertEquals("light", event.data.endpointId);
+        assertEquals("onOff", event.data.attributeName);
+    }
+
+    @Test
+    void testHandleInvalidMessage() {
+        MatterClientListener listener = mock(MatterClientListener.class);
+        client.addListener(listener);
+
+        client.handleMessage("not json");
+        client.handleMessage("""
+                { "type": "event", "message": { "type": "attributeChanged" } }
+                """);
+
+        verify(listener, never()).onEvent(any(AttributeChangedMessage.class));
+    }
 }
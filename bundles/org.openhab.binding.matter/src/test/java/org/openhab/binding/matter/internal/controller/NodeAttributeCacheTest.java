@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Test class for the NodeAttributeCache class.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class NodeAttributeCacheTest {
+
+    private static final BigInteger NODE_ID = new BigInteger("1234567890");
+
+    private static final String FULL_NODE = """
+            {
+                "id": "1234567890",
+                "rootEndpoint": {
+                    "number": 0,
+                    "clusters": {
+                        "BasicInformation": { "id": 40, "name": "BasicInformation", "vendorName": "ACME",
+                            "dataVersion": "a1" }
+                    },
+                    "children": [
+                        {
+                            "number": 1,
+                            "clusters": {
+                                "OnOff": { "id": 6, "name": "OnOff", "onOff": true, "dataVersion": "b1" }
+                            },
+                            "children": []
+                        }
+                    ]
+                }
+            }
+            """;
+
+    private static final String PARTIAL_NODE = """
+            {
+                "id": "1234567890",
+                "rootEndpoint": {
+                    "number": 0,
+                    "clusters": {
+                        "BasicInformation": { "id": 40, "name": "BasicInformation", "dataVersion": "a1",
+                            "unchanged": true }
+                    },
+                    "children": [
+                        {
+                            "number": 1,
+                            "clusters": {
+                                "OnOff": { "id": 6, "name": "OnOff", "onOff": false, "dataVersion": "b2" }
+                            },
+                            "children": []
+                        }
+                    ]
+                }
+            }
+            """;
+
+    @TempDir
+    @NonNullByDefault({})
+    Path directory;
+
+    @Test
+    void testMergeFillsInUnchangedClusters() {
+        NodeAttributeCache cache = new NodeAttributeCache(directory);
+        NodeAttributeCache.MergeResult first = cache.merge(parse(FULL_NODE));
+        assertNotNull(first);
+        assertEquals(Set.of("0/BasicInformation", "1/OnOff"), first.changedClusters());
+        assertEquals(Map.of("0/BasicInformation", "a1", "1/OnOff", "b1"), cache.getDataVersions(NODE_ID));
+
+        // a new cache instance reads the persisted attributes
+        NodeAttributeCache restoredCache = new NodeAttributeCache(directory);
+        assertEquals(Map.of("0/BasicInformation", "a1", "1/OnOff", "b1"), restoredCache.getDataVersions(NODE_ID));
+        NodeAttributeCache.MergeResult second = restoredCache.merge(parse(PARTIAL_NODE));
+        assertNotNull(second);
+        assertEquals(Set.of("1/OnOff"), second.changedClusters());
+        JsonObject basicInformation = second.nodeData().getAsJsonObject("rootEndpoint").getAsJsonObject("clusters")
+                .getAsJsonObject("BasicInformation");
+        assertEquals("ACME", basicInformation.get("vendorName").getAsString());
+        assertFalse(basicInformation.has("unchanged"));
+        assertEquals(Map.of("0/BasicInformation", "a1", "1/OnOff", "b2"), restoredCache.getDataVersions(NODE_ID));
+    }
+
+    @Test
+    void testMergeWithoutCachedClusterClearsCache() {
+        NodeAttributeCache cache = new NodeAttributeCache(directory);
+
+        assertNull(cache.merge(parse(PARTIAL_NODE)));
+        assertTrue(cache.getDataVersions(NODE_ID).isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        NodeAttributeCache cache = new NodeAttributeCache(directory);
+        cache.merge(parse(FULL_NODE));
+
+        cache.remove(NODE_ID);
+
+        assertTrue(cache.getDataVersions(NODE_ID).isEmpty());
+        assertTrue(new NodeAttributeCache(directory).getDataVersions(NODE_ID).isEmpty());
+    }
+
+    private JsonObject parse(String json) {
+        return JsonParser.parseString(json).getAsJsonObject();
+    }
+}
@@ -147,4 +147,6 @@ public class SunSpecConstants {
     public static final int SUNSPEC_ID_SIZE = 2;
     // Size of any block header in words
     public static final int MODEL_HEADER_SIZE = 2;
+    // Maximum length of the common block (without header) in words, including the optional pad register
+    public static final int COMMON_BLOCK_MAX_LENGTH = 66;
 }
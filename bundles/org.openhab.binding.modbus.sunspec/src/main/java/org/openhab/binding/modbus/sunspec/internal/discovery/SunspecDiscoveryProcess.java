@@ -14,11 +14,17 @@ package org.openhab.binding.modbus.sunspec.internal.discovery;
 
 import static org.openhab.binding.modbus.sunspec.internal.SunSpecConstants.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,6 +39,7 @@ import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
 import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
 import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
@@ -50,6 +57,10 @@ import org.slf4j.LoggerFactory;
  * It scans trough the defined model items and notifies the
  * discovery service about the discovered devices
  *
+ * The model blocks found are stored in a {@link SunspecModelMapCache}. When
+ * the same device is discovered again, only the headers of the cached blocks
+ * are verified, reading as many headers per request as possible.
+ *
  * @author Nagy Attila Gabor - Initial contribution
  */
 @NonNullByDefault
@@ -108,19 +119,52 @@ public class SunspecDiscoveryProcess {
      */
     private @Nullable CommonModelBlock lastCommonBlock = null;
 
+    /**
+     * The first common block found. This identifies
+     * the device in the model map cache
+     */
+    private @Nullable CommonModelBlock firstCommonBlock = null;
+
     /**
      * Communication interface to the endpoint
      */
     private ModbusCommunicationInterface comms;
 
+    /**
+     * Model map cache of the devices found earlier
+     */
+    private final SunspecModelMapCache modelMapCache;
+
+    /**
+     * Blocks found while walking through the model blocks.
+     * These are stored in the cache when the walk completes
+     */
+    private final List<ModelBlock> walkedBlocks = new ArrayList<>();
+
+    /**
+     * Cached model blocks to verify with a single request
+     */
+    private static class HeaderBatch {
+        private final int address;
+        private int length;
+        private final List<ModelBlock> blocks = new ArrayList<>();
+
+        private HeaderBatch(ModelBlock block, int length) {
+            this.address = block.address;
+            this.length = length;
+            blocks.add(block);
+        }
+    }
+
     /**
      * New instances of this class should get a reference to the handler
      *
      * @throws EndpointNotInitializedException
      */
-    public SunspecDiscoveryProcess(ModbusEndpointThingHandler handler, ModbusDiscoveryListener listener)
-            throws EndpointNotInitializedException {
+    public SunspecDiscoveryProcess(ModbusEndpointThingHandler handler, ModbusDiscoveryListener listener,
+            SunspecModelMapCache modelMapCache) throws EndpointNotInitializedException {
         this.handler = handler;
+        this.modelMapCache = modelMapCache;
 
         ModbusCommunicationInterface localComms = handler.getCommunicationInterface();
         if (localComms != null) {
@@ -180,7 +224,170 @@ public class SunspecDiscoveryProcess {
         logger.trace("Header looks correct");
         baseAddress += SUNSPEC_ID_SIZE;
 
-        lookForModelBlock();
+        readFirstCommonBlock();
+    }
+
+    /**
+     * Read the common block following the SunSpec header, together with its header
+     */
+    private void readFirstCommonBlock() {
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(slaveId,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, baseAddress, // Start address
+                MODEL_HEADER_SIZE + COMMON_BLOCK_MAX_LENGTH, // number or words to return
+                maxTries);
+
+        comms.submitOneTimePoll(request, result -> result.getRegisters().ifPresent(this::firstCommonBlockReceived),
+                failure -> {
+                    logger.debug("Could not read common block at address {}, looking for model blocks one by one",
+                            baseAddress);
+                    lookForModelBlock();
+                });
+    }
+
+    /**
+     * We received the first common block. Use it to look up the model map of this device from the cache
+     */
+    private void firstCommonBlockReceived(ModbusRegisterArray registers) {
+        Optional<Integer> moduleID = extractUInt16(registers, 0);
+        Optional<Integer> blockLength = extractUInt16(registers, 1);
+        if (moduleID.isEmpty() || blockLength.isEmpty() || moduleID.get() != COMMON_BLOCK
+                || blockLength.get() > COMMON_BLOCK_MAX_LENGTH) {
+            logger.debug("No common block with expected size right after the SunSpec header");
+            lookForModelBlock();
+            return;
+        }
+        ModelBlock block = new ModelBlock();
+        block.address = baseAddress;
+        block.moduleID = COMMON_BLOCK;
+        block.length = blockLength.get() + MODEL_HEADER_SIZE;
+        logger.debug("SunSpec detector found block {}", block);
+
+        blocksFound++;
+        walkedBlocks.add(block);
+        CommonModelBlock commonBlock = commonBlockParser.parse(slice(registers, 0, block.length));
+        lastCommonBlock = commonBlock;
+        firstCommonBlock = commonBlock;
+        baseAddress += block.length;
+
+        List<ModelBlock> cachedBlocks = modelMapCache.get(commonBlock);
+        if (cachedBlocks != null && !cachedBlocks.isEmpty() && cachedBlocks.get(0).address == block.address
+                && cachedBlocks.get(0).moduleID == COMMON_BLOCK && cachedBlocks.get(0).length == block.length) {
+            verifyCachedBlocks(cachedBlocks.subList(1, cachedBlocks.size()));
+        } else {
+            lookForModelBlock();
+        }
+    }
+
+    /**
+     * Verify the headers of the cached model blocks following the first common block.
+     * All requests are submitted at once, and results are reported when all of them have completed.
+     *
+     * @param blocks cached blocks to verify
+     */
+    private void verifyCachedBlocks(List<ModelBlock> blocks) {
+        List<HeaderBatch> batches = createHeaderBatches(blocks);
+        logger.debug("Verifying {} cached SunSpec blocks with {} requests", blocks.size(), batches.size());
+        if (batches.isEmpty()) {
+            cachedBlocksVerified(blocks, true, Map.of());
+            return;
+        }
+        AtomicInteger pending = new AtomicInteger(batches.size());
+        AtomicBoolean valid = new AtomicBoolean(true);
+        Map<Integer, CommonModelBlock> commonBlocks = new ConcurrentHashMap<>();
+        for (HeaderBatch batch : batches) {
+            ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(slaveId,
+                    ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, batch.address, // Start address
+                    batch.length, // number or words to return
+                    maxTries);
+            comms.submitOneTimePoll(request, result -> {
+                Optional<ModbusRegisterArray> registers = result.getRegisters();
+                if (registers.isEmpty() || !verifyHeaderBatch(batch, registers.get(), commonBlocks)) {
+                    valid.set(false);
+                }
+                if (pending.decrementAndGet() == 0) {
+                    cachedBlocksVerified(blocks, valid.get(), commonBlocks);
+                }
+            }, failure -> {
+                logger.debug("Error verifying cached blocks at address {}: {}", batch.address,
+                        failure.getCause().getMessage());
+                valid.set(false);
+                if (pending.decrementAndGet() == 0) {
+                    cachedBlocksVerified(blocks, false, commonBlocks);
+                }
+            });
+        }
+    }
+
+    /**
+     * Group the headers of the cached blocks into as few requests as possible.
+     * Common blocks are read completely, since their content is needed for the discovery results.
+     */
+    private List<HeaderBatch> createHeaderBatches(List<ModelBlock> blocks) {
+        List<HeaderBatch> batches = new ArrayList<>();
+        @Nullable
+        HeaderBatch current = null;
+        for (ModelBlock block : blocks) {
+            if (block.moduleID == COMMON_BLOCK) {
+                batches.add(new HeaderBatch(block, block.length));
+                current = null;
+            } else if (current != null && block.address + MODEL_HEADER_SIZE
+                    - current.address <= ModbusConstants.MAX_REGISTERS_READ_COUNT) {
+                current.blocks.add(block);
+                current.length = block.address + MODEL_HEADER_SIZE - current.address;
+            } else {
+                current = new HeaderBatch(block, MODEL_HEADER_SIZE);
+                batches.add(current);
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Check that the headers read match the cached blocks
+     *
+     * @return true if all headers of the batch match
+     */
+    private boolean verifyHeaderBatch(HeaderBatch batch, ModbusRegisterArray registers,
+            Map<Integer, CommonModelBlock> commonBlocks) {
+        for (ModelBlock block : batch.blocks) {
+            int offset = block.address - batch.address;
+            Optional<Integer> moduleID = extractUInt16(registers, offset);
+            Optional<Integer> blockLength = extractUInt16(registers, offset + 1);
+            if (moduleID.isEmpty() || blockLength.isEmpty() || moduleID.get() != block.moduleID
+                    || blockLength.get() + MODEL_HEADER_SIZE != block.length) {
+                logger.debug("Cached block {} does not match the device anymore", block);
+                return false;
+            }
+            if (block.moduleID == COMMON_BLOCK) {
+                commonBlocks.put(block.address, commonBlockParser.parse(registers));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * All cached blocks have been verified. Report them, or fall back to walking through the blocks
+     */
+    private void cachedBlocksVerified(List<ModelBlock> blocks, boolean valid,
+            Map<Integer, CommonModelBlock> commonBlocks) {
+        CommonModelBlock localFirstCommonBlock = firstCommonBlock;
+        if (!valid) {
+            if (localFirstCommonBlock != null) {
+                modelMapCache.remove(localFirstCommonBlock);
+            }
+            logger.debug("Cached model map is outdated, looking for model blocks one by one");
+            lookForModelBlock();
+            return;
+        }
+        for (ModelBlock block : blocks) {
+            blocksFound++;
+            if (block.moduleID == COMMON_BLOCK) {
+                lastCommonBlock = commonBlocks.get(block.address);
+            } else if (block.moduleID != FINAL_BLOCK) {
+                createDiscoveryResult(block);
+            }
+        }
+        parsingFinished();
     }
 
     /**
@@ -218,8 +425,10 @@ public class SunspecDiscoveryProcess {
         logger.debug("SunSpec detector found block {}", block);
 
         blocksFound++;
+        walkedBlocks.add(block);
 
         if (block.moduleID == FINAL_BLOCK) {
+            storeWalkedBlocks();
             parsingFinished();
         } else {
             baseAddress += block.length;
@@ -256,7 +465,11 @@ public class SunspecDiscoveryProcess {
      */
     private void parseCommonBlock(ModbusRegisterArray registers) {
         logger.trace("Got common block data: {}", registers);
-        lastCommonBlock = commonBlockParser.parse(registers);
+        CommonModelBlock commonBlock = commonBlockParser.parse(registers);
+        lastCommonBlock = commonBlock;
+        if (firstCommonBlock == null) {
+            firstCommonBlock = commonBlock;
+        }
         lookForModelBlock(); // Continue parsing
     }
 
@@ -302,6 +515,31 @@ public class SunspecDiscoveryProcess {
         listener.thingDiscovered(result);
     }
 
+    /**
+     * Store the blocks found by walking through the model blocks
+     */
+    private void storeWalkedBlocks() {
+        CommonModelBlock localFirstCommonBlock = firstCommonBlock;
+        if (localFirstCommonBlock != null && !walkedBlocks.isEmpty() && walkedBlocks.get(0).moduleID == COMMON_BLOCK) {
+            modelMapCache.put(localFirstCommonBlock, walkedBlocks);
+        }
+    }
+
+    /**
+     * Extract an uint16 value
+     */
+    private Optional<Integer> extractUInt16(ModbusRegisterArray registers, int index) {
+        return ModbusBitUtilities.extractStateFromRegisters(registers, index, ValueType.UINT16)
+                .map(DecimalType::intValue);
+    }
+
+    /**
+     * Get a copy of a part of the registers
+     */
+    private ModbusRegisterArray slice(ModbusRegisterArray registers, int index, int length) {
+        return new ModbusRegisterArray(Arrays.copyOfRange(registers.getBytes(), index * 2, (index + length) * 2));
+    }
+
     /**
      * Parsing of model blocks finished
      * Now we have to report back to the handler the common block and the block we were looking for
@@ -322,6 +560,7 @@ public class SunspecDiscoveryProcess {
                 // so we treat this situation as normal.
                 logger.debug(
                         "Seems like slave device does not report an end block. Continuing with the dectected blocks");
+                storeWalkedBlocks();
                 parsingFinished();
                 return;
             }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.sunspec.internal.discovery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.sunspec.internal.dto.CommonModelBlock;
+import org.openhab.binding.modbus.sunspec.internal.dto.ModelBlock;
+import org.openhab.core.storage.Storage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of the SunSpec model blocks found on a device.
+ *
+ * The model map is keyed by the manufacturer, model and serial number found in the first common block, so that
+ * a rediscovery of the same device only needs to verify the model headers instead of walking through all the blocks.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SunspecModelMapCache {
+
+    private static final String BLOCK_SEPARATOR = ";";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private final Logger logger = LoggerFactory.getLogger(SunspecModelMapCache.class);
+
+    private final Storage<String> storage;
+
+    public SunspecModelMapCache(Storage<String> storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Get the cached model blocks of a device
+     *
+     * @param commonBlock the first common block of the device
+     * @return the model blocks in address order, or null if the device is unknown
+     */
+    public @Nullable List<ModelBlock> get(CommonModelBlock commonBlock) {
+        String key = keyOf(commonBlock);
+        if (key == null) {
+            return null;
+        }
+        String value = storage.get(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            List<ModelBlock> blocks = new ArrayList<>();
+            for (String encodedBlock : value.split(BLOCK_SEPARATOR)) {
+                String[] fields = encodedBlock.split(FIELD_SEPARATOR);
+                ModelBlock block = new ModelBlock();
+                block.address = Integer.parseInt(fields[0]);
+                block.moduleID = Integer.parseInt(fields[1]);
+                block.length = Integer.parseInt(fields[2]);
+                blocks.add(block);
+            }
+            return blocks;
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            logger.debug("Discarding invalid cached model map for {}: {}", key, value);
+            storage.remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Store the model blocks of a device
+     *
+     * @param commonBlock the first common block of the device
+     * @param blocks the model blocks in address order
+     */
+    public void put(CommonModelBlock commonBlock, List<ModelBlock> blocks) {
+        String key = keyOf(commonBlock);
+        if (key == null || blocks.isEmpty()) {
+            return;
+        }
+        storage.put(key, blocks.stream().map(block -> block.address + FIELD_SEPARATOR + block.moduleID
+                + FIELD_SEPARATOR + block.length).collect(Collectors.joining(BLOCK_SEPARATOR)));
+    }
+
+    /**
+     * Forget the model blocks of a device
+     *
+     * @param commonBlock the first common block of the device
+     */
+    public void remove(CommonModelBlock commonBlock) {
+        String key = keyOf(commonBlock);
+        if (key != null) {
+            storage.remove(key);
+        }
+    }
+
+    /**
+     * Devices without a serial number can't be identified reliably, so they are never cached
+     */
+    private @Nullable String keyOf(CommonModelBlock commonBlock) {
+        if (commonBlock.serialNumber.isBlank()) {
+            return null;
+        }
+        return String.join("|", commonBlock.manufacturer.trim(), commonBlock.model.trim(),
+                commonBlock.serialNumber.trim());
+    }
+}
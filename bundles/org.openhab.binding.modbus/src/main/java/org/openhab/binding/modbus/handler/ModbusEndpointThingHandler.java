@@ -14,6 +14,7 @@ package org.openhab.binding.modbus.handler;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.internal.ModbusReadCoalescingPlanner;
 import org.openhab.core.common.registry.Identifiable;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.thing.ThingUID;
@@ -51,4 +52,13 @@ public interface ModbusEndpointThingHandler extends Identifiable<ThingUID> {
      * @return boolean true if the discovery is enabled
      */
     boolean isDiscoveryEnabled();
+
+    /**
+     * Gets the planner coalescing the regular polls of child pollers
+     *
+     * @return planner, or <code>null</code> in case read coalescing is disabled for this endpoint
+     */
+    default @Nullable ModbusReadCoalescingPlanner getReadCoalescingPlanner() {
+        return null;
+    }
 }
@@ -22,6 +22,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusReadCoalescingPlanner;
+import org.openhab.binding.modbus.internal.ModbusReadCoalescingPlanner.PlannedRead;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
@@ -189,6 +191,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable PlannedRead plannedRead;
+    private volatile @Nullable ModbusReadCoalescingPlanner planner;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -312,7 +316,15 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        PlannedRead localPlannedRead = this.plannedRead;
+        ModbusReadCoalescingPlanner localPlanner = this.planner;
+        if (localPlannedRead != null && localPlanner != null) {
+            logger.debug("Unregistering polling from read coalescing planner");
+            localPlanner.unregisterRegularPoll(localPlannedRead);
+        }
         this.pollTask = null;
+        this.plannedRead = null;
+        this.planner = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +339,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || plannedRead != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -360,6 +372,13 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         if (config.getRefresh() <= 0L) {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
+        } else if (slaveEndpointThingHandler
+                .getReadCoalescingPlanner() instanceof ModbusReadCoalescingPlanner localPlanner) {
+            logger.debug("Registering polling with read coalescing planner");
+            this.planner = localPlanner;
+            plannedRead = localPlanner.registerRegularPoll(localRequest, config.getRefresh(), callbackDelegator,
+                    callbackDelegator);
+            updateStatus(ThingStatus.ONLINE);
         } else {
             logger.debug("Registering polling with ModbusManager");
             pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
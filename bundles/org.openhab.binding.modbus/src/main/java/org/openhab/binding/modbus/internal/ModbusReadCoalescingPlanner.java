@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ModbusReadCoalescingPlanner} merges the regular polls of several pollers sharing the same endpoint into
+ * as few Modbus requests as possible.
+ *
+ * Polls with equal function code, refresh interval and maximum tries are sorted by start address. Adjacent or
+ * overlapping ranges are merged as long as the gap between them is at most {@code maxGap} registers (or coils) and
+ * the merged request still fits into a single protocol data unit. The response of a merged request is sliced and
+ * delivered to each original poller as if it had issued its own request.
+ *
+ * Re-planning is debounced, so that the many registrations happening during startup result in a single plan.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadCoalescingPlanner {
+
+    private static final long REPLAN_DELAY_MILLIS = 500;
+
+    /**
+     * Regular poll registered by a single poller
+     */
+    public static class PlannedRead {
+        private final ModbusReadRequestBlueprint request;
+        private final long refreshMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private PlannedRead(ModbusReadRequestBlueprint request, long refreshMillis, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.refreshMillis = refreshMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        private int getStart() {
+            return request.getReference();
+        }
+
+        private int getEnd() {
+            return request.getReference() + request.getDataLength();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PlannedRead(request=%s, refreshMillis=%d)", request, refreshMillis);
+        }
+    }
+
+    /**
+     * Key of polls that can potentially be merged together
+     */
+    private record GroupKey(ModbusReadFunctionCode functionCode, long refreshMillis, int maxTries) {
+    }
+
+    /**
+     * Single merged request and the polls it serves
+     */
+    private class MergedRead implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final ModbusReadRequestBlueprint request;
+        private final List<PlannedRead> members;
+
+        private MergedRead(ModbusReadRequestBlueprint request, List<PlannedRead> members) {
+            this.request = request;
+            this.members = members;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            for (PlannedRead member : members) {
+                int offset = member.getStart() - request.getReference();
+                int length = member.request.getDataLength();
+                AsyncModbusReadResult memberResult;
+                if (registers.isPresent()) {
+                    memberResult = new AsyncModbusReadResult(member.request,
+                            sliceRegisters(registers.get(), offset, length));
+                } else if (bits.isPresent()) {
+                    memberResult = new AsyncModbusReadResult(member.request, sliceBits(bits.get(), offset, length));
+                } else {
+                    logger.debug("Merged read {} returned neither registers nor bits", request);
+                    continue;
+                }
+                member.resultCallback.handle(memberResult);
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (PlannedRead member : members) {
+                member.failureCallback.handle(new AsyncModbusFailure<>(member.request, failure.getCause()));
+            }
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusReadCoalescingPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final int maxGap;
+    private final List<PlannedRead> plannedReads = new CopyOnWriteArrayList<>();
+    private final List<PollTask> activePollTasks = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> replanJob;
+    private boolean disposed;
+
+    /**
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler used for debouncing re-planning
+     * @param maxGap maximum number of unused registers (or coils) tolerated between two merged ranges
+     */
+    public ModbusReadCoalescingPlanner(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler,
+            int maxGap) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.maxGap = Math.max(0, maxGap);
+    }
+
+    /**
+     * Register a regular poll to be coalesced with other polls of the same endpoint
+     *
+     * @param request request of the poller
+     * @param refreshMillis poll interval, in milliseconds
+     * @param resultCallback callback receiving the (sliced) results
+     * @param failureCallback callback receiving the failures
+     * @return handle that can be used to unregister the poll
+     */
+    public synchronized PlannedRead registerRegularPoll(ModbusReadRequestBlueprint request, long refreshMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        PlannedRead read = new PlannedRead(request, refreshMillis, resultCallback, failureCallback);
+        plannedReads.add(read);
+        scheduleReplan();
+        return read;
+    }
+
+    /**
+     * Unregister previously registered poll
+     *
+     * @param read handle returned by {@link #registerRegularPoll}
+     */
+    public synchronized void unregisterRegularPoll(PlannedRead read) {
+        if (plannedReads.remove(read)) {
+            scheduleReplan();
+        }
+    }
+
+    /**
+     * Stop all merged polls
+     */
+    public synchronized void dispose() {
+        disposed = true;
+        ScheduledFuture<?> localReplanJob = replanJob;
+        if (localReplanJob != null) {
+            localReplanJob.cancel(false);
+            replanJob = null;
+        }
+        unregisterActivePollTasks();
+        plannedReads.clear();
+    }
+
+    private void scheduleReplan() {
+        if (disposed) {
+            return;
+        }
+        ScheduledFuture<?> localReplanJob = replanJob;
+        if (localReplanJob != null) {
+            localReplanJob.cancel(false);
+        }
+        replanJob = scheduler.schedule(this::replan, REPLAN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void replan() {
+        replanJob = null;
+        if (disposed) {
+            return;
+        }
+        unregisterActivePollTasks();
+        Map<GroupKey, List<PlannedRead>> groups = new LinkedHashMap<>();
+        for (PlannedRead read : plannedReads) {
+            groups.computeIfAbsent(new GroupKey(read.request.getFunctionCode(), read.refreshMillis,
+                    read.request.getMaxTries()), key -> new ArrayList<>()).add(read);
+        }
+        int requestCount = 0;
+        for (Map.Entry<GroupKey, List<PlannedRead>> group : groups.entrySet()) {
+            for (MergedRead mergedRead : merge(group.getKey(), group.getValue())) {
+                activePollTasks.add(comms.registerRegularPoll(mergedRead.request, group.getKey().refreshMillis(), 0,
+                        mergedRead, mergedRead));
+                requestCount++;
+            }
+        }
+        logger.debug("Coalesced {} polls into {} requests", plannedReads.size(), requestCount);
+    }
+
+    private List<MergedRead> merge(GroupKey key, List<PlannedRead> reads) {
+        int maxLength = switch (key.functionCode()) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+        List<PlannedRead> sorted = new ArrayList<>(reads);
+        sorted.sort(Comparator.comparingInt(PlannedRead::getStart).thenComparingInt(PlannedRead::getEnd));
+
+        List<MergedRead> merged = new ArrayList<>();
+        List<PlannedRead> current = new ArrayList<>();
+        int currentStart = 0;
+        int currentEnd = 0;
+        for (PlannedRead read : sorted) {
+            if (!current.isEmpty() && read.getStart() - currentEnd <= maxGap
+                    && Math.max(currentEnd, read.getEnd()) - currentStart <= maxLength) {
+                current.add(read);
+                currentEnd = Math.max(currentEnd, read.getEnd());
+                continue;
+            }
+            if (!current.isEmpty()) {
+                merged.add(newMergedRead(key, current, currentStart, currentEnd));
+            }
+            current = new ArrayList<>();
+            current.add(read);
+            currentStart = read.getStart();
+            currentEnd = read.getEnd();
+        }
+        if (!current.isEmpty()) {
+            merged.add(newMergedRead(key, current, currentStart, currentEnd));
+        }
+        return merged;
+    }
+
+    private MergedRead newMergedRead(GroupKey key, List<PlannedRead> members, int start, int end) {
+        int unitId = Objects.requireNonNull(members.get(0)).request.getUnitID();
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(unitId, key.functionCode(), start,
+                end - start, key.maxTries());
+        return new MergedRead(request, List.copyOf(members));
+    }
+
+    private void unregisterActivePollTasks() {
+        for (PollTask task : activePollTasks) {
+            comms.unregisterRegularPoll(task);
+        }
+        activePollTasks.clear();
+    }
+
+    private static ModbusRegisterArray sliceRegisters(ModbusRegisterArray registers, int offset, int length) {
+        byte[] bytes = registers.getBytes();
+        return new ModbusRegisterArray(Arrays.copyOfRange(bytes, offset * 2, (offset + length) * 2));
+    }
+
+    private static BitArray sliceBits(BitArray bits, int offset, int length) {
+        BitArray slice = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            slice.setBit(i, bits.getBit(offset + i));
+        }
+        return slice;
+    }
+}
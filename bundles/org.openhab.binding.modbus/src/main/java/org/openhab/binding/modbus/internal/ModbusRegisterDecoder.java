@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Decodes register data to states directly from the raw register bytes.
+ *
+ * Bits and 16 or 32 bit integer value types are decoded into a primitive without intermediate objects. Other value
+ * types are delegated to {@link ModbusBitUtilities#extractStateFromRegisters}, yielding identical results.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class ModbusRegisterDecoder {
+
+    private static final DecimalType ONE = new DecimalType(1);
+
+    private ModbusRegisterDecoder() {
+    }
+
+    /**
+     * Extract state from registers
+     *
+     * @param registers register data
+     * @param index index of the value, see {@link ModbusBitUtilities#extractStateFromRegisters}
+     * @param type value type
+     * @return decoded state, or {@link UnDefType#UNDEF} in case the value is not a valid number
+     * @throws IllegalArgumentException when index is out of bounds
+     */
+    public static State extractState(ModbusRegisterArray registers, int index, ValueType type) {
+        byte[] bytes = registers.getBytes();
+        switch (type) {
+            case BIT: {
+                int register = index / 16;
+                checkBounds(bytes, register, 1, index);
+                return (readUnsignedRegister(bytes, register) >> (index % 16) & 1) == 1 ? ONE : DecimalType.ZERO;
+            }
+            case INT16:
+                checkBounds(bytes, index, 1, index);
+                return new DecimalType((short) readUnsignedRegister(bytes, index));
+            case UINT16:
+                checkBounds(bytes, index, 1, index);
+                return new DecimalType(readUnsignedRegister(bytes, index));
+            case INT32:
+                checkBounds(bytes, index, 2, index);
+                return new DecimalType(
+                        readUnsignedRegister(bytes, index) << 16 | readUnsignedRegister(bytes, index + 1));
+            case UINT32:
+                checkBounds(bytes, index, 2, index);
+                return new DecimalType(
+                        ((long) readUnsignedRegister(bytes, index) << 16) | readUnsignedRegister(bytes, index + 1));
+            case INT32_SWAP:
+                checkBounds(bytes, index, 2, index);
+                return new DecimalType(
+                        readUnsignedRegister(bytes, index + 1) << 16 | readUnsignedRegister(bytes, index));
+            case UINT32_SWAP:
+                checkBounds(bytes, index, 2, index);
+                return new DecimalType(
+                        ((long) readUnsignedRegister(bytes, index + 1) << 16) | readUnsignedRegister(bytes, index));
+            default:
+                return ModbusBitUtilities.extractStateFromRegisters(registers, index, type).map(state -> (State) state)
+                        .orElse(UnDefType.UNDEF);
+        }
+    }
+
+    private static int readUnsignedRegister(byte[] bytes, int register) {
+        return (bytes[2 * register] & 0xff) << 8 | (bytes[2 * register + 1] & 0xff);
+    }
+
+    private static void checkBounds(byte[] bytes, int firstRegister, int registerCount, int index) {
+        if (firstRegister < 0 || 2 * (firstRegister + registerCount) > bytes.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Index=%d with %d registers is out of bounds (register count %d)", index, registerCount,
+                    bytes.length / 2));
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusReadCoalescingPlanner;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -48,6 +49,7 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusReadCoalescingPlanner readCoalescingPlanner;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +78,9 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    int maxGap = getReadCoalescingMaxGap();
+                    readCoalescingPlanner = maxGap < 0 ? null
+                            : new ModbusReadCoalescingPlanner(comms, scheduler, maxGap);
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +98,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusReadCoalescingPlanner localPlanner = readCoalescingPlanner;
+        if (localPlanner != null) {
+            localPlanner.dispose();
+            readCoalescingPlanner = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +120,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    @Override
+    public @Nullable ModbusReadCoalescingPlanner getReadCoalescingPlanner() {
+        return readCoalescingPlanner;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -123,6 +138,12 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
+    /**
+     * Must be overriden by subclasses to return the maximum gap tolerated when coalescing reads of child pollers.
+     * Negative value disables read coalescing.
+     */
+    protected abstract int getReadCoalescingMaxGap();
+
     /**
      * Format error message in case some other endpoint has been configured with different
      * {@link EndpointPoolConfiguration}
@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,6 +35,7 @@ import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusRegisterDecoder;
 import org.openhab.binding.modbus.internal.ModbusTransformation;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
@@ -76,7 +78,6 @@ import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
-import org.openhab.core.types.UnDefType;
 import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,6 +119,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     }
     // data channels + 4 for read/write last error/success
     private static final int NUMER_OF_CHANNELS_HINT = CHANNEL_ID_TO_ACCEPTED_TYPES.size() + 4;
+    // largest value type (64 bit) spans 4 registers
+    private static final int MAX_READ_BYTES = 8;
+    private static final byte[] BIT_SET = { 1 };
+    private static final byte[] BIT_CLEAR = { 0 };
 
     //
     // If you change the below default/initial values, please update the corresponding values in dispose()
@@ -145,6 +150,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    private final byte[] lastReadBytes = new byte[MAX_READ_BYTES];
+    private volatile int lastReadByteCount = -1;
+    private volatile long lastReadProcessedMillis;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -480,6 +488,15 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        lastReadByteCount = -1;
+        lastReadProcessedMillis = 0L;
+    }
+
+    @Override
+    public synchronized void channelLinked(ChannelUID channelUID) {
+        // Process next poll fully so that the newly linked channel receives its state
+        lastReadByteCount = -1;
+        super.channelLinked(channelUID);
     }
 
     @Override
@@ -826,17 +843,25 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         // respectively.
         // with >=16 bit types, this is index of first register
         int extractIndex;
+        int registerIndexRelative = readIndex.get() - pollStart;
         if (readValueType.getBits() >= 16) {
             // Invariant, checked in initialize
             assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
+            extractIndex = registerIndexRelative;
         } else {
             int subIndex = readSubIndex.orElse(0);
             int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+            extractIndex = registerIndexRelative * itemsPerRegister + subIndex;
+        }
+        // Skip extraction, transformation and channel updates altogether when the registers of this value have not
+        // changed
+        int registerCount = Math.max(1, readValueType.getBits() / 16);
+        if (isUnchangedSinceLastRead(registers.getBytes(), registerIndexRelative * 2, registerCount * 2)) {
+            logger.trace("Thing {} registers unchanged, skipping update. Registers {} for request {}",
+                    thing.getUID(), registers, request);
+            return;
         }
-        numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
-                .map(state -> (State) state).orElse(UnDefType.UNDEF);
+        numericState = ModbusRegisterDecoder.extractState(registers, extractIndex, readValueType);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -852,6 +877,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        if (isUnchangedSinceLastRead(boolValue ? BIT_SET : BIT_CLEAR, 0, 1)) {
+            logger.trace("Thing {} bit unchanged, skipping update. Bits {} for request {}", thing.getUID(), bits,
+                    request);
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -865,6 +895,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
+        // Process next successful read fully to bring the thing back online
+        lastReadByteCount = -1;
         if (error instanceof ModbusConnectionException) {
             logger.trace("Thing {} '{}' had {} error on read: {}", getThing().getUID(), getThing().getLabel(),
                     error.getClass().getSimpleName(), error.toString());
@@ -901,6 +933,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isWriteEnabled) {
             return;
         }
+        // Process next successful read fully to bring the thing back online
+        lastReadByteCount = -1;
         if (error instanceof ModbusConnectionException) {
             logger.debug("Thing {} '{}' had {} error on write: {}", getThing().getUID(), getThing().getLabel(),
                     error.getClass().getSimpleName(), error.toString());
@@ -945,6 +979,43 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Check whether the data of this thing is unchanged since it was last processed
+     *
+     * Data is considered changed when it differs from the previously processed data, or when
+     * updateUnchangedValuesEveryMillis has passed since the data was last processed. Value of 0 for
+     * updateUnchangedValuesEveryMillis disables the check, i.e. all data is processed.
+     *
+     * When data is unchanged, only the last read success channel is updated. Otherwise the data is remembered for
+     * the next comparison.
+     *
+     * @param bytes data
+     * @param offset index of the first byte relevant to this thing
+     * @param length number of bytes relevant to this thing
+     * @return whether processing of the data can be skipped
+     */
+    private boolean isUnchangedSinceLastRead(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length > MAX_READ_BYTES || offset + length > bytes.length) {
+            // Let the extraction report the invalid index
+            lastReadByteCount = -1;
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (updateUnchangedValuesEveryMillis > 0L && lastReadByteCount == length
+                && now - lastReadProcessedMillis <= updateUnchangedValuesEveryMillis
+                && Arrays.equals(lastReadBytes, 0, length, bytes, offset, offset + length)) {
+            ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+            if (isLinked(lastReadSuccessUID)) {
+                tryUpdateState(lastReadSuccessUID, new DateTimeType());
+            }
+            return true;
+        }
+        System.arraycopy(bytes, offset, lastReadBytes, 0, length);
+        lastReadByteCount = length;
+        lastReadProcessedMillis = now;
+        return false;
+    }
+
     /**
      * Update linked channels
      *
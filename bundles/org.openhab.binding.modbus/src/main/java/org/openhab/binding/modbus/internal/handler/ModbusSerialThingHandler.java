@@ -95,6 +95,15 @@ public class ModbusSerialThingHandler
                 Optional.ofNullable(this.endpoint).map(e -> e.getPortName()).orElse("<null>"));
     }
 
+    @Override
+    protected int getReadCoalescingMaxGap() {
+        ModbusSerialConfiguration localConfig = config;
+        if (localConfig == null || !localConfig.isCoalesceReads()) {
+            return -1;
+        }
+        return localConfig.getCoalesceMaxGap();
+    }
+
     @Override
     public int getSlaveId() throws EndpointNotInitializedException {
         ModbusSerialConfiguration config = this.config;
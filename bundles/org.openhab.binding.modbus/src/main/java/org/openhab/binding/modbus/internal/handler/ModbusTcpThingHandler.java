@@ -73,6 +73,15 @@ public class ModbusTcpThingHandler
                 Optional.ofNullable(this.endpoint).map(e -> String.valueOf(e.getPort())).orElse("<null>"));
     }
 
+    @Override
+    protected int getReadCoalescingMaxGap() {
+        ModbusTcpConfiguration localConfig = config;
+        if (localConfig == null || !localConfig.isCoalesceReads()) {
+            return -1;
+        }
+        return localConfig.getCoalesceMaxGap();
+    }
+
     @Override
     public int getSlaveId() throws EndpointNotInitializedException {
         ModbusTcpConfiguration localConfig = config;
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadCoalescingPlannerTest {
+
+    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private final List<Runnable> scheduledJobs = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        comms = mock(ModbusCommunicationInterface.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            scheduledJobs.add(invocation.getArgument(0));
+            return null;
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private void runScheduledJobs() {
+        List<Runnable> jobs = new ArrayList<>(scheduledJobs);
+        scheduledJobs.clear();
+        jobs.forEach(Runnable::run);
+    }
+
+    private static ModbusReadRequestBlueprint holdingRequest(int start, int length) {
+        return new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback() {
+        return mock(ModbusFailureCallback.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ModbusReadRequestBlueprint> registeredRequests(int expectedCount) {
+        ArgumentCaptor<ModbusReadRequestBlueprint> captor = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        verify(comms, times(expectedCount)).registerRegularPoll(captor.capture(), anyLong(), anyLong(),
+                any(ModbusReadCallback.class), any(ModbusFailureCallback.class));
+        return captor.getAllValues();
+    }
+
+    @Test
+    public void testAdjacentRangesAreMerged() {
+        ModbusReadCoalescingPlanner planner = new ModbusReadCoalescingPlanner(comms, scheduler, 0);
+        planner.registerRegularPoll(holdingRequest(10, 2), 1000, mock(ModbusReadCallback.class), failureCallback());
+        planner.registerRegularPoll(holdingRequest(12, 3), 1000, mock(ModbusReadCallback.class), failureCallback());
+        runScheduledJobs();
+
+        List<ModbusReadRequestBlueprint> requests = registeredRequests(1);
+        assertThat(requests.get(0).getReference(), is(equalTo(10)));
+        assertThat(requests.get(0).getDataLength(), is(equalTo(5)));
+    }
+
+    @Test
+    public void testGapLargerThanToleranceIsNotMerged() {
+        ModbusReadCoalescingPlanner planner = new ModbusReadCoalescingPlanner(comms, scheduler, 2);
+        planner.registerRegularPoll(holdingRequest(0, 2), 1000, mock(ModbusReadCallback.class), failureCallback());
+        planner.registerRegularPoll(holdingRequest(5, 2), 1000, mock(ModbusReadCallback.class), failureCallback());
+        runScheduledJobs();
+
+        registeredRequests(2);
+    }
+
+    @Test
+    public void testDifferentRefreshIsNotMerged() {
+        ModbusReadCoalescingPlanner planner = new ModbusReadCoalescingPlanner(comms, scheduler, 10);
+        planner.registerRegularPoll(holdingRequest(0, 2), 1000, mock(ModbusReadCallback.class), failureCallback());
+        planner.registerRegularPoll(holdingRequest(2, 2), 5000, mock(ModbusReadCallback.class), failureCallback());
+        runScheduledJobs();
+
+        registeredRequests(2);
+    }
+
+    @Test
+    public void testMaxRequestSizeIsRespected() {
+        ModbusReadCoalescingPlanner planner = new ModbusReadCoalescingPlanner(comms, scheduler, 10);
+        planner.registerRegularPoll(holdingRequest(0, 100), 1000, mock(ModbusReadCallback.class), failureCallback());
+        planner.registerRegularPoll(holdingRequest(100, 100), 1000, mock(ModbusReadCallback.class),
+                failureCallback());
+        runScheduledJobs();
+
+        registeredRequests(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testResultIsSlicedPerPoller() {
+        ModbusReadCoalescingPlanner planner = new ModbusReadCoalescingPlanner(comms, scheduler, 1);
+        ModbusReadCallback first = mock(ModbusReadCallback.class);
+        ModbusReadCallback second = mock(ModbusReadCallback.class);
+        ModbusReadRequestBlueprint firstRequest = holdingRequest(0, 2);
+        ModbusReadRequestBlueprint secondRequest = holdingRequest(3, 1);
+        planner.registerRegularPoll(firstRequest, 1000, first, failureCallback());
+        planner.registerRegularPoll(secondRequest, 1000, second, failureCallback());
+        runScheduledJobs();
+
+        ArgumentCaptor<ModbusReadRequestBlueprint> requestCaptor = ArgumentCaptor
+                .forClass(ModbusReadRequestBlueprint.class);
+        ArgumentCaptor<ModbusReadCallback> callbackCaptor = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(comms).registerRegularPoll(requestCaptor.capture(), anyLong(), anyLong(), callbackCaptor.capture(),
+                any(ModbusFailureCallback.class));
+        callbackCaptor.getValue().handle(
+                new AsyncModbusReadResult(requestCaptor.getValue(), new ModbusRegisterArray(1, 2, 3, 4)));
+
+        ArgumentCaptor<AsyncModbusReadResult> firstResult = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(first).handle(firstResult.capture());
+        assertThat(firstResult.getValue().getRequest(), is(equalTo(firstRequest)));
+        assertThat(firstResult.getValue().getRegisters().get(), is(equalTo(new ModbusRegisterArray(1, 2))));
+
+        ArgumentCaptor<AsyncModbusReadResult> secondResult = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(second).handle(secondResult.capture());
+        assertThat(secondResult.getValue().getRequest(), is(equalTo(secondRequest)));
+        assertThat(secondResult.getValue().getRegisters().get(), is(equalTo(new ModbusRegisterArray(4))));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testFailureIsDeliveredToAllPollers() {
+        ModbusReadCoalescingPlanner planner = new ModbusReadCoalescingPlanner(comms, scheduler, 0);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> first = failureCallback();
+        ModbusFailureCallback<ModbusReadRequestBlueprint> second = failureCallback();
+        planner.registerRegularPoll(holdingRequest(0, 1), 1000, mock(ModbusReadCallback.class), first);
+        planner.registerRegularPoll(holdingRequest(1, 1), 1000, mock(ModbusReadCallback.class), second);
+        runScheduledJobs();
+
+        ArgumentCaptor<ModbusReadRequestBlueprint> requestCaptor = ArgumentCaptor
+                .forClass(ModbusReadRequestBlueprint.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusReadRequestBlueprint>> failureCaptor = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms).registerRegularPoll(requestCaptor.capture(), anyLong(), anyLong(), any(ModbusReadCallback.class),
+                failureCaptor.capture());
+        failureCaptor.getValue().handle(new AsyncModbusFailure<>(requestCaptor.getValue(), new Exception("fail")));
+
+        verify(first).handle(any(AsyncModbusFailure.class));
+        verify(second).handle(any(AsyncModbusFailure.class));
+    }
+}
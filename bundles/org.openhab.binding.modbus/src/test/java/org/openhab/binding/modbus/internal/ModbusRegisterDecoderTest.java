@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusRegisterDecoderTest {
+
+    private static final ModbusRegisterArray REGISTERS = new ModbusRegisterArray(new byte[] { (byte) 0xff,
+            (byte) 0xfe, (byte) 0x80, 0x00, 0x12, 0x34, 0x7f, (byte) 0xff, 0x00, 0x01, (byte) 0xa5, 0x5a });
+
+    public static Stream<Arguments> data() {
+        Stream.Builder<Arguments> builder = Stream.builder();
+        for (ValueType type : ValueType.values()) {
+            int registerCount = Math.max(1, type.getBits() / 16);
+            int itemsPerRegister = type.getBits() >= 16 ? 1 : 16 / type.getBits();
+            for (int index = 0; index <= (REGISTERS.size() - registerCount + 1) * itemsPerRegister - 1; index++) {
+                builder.add(Arguments.of(type, index));
+            }
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testIdenticalToBitUtilities(ValueType type, int index) {
+        State expected = ModbusBitUtilities.extractStateFromRegisters(REGISTERS, index, type)
+                .map(state -> (State) state).orElse(UnDefType.UNDEF);
+        assertEquals(expected, ModbusRegisterDecoder.extractState(REGISTERS, index, type));
+    }
+
+    @Test
+    public void testOutOfBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ModbusRegisterDecoder.extractState(REGISTERS, REGISTERS.size() - 1, ValueType.INT32));
+        assertThrows(IllegalArgumentException.class,
+                () -> ModbusRegisterDecoder.extractState(REGISTERS, REGISTERS.size(), ValueType.UINT16));
+    }
+}
@@ -25,16 +25,17 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -47,6 +48,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
+import org.openhab.core.common.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +64,9 @@ import org.slf4j.LoggerFactory;
 public class PresenceDetection implements IPRequestReceivedCallback {
 
     private static final Duration DESTINATION_TTL = Duration.ofMinutes(5);
+    // upper limit of detection checks running at the same time, for all things
+    private static final int MAX_CONCURRENT_CHECKS = 32;
+    private static final ExecutorService DETECTION_EXECUTOR = createDetectionExecutor();
 
     NetworkUtils networkUtils = new NetworkUtils();
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
@@ -92,20 +97,33 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private final PresenceDetectionListener updateListener;
     private ScheduledExecutorService scheduledExecutorService;
+    private final ExecutorService detectionExecutor;
 
     private Set<String> networkInterfaceNames = Set.of();
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService detectionExecutorService;
-    protected @Nullable ExecutorService waitForResultExecutorService;
     private String dhcpState = "off";
     int detectionChecks;
     private String lastReachableNetworkInterfaceName = "";
 
+    // the running presence detection and its checks, guarded by this
+    private @Nullable PresenceDetectionValue runningDetection;
+    private List<CompletableFuture<?>> runningChecks = List.of();
+
     public PresenceDetection(final PresenceDetectionListener updateListener,
             ScheduledExecutorService scheduledExecutorService, Duration cacheDeviceStateTime)
             throws IllegalArgumentException {
+        this(updateListener, scheduledExecutorService, cacheDeviceStateTime, DETECTION_EXECUTOR);
+    }
+
+    /**
+     * @param detectionExecutor the executor running the detection checks, instead of the binding-wide one
+     */
+    public PresenceDetection(final PresenceDetectionListener updateListener,
+            ScheduledExecutorService scheduledExecutorService, Duration cacheDeviceStateTime,
+            ExecutorService detectionExecutor) throws IllegalArgumentException {
         this.updateListener = updateListener;
         this.scheduledExecutorService = scheduledExecutorService;
+        this.detectionExecutor = detectionExecutor;
         cache = new ExpiringCacheAsync<>(cacheDeviceStateTime);
     }
 
@@ -322,8 +340,19 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(this::performPresenceDetection).thenAccept(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
+    /**
+     * Returns the executor for running the detection checks. Unless another one is given, it is shared by all
+     * presence detections, so that the number of concurrently running checks is bounded binding-wide.
+     */
+    protected ExecutorService getDetectionExecutor() {
+        return detectionExecutor;
+    }
+
+    private static ExecutorService createDetectionExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_CHECKS, MAX_CONCURRENT_CHECKS, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new NamedThreadFactory("network-presence"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     private void withDestinationAddress(Consumer<InetAddress> consumer) {
@@ -335,24 +364,27 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
     }
 
+    /**
+     * Cancels the checks of a running presence detection. Checks waiting for a thread are not run anymore, running
+     * checks are interrupted. The running detection does not send a final result.
+     */
     private void stopDetection() {
-        ExecutorService detectionExecutorService = this.detectionExecutorService;
-        if (detectionExecutorService != null) {
-            logger.debug("Shutting down detectionExecutorService");
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
+        List<CompletableFuture<?>> checks;
+        synchronized (this) {
+            checks = runningChecks;
+            runningChecks = List.of();
+            runningDetection = null;
         }
-        ExecutorService waitForResultExecutorService = this.waitForResultExecutorService;
-        if (waitForResultExecutorService != null) {
-            logger.debug("Shutting down waitForResultExecutorService");
-            waitForResultExecutorService.shutdownNow();
-            this.waitForResultExecutorService = null;
+        if (!checks.isEmpty()) {
+            logger.debug("Cancelling {} detection checks for {}", checks.size(), hostname);
+            checks.forEach(check -> check.cancel(true));
         }
     }
 
     /**
      * Perform a presence detection with ICMP-, ARP ping and TCP connection attempts simultaneously.
-     * A fixed thread pool will be created with as many threads as necessary to perform all tests at once.
+     * The checks are run by the binding-wide detection executor, TCP connection attempts are non-blocking.
+     * A presence detection that is still running is cancelled.
      *
      * Please be aware of the following restrictions:
      * <ul>
@@ -375,7 +407,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             } else if (!networkInterfaceNames.isEmpty()) {
                 interfaceNames = networkInterfaceNames;
             } else {
-                interfaceNames = networkUtils.getInterfaceNames();
+                interfaceNames = getArpPingInterfaceNames();
             }
             detectionChecks += interfaceNames.size();
         }
@@ -390,41 +422,34 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         stopDetection();
 
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
-        this.detectionExecutorService = detectionExecutorService;
-        ExecutorService waitForResultExecutorService = getThreadsFor(1);
-        this.waitForResultExecutorService = waitForResultExecutorService;
+        ExecutorService detectionExecutorService = getDetectionExecutor();
 
-        List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+        List<CompletableFuture<?>> completableFutures = new ArrayList<>();
+        synchronized (this) {
+            runningDetection = pdv;
+        }
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
+            addDetection(completableFutures, () -> performServicePing(pdv, tcpPort), detectionExecutorService);
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
+        // ARP ping for IPv4 addresses. Use single check for Windows tool and
+        // one check for each network interface for other tools
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
             addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
                 // arp-ping.exe tool capable of handling multiple interfaces by itself
                 performArpPing(pdv, "");
             }, detectionExecutorService);
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
-                addAsyncDetection(completableFutures, () -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performArpPing(pdv, interfaceName);
-                }, detectionExecutorService);
+                addAsyncDetection(completableFutures, () -> performArpPing(pdv, interfaceName),
+                        detectionExecutorService);
             }
         }
 
         // ICMP ping
         if (pingMethod != IpPingMethodEnum.DISABLED) {
             addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
                     performJavaPing(pdv);
                 } else {
@@ -433,16 +458,31 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             }, detectionExecutorService);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            Thread.currentThread().setName("presenceDetectionResult_" + hostname);
-            logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            completableFutures.forEach(completableFuture -> {
-                try {
-                    completableFuture.join();
-                } catch (CancellationException | CompletionException e) {
-                    logger.debug("Detection future failed to complete", e);
+        boolean stopped;
+        synchronized (this) {
+            stopped = runningDetection != pdv;
+            if (!stopped) {
+                runningChecks = List.copyOf(completableFutures);
+            }
+        }
+        if (stopped) {
+            // stopped while the checks were queued
+            completableFutures.forEach(check -> check.cancel(true));
+        }
+
+        logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
+        return CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture<?>[0])).handle((result, e) -> {
+            synchronized (this) {
+                if (runningDetection != pdv) {
+                    logger.debug("Presence detection for {} has been cancelled", hostname);
+                    return pdv;
                 }
-            });
+                runningDetection = null;
+                runningChecks = List.of();
+            }
+            if (e != null) {
+                logger.debug("Detection future failed to complete", e);
+            }
             logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
 
             if (!pdv.isReachable()) {
@@ -453,18 +493,66 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             logger.debug("Sending listener final result: {}", pdv);
             updateListener.finalDetectionResult(pdv);
 
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
             detectionChecks = 0;
 
             return pdv;
-        }, waitForResultExecutorService);
+        });
+    }
+
+    /**
+     * Returns the network interfaces to perform ARP pings on. If the destination is found in the kernel ARP table,
+     * only the interface of that entry is used, otherwise all interfaces.
+     */
+    private Set<String> getArpPingInterfaceNames() {
+        InetAddress cached = cachedDestination;
+        if (cached != null) {
+            String interfaceName = networkUtils.getArpTableInterfaceName(cached.getHostAddress());
+            if (interfaceName != null) {
+                return Set.of(interfaceName);
+            }
+        }
+        return networkUtils.getInterfaceNames();
     }
 
-    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable,
+    private void addAsyncDetection(List<CompletableFuture<?>> completableFutures, Runnable detectionRunnable,
             ExecutorService executorService) {
-        completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executorService)
-                .orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
+        addDetection(completableFutures, () -> {
+            detectionRunnable.run();
+            return CompletableFuture.completedFuture(null);
+        }, executorService);
+    }
+
+    /**
+     * Queues a detection check on the executor. The timeout of the check starts when the check is run, so that
+     * checks waiting for a free thread do not fail. A check that is cancelled or times out is interrupted.
+     */
+    private void addDetection(List<CompletableFuture<?>> completableFutures,
+            Supplier<CompletableFuture<?>> detection, ExecutorService executorService) {
+        CompletableFuture<@Nullable Object> check = new CompletableFuture<>();
+        FutureTask<@Nullable Void> task = new FutureTask<>(() -> {
+            if (check.isDone()) {
+                return;
+            }
+            check.orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                detection.get().whenComplete((result, e) -> {
+                    if (e != null) {
+                        check.completeExceptionally(e);
+                    } else {
+                        check.complete(result);
+                    }
+                });
+            } catch (RuntimeException e) {
+                check.completeExceptionally(e);
+            }
+        }, null);
+        check.whenComplete((result, e) -> {
+            if (e != null) {
+                task.cancel(true);
+            }
+        });
+        completableFutures.add(check);
+        executorService.execute(task);
     }
 
     /**
@@ -508,20 +596,44 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         updateListener.partialDetectionResult(pdv);
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    /**
+     * Updates the {@link PresenceDetectionValue} of a running presence detection. Results of checks that end after
+     * the final result has been sent, or after the presence detection has been cancelled, are dropped.
+     *
+     * @return <code>true</code> if the result has been taken
+     */
+    private synchronized boolean updateDetectionResult(PresenceDetectionValue pdv, PresenceDetectionType type,
+            Duration latency, int tcpPort) {
+        if (pdv != runningDetection) {
+            logger.trace("Dropping late {} result for {}", type, hostname);
+            return false;
+        }
+        updateReachable(pdv, type, latency, tcpPort);
+        return true;
+    }
+
+    /**
+     * Performs a non-blocking TCP connection attempt on the given port.
+     *
+     * @param pdv the {@link PresenceDetectionValue} to update
+     * @param tcpPort the TCP port
+     * @return a {@link CompletableFuture} completed with the {@link PingResult} once the attempt has finished
+     */
+    protected CompletableFuture<PingResult> performServicePing(PresenceDetectionValue pdv, int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
-                // This should not happen and might be a user configuration issue, we log a warning message therefore.
-                logger.warn("Could not create a socket connection", e);
-            }
-        });
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(new PingResult(false, Duration.ZERO));
+        }
+        return networkUtils.servicePingAsync(destinationAddress.getHostAddress(), tcpPort, timeout)
+                .thenApply(pingResult -> {
+                    if (pingResult.isSuccess()) {
+                        updateDetectionResult(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+                    }
+                    return pingResult;
+                });
     }
 
     /**
@@ -547,8 +659,9 @@ public class PresenceDetection implements IPRequestReceivedCallback {
                         destinationAddress.getHostAddress(), timeout);
                 if (pingResult != null) {
                     if (pingResult.isSuccess()) {
-                        updateReachable(pdv, ARP_PING, getLatency(pingResult));
-                        lastReachableNetworkInterfaceName = interfaceName;
+                        if (updateDetectionResult(pdv, ARP_PING, getLatency(pingResult), -1)) {
+                            lastReachableNetworkInterfaceName = interfaceName;
+                        }
                     } else if (lastReachableNetworkInterfaceName.equals(interfaceName)) {
                         logger.trace("{} is no longer reachable on network interface: {}", hostname, interfaceName);
                         lastReachableNetworkInterfaceName = "";
@@ -575,7 +688,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         withDestinationAddress(destinationAddress -> {
             PingResult pingResult = networkUtils.javaPing(timeout, destinationAddress);
             if (pingResult.isSuccess()) {
-                updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                updateDetectionResult(pdv, ICMP_PING, getLatency(pingResult), -1);
             }
         });
     }
@@ -588,7 +701,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
                 PingResult pingResult = networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(),
                         timeout);
                 if (pingResult != null && pingResult.isSuccess()) {
-                    updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                    updateDetectionResult(pdv, ICMP_PING, getLatency(pingResult), -1);
                 }
             } catch (IOException e) {
                 logger.trace("Failed to execute a native ping for {}", hostname, e);
@@ -645,6 +758,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             future.cancel(true);
             refreshJob = null;
         }
+        stopDetection();
         InetAddress cached = cachedDestination;
         if (cached != null) {
             disableDHCPListen(cached);
@@ -20,7 +20,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +32,8 @@ import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
@@ -49,6 +50,8 @@ import org.slf4j.LoggerFactory;
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
  * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * The TCP ports are scanned by a {@link TcpPortScanner}, with a configurable rate of connection attempts.
+ * The pings of a scan are run by an executor of the scan, so that they do not delay the presence detection of things.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
@@ -58,6 +61,10 @@ import org.slf4j.LoggerFactory;
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final Duration PING_TIMEOUT = Duration.ofMillis(500);
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    static final String PARAMETER_CONNECTIONS_PER_SECOND = "connectionsPerSecond";
+    static final int DEFAULT_CONNECTIONS_PER_SECOND = 1000;
+    // upper limit of pings running at the same time during a scan
+    static final int MAXIMUM_CONCURRENT_PINGS = 32;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -65,8 +72,9 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     // TCP port 554 (Windows share / Linux samba)
     // TCP port 1025 (Xbox / MS-RPC)
     private Set<Integer> tcpServicePorts = Set.of(80, 548, 554, 1025);
-    private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
+    private int connectionsPerSecond = DEFAULT_CONNECTIONS_PER_SECOND;
+    private @Nullable TcpPortScanner portScanner = null;
+    private @Nullable ExecutorService pingExecutor = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
@@ -92,14 +100,15 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         // configuration, the values are automatically available in all handlers. Because they all
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
+        Integer rate = config == null ? null
+                : ConfigParser.valueAs(config.get(PARAMETER_CONNECTIONS_PER_SECOND), Integer.class);
+        connectionsPerSecond = rate == null || rate <= 0 ? DEFAULT_CONNECTIONS_PER_SECOND : rate;
     }
 
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
-        }
+        cancelScan();
         super.deactivate();
     }
 
@@ -121,25 +130,31 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts the TCP port scan and the ping presence detection for each IP on each interface on the network.
+     * Discovery results are submitted as soon as a device is found.
      */
     @Override
-    protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
+    protected synchronized void startScan() {
+        cancelScan();
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
-        scannedIPcount.set(0);
+        // the port scan counts as one additional task
+        final int taskCount = networkIPs.size() + 1;
+        final AtomicInteger completedTasks = new AtomicInteger(0);
+
+        TcpPortScanner scanner = new TcpPortScanner(PING_TIMEOUT, connectionsPerSecond);
+        portScanner = scanner;
+        scanner.scan(networkIPs, tcpServicePorts, this::newServiceDevice)
+                .whenComplete((result, e) -> taskCompleted(scanner, completedTasks, taskCount));
+
+        ExecutorService executor = Executors.newFixedThreadPool(MAXIMUM_CONCURRENT_PINGS,
+                new NamedThreadFactory("network-discovery"));
+        pingExecutor = executor;
 
         for (String ip : networkIPs) {
-            final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
+            final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2), executor);
             pd.setHostname(ip);
             pd.setIOSDevice(true);
             pd.setUseDhcpSniffing(false);
@@ -147,40 +162,38 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             // Ping devices
             pd.setUseIcmpPing(true);
             pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            pd.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                try {
-                    pd.getValue();
-                } catch (ExecutionException | InterruptedException e) {
-                    stopScan();
-                }
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
-                }
-            });
+            // TCP devices are found by the port scanner
+
+            pd.getValue(value -> taskCompleted(scanner, completedTasks, taskCount));
+        }
+    }
+
+    private synchronized void taskCompleted(TcpPortScanner scanner, AtomicInteger completedTasks, int taskCount) {
+        // ignore late results of a previous scan
+        if (completedTasks.incrementAndGet() == taskCount && scanner == portScanner) {
+            logger.trace("Scan of {} IPs successful", taskCount - 1);
+            stopScan();
         }
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
+        cancelScan();
+    }
 
-        try {
-            service.awaitTermination(PING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+    private synchronized void cancelScan() {
+        TcpPortScanner scanner = portScanner;
+        if (scanner != null) {
+            scanner.cancel();
+            portScanner = null;
+        }
+        ExecutorService executor = pingExecutor;
+        if (executor != null) {
+            // queued pings are dropped, running pings are interrupted
+            executor.shutdownNow();
+            pingExecutor = null;
         }
-        service.shutdown();
-        executorService = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -189,7 +202,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the {@link TcpPortScanner} started in
+     * {@link #startScan()}.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -222,7 +236,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the presence detections started in
+     * {@link #startScan()}.
      *
      * @param ip The device IP
      */
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TcpPortScanner} tries to connect to a number of TCP ports on a number of hosts, using non-blocking
+ * connects on a single {@link Selector}. All connects are performed by a single thread.
+ * <p>
+ * The rate at which new connects are started is limited, as well as the number of pending connects. Open ports are
+ * reported as soon as the connection is established.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpPortScanner {
+    // keep well below common limits of open file descriptors
+    static final int MAX_PENDING_CONNECTS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(TcpPortScanner.class);
+
+    private final long timeoutNanos;
+    private final long connectIntervalNanos;
+    private final NamedThreadFactory threadFactory = new NamedThreadFactory("network-portscan", true);
+    private volatile boolean cancelled;
+    private volatile @Nullable Selector selector;
+
+    /**
+     * Pending connect, ordered by start time in the pending queue. As all connects use the same timeout, the head of
+     * the queue is always the next to expire.
+     */
+    private static class PendingConnect {
+        private final String host;
+        private final int port;
+        private final SocketChannel channel;
+        private final long deadline;
+        private boolean done;
+
+        private PendingConnect(String host, int port, SocketChannel channel, long deadline) {
+            this.host = host;
+            this.port = port;
+            this.channel = channel;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * @param timeout the timeout of a single connect
+     * @param connectsPerSecond the maximum number of connects started per second
+     */
+    public TcpPortScanner(Duration timeout, int connectsPerSecond) {
+        this.timeoutNanos = timeout.toNanos();
+        this.connectIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, connectsPerSecond);
+    }
+
+    /**
+     * Start scanning the given ports on the given hosts. The scan is performed on a separate thread.
+     *
+     * @param hosts the IP addresses to scan
+     * @param ports the TCP ports to scan on every host
+     * @param openPortConsumer called with the host and port, for each open port found
+     * @return a {@link CompletableFuture} completed when all connects have finished or the scan was cancelled
+     */
+    public CompletableFuture<@Nullable Void> scan(Collection<String> hosts, Collection<Integer> ports,
+            BiConsumer<String, Integer> openPortConsumer) {
+        CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+        List<String> hostList = List.copyOf(hosts);
+        List<Integer> portList = List.copyOf(ports);
+        threadFactory.newThread(() -> {
+            try (Selector selector = Selector.open()) {
+                this.selector = selector;
+                run(selector, hostList, portList, openPortConsumer);
+                future.complete(null);
+            } catch (IOException | RuntimeException e) {
+                logger.debug("TCP port scan failed", e);
+                future.completeExceptionally(e);
+            } finally {
+                this.selector = null;
+            }
+        }).start();
+        return future;
+    }
+
+    /**
+     * Stop the scan. Pending connects are aborted.
+     */
+    public void cancel() {
+        cancelled = true;
+        Selector localSelector = selector;
+        if (localSelector != null) {
+            localSelector.wakeup();
+        }
+    }
+
+    private void run(Selector selector, List<String> hosts, List<Integer> ports,
+            BiConsumer<String, Integer> openPortConsumer) throws IOException {
+        if (ports.isEmpty()) {
+            return;
+        }
+        ArrayDeque<PendingConnect> pendingConnects = new ArrayDeque<>();
+        int pendingCount = 0;
+        int hostIndex = 0;
+        int portIndex = 0;
+        InetAddress address = null;
+        long nextConnect = System.nanoTime();
+
+        try {
+            while (!cancelled && (hostIndex < hosts.size() || pendingCount > 0)) {
+                long now = System.nanoTime();
+
+                // start new connects, as far as rate and pending limits allow
+                while (hostIndex < hosts.size() && pendingCount < MAX_PENDING_CONNECTS && now - nextConnect >= 0) {
+                    String host = hosts.get(hostIndex);
+                    int port = ports.get(portIndex);
+                    if (portIndex == 0) {
+                        address = resolve(host);
+                    }
+                    if (++portIndex == ports.size()) {
+                        portIndex = 0;
+                        hostIndex++;
+                    }
+                    if (address == null) {
+                        continue;
+                    }
+                    // do not accumulate connects after the pending limit has been reached
+                    nextConnect = Math.max(nextConnect, now - connectIntervalNanos) + connectIntervalNanos;
+                    PendingConnect connect = connect(selector, address, host, port, now, openPortConsumer);
+                    if (connect != null) {
+                        pendingConnects.add(connect);
+                        pendingCount++;
+                    }
+                }
+
+                // abort expired connects
+                PendingConnect head;
+                while ((head = pendingConnects.peek()) != null && (head.done || now - head.deadline >= 0)) {
+                    pendingConnects.poll();
+                    if (!head.done) {
+                        close(head);
+                        pendingCount--;
+                    }
+                }
+
+                long waitNanos = Long.MAX_VALUE;
+                if (head != null) {
+                    waitNanos = head.deadline - now;
+                }
+                if (hostIndex < hosts.size() && pendingCount < MAX_PENDING_CONNECTS) {
+                    waitNanos = Math.min(waitNanos, nextConnect - now);
+                }
+                if (waitNanos == Long.MAX_VALUE) {
+                    continue;
+                }
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    PendingConnect connect = (PendingConnect) key.attachment();
+                    if (connect == null || connect.done) {
+                        continue;
+                    }
+                    if (finishConnect(connect)) {
+                        openPortConsumer.accept(connect.host, connect.port);
+                    }
+                    close(connect);
+                    pendingCount--;
+                }
+            }
+        } finally {
+            for (PendingConnect connect : pendingConnects) {
+                close(connect);
+            }
+        }
+    }
+
+    private @Nullable InetAddress resolve(String host) {
+        try {
+            return InetAddress.getByName(host);
+        } catch (IOException e) {
+            logger.trace("Skipping host {}: {}", host, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Start a non-blocking connect
+     *
+     * @return the pending connect, or null if the connect has already finished
+     */
+    private @Nullable PendingConnect connect(Selector selector, InetAddress address, String host, int port, long now,
+            BiConsumer<String, Integer> openPortConsumer) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(new InetSocketAddress(address, port))) {
+                channel.close();
+                openPortConsumer.accept(host, port);
+                return null;
+            }
+            PendingConnect connect = new PendingConnect(host, port, channel, now + timeoutNanos);
+            channel.register(selector, SelectionKey.OP_CONNECT, connect);
+            return connect;
+        } catch (IOException e) {
+            // e.g. no route to host
+            logger.trace("Connect to {}:{} failed: {}", host, port, e.getMessage());
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // the channel is not used anymore
+                }
+            }
+            return null;
+        }
+    }
+
+    private boolean finishConnect(PendingConnect connect) {
+        try {
+            return connect.channel.finishConnect();
+        } catch (IOException e) {
+            // connection refused, host unreachable
+            return false;
+        }
+    }
+
+    private void close(PendingConnect connect) {
+        connect.done = true;
+        try {
+            connect.channel.close();
+        } catch (IOException e) {
+            logger.trace("Failed to close channel to {}:{}", connect.host, connect.port, e);
+        }
+    }
+}
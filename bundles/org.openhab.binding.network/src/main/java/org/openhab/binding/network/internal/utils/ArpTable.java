@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.cache.ExpiringCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cached view of the kernel ARP table, as provided by <code>/proc/net/arp</code> on Linux.
+ * <p>
+ * The table is shared by all presence detections and read at most once per {@link #MAX_AGE}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ArpTable {
+    private static final Duration MAX_AGE = Duration.ofSeconds(2);
+    // ATF_COM, the hardware address of the entry is resolved
+    private static final int FLAG_COMPLETE = 0x2;
+
+    private final Logger logger = LoggerFactory.getLogger(ArpTable.class);
+
+    private final Path path;
+    private final ExpiringCache<Map<String, String>> interfaceNames;
+
+    public ArpTable(Path path) {
+        this.path = path;
+        this.interfaceNames = new ExpiringCache<>(MAX_AGE, this::read);
+    }
+
+    /**
+     * Get the network interface of the ARP table entry for the given address.
+     *
+     * @param ipV4address The ipV4 address
+     * @return the interface name, or <code>null</code> if the address is not in the ARP table
+     */
+    public @Nullable String getInterfaceName(String ipV4address) {
+        Map<String, String> names = interfaceNames.getValue();
+        return names == null ? null : names.get(ipV4address);
+    }
+
+    private Map<String, String> read() {
+        if (!Files.isReadable(path)) {
+            return Map.of();
+        }
+        try {
+            return parse(Files.readAllLines(path));
+        } catch (IOException e) {
+            logger.trace("Could not read ARP table {}", path, e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Parse the lines of the ARP table. Complete entries take precedence over incomplete ones.
+     *
+     * @param lines the lines, including the header line
+     * @return the interface names by IP address
+     */
+    static Map<String, String> parse(List<String> lines) {
+        Map<String, String> result = new HashMap<>();
+        // IP address  HW type  Flags  HW address  Mask  Device
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length < 6) {
+                continue;
+            }
+            try {
+                if ((Integer.decode(columns[2]) & FLAG_COMPLETE) != 0) {
+                    result.put(columns[0], columns[5]);
+                } else {
+                    result.putIfAbsent(columns[0], columns[5]);
+                }
+            } catch (NumberFormatException e) {
+                // skip malformed entry
+            }
+        }
+        return result;
+    }
+}
@@ -15,19 +15,18 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -36,6 +35,8 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -98,6 +99,8 @@ public class NetworkUtils {
 
     private final Logger logger = LoggerFactory.getLogger(NetworkUtils.class);
 
+    private static final ArpTable ARP_TABLE = new ArpTable(Path.of("/proc/net/arp"));
+
     private LatencyParser latencyParser = new LatencyParser();
 
     /**
@@ -217,24 +220,58 @@ public class NetworkUtils {
     }
 
     /**
-     * Try to establish a TCP connection to the given port.
+     * Try to establish a TCP connection to the given port without blocking the calling thread.
      *
-     * @param host the IP or hostname
+     * @param host the IP address
      * @param port the TCP port. Must be not 0.
-     * @param timeout the timeout before the call aborts
-     * @return the {@link PingResult} of connecting to the given port
-     * @throws IOException if an error occurs during the connection
+     * @param timeout the timeout before the connection attempt is aborted
+     * @return a {@link CompletableFuture} completed with the {@link PingResult} of connecting to the given port
      */
-    public PingResult servicePing(String host, int port, Duration timeout) throws IOException {
+    public CompletableFuture<PingResult> servicePingAsync(String host, int port, Duration timeout) {
         Instant execStartTime = Instant.now();
-        boolean success = false;
-        try (Socket socket = new Socket()) {
-            socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
-            success = true;
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException e) {
-            logger.trace("Could not connect to {}:{}", host, port, e);
+        AsynchronousSocketChannel channel;
+        try {
+            channel = AsynchronousSocketChannel.open();
+        } catch (IOException e) {
+            // This should not happen and might be a user configuration issue, we log a warning message therefore.
+            logger.warn("Could not create a socket connection", e);
+            return CompletableFuture.completedFuture(new PingResult(false, Duration.ZERO));
         }
-        return new PingResult(success, Duration.between(execStartTime, Instant.now()));
+
+        CompletableFuture<PingResult> future = new CompletableFuture<>();
+        channel.connect(new InetSocketAddress(host, port), null,
+                new CompletionHandler<@Nullable Void, @Nullable Void>() {
+                    @Override
+                    public void completed(@Nullable Void result, @Nullable Void attachment) {
+                        future.complete(new PingResult(true, Duration.between(execStartTime, Instant.now())));
+                    }
+
+                    @Override
+                    public void failed(@Nullable Throwable e, @Nullable Void attachment) {
+                        logger.trace("Could not connect to {}:{}", host, port, e);
+                        future.complete(new PingResult(false, Duration.between(execStartTime, Instant.now())));
+                    }
+                });
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).exceptionally(e -> {
+            logger.trace("Could not connect to {}:{} within {}", host, port, timeout);
+            return new PingResult(false, Duration.between(execStartTime, Instant.now()));
+        }).whenComplete((result, e) -> {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the connection attempt is finished anyway
+            }
+        });
+    }
+
+    /**
+     * Get the network interface of an entry in the kernel ARP table (only available on Linux).
+     *
+     * @param ipV4address The ipV4 address
+     * @return the interface name, or <code>null</code> if the address is not in the ARP table
+     */
+    public @Nullable String getArpTableInterfaceName(String ipV4address) {
+        return ARP_TABLE.getInterfaceName(ipV4address);
     }
 
     /**
@@ -21,8 +21,14 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -53,7 +59,6 @@ public class PresenceDetectionTest {
 
     private @Mock @NonNullByDefault({}) Consumer<PresenceDetectionValue> callback;
     private @Mock @NonNullByDefault({}) ExecutorService detectionExecutorService;
-    private @Mock @NonNullByDefault({}) ExecutorService waitForResultExecutorService;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduledExecutorService;
     private @Mock @NonNullByDefault({}) PresenceDetectionListener listener;
     private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
@@ -67,6 +72,7 @@ public class PresenceDetectionTest {
 
         subject = spy(new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2)));
         subject.networkUtils = networkUtils;
+        doReturn(detectionExecutorService).when(subject).getDetectionExecutor();
 
         // Set a useful configuration. The default presenceDetection is a no-op.
         subject.setHostname("127.0.0.1");
@@ -80,33 +86,29 @@ public class PresenceDetectionTest {
         assertThat(subject.pingMethod, is(IpPingMethodEnum.WINDOWS_PING));
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
+    // Depending on the amount of test methods an according amount of checks is submitted to the shared executor.
+    // We will check if they are submitted and return in time.
     @Test
     public void threadCountTest() {
-        assertNull(subject.detectionExecutorService);
-
         doNothing().when(subject).performArpPing(any(), any());
         doNothing().when(subject).performJavaPing(any());
         doNothing().when(subject).performSystemPing(any());
-        doNothing().when(subject).performServicePing(any(), anyInt());
-
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        doReturn(CompletableFuture.completedFuture(new PingResult(false, Duration.ZERO))).when(subject)
+                .performServicePing(any(), anyInt());
 
         subject.getValue(callback -> {
         });
 
-        // Thread count: ARP + ICMP + 1*TCP
+        // Check count: ARP + ICMP + 1*TCP
         assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.detectionExecutorService);
 
-        // "Wait" for the presence detection to finish
+        // Perform the checks, the presence detection finishes with the last one
         ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        verify(detectionExecutorService, times(3)).execute(runnableCapture.capture());
+        runnableCapture.getAllValues().forEach(Runnable::run);
 
         assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.detectionExecutorService);
+        verify(listener, times(1)).finalDetectionResult(any());
     }
 
     @Test
@@ -115,10 +117,8 @@ public class PresenceDetectionTest {
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(networkUtils).servicePingAsync(anyString(),
+                anyInt(), any());
 
         subject.performPresenceDetection();
 
@@ -131,11 +131,6 @@ public class PresenceDetectionTest {
             r.run();
         }
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
-
         assertThat(subject.detectionChecks, is(0));
 
         verify(subject, times(0)).performJavaPing(any());
@@ -156,17 +151,14 @@ public class PresenceDetectionTest {
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(networkUtils).servicePingAsync(anyString(),
+                anyInt(), any());
 
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection();
-        assertNotNull(subject.detectionExecutorService);
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
@@ -177,11 +169,6 @@ public class PresenceDetectionTest {
             r.run();
         }
 
-        // "Wait" for the presence detection to finish
-        capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(capture.capture());
-        capture.getValue().run();
-
         // Although there are multiple partial results and a final result,
         // the getValue() consumers get the fastest response possible, and only once.
         verify(callback, times(1)).accept(any());
@@ -195,4 +182,114 @@ public class PresenceDetectionTest {
         subject.getValue(callback);
         verify(callback, times(2)).accept(any());
     }
+
+    @Test
+    public void queuedChecksDoNotTimeOut()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        doAnswer(invocation -> {
+            Thread.sleep(1200);
+            return pingResult;
+        }).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
+        doAnswer(invocation -> {
+            Thread.sleep(1200);
+            return pingResult;
+        }).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(),
+                any());
+
+        // A single thread runs the checks one after the other, the last one waits longer than the check timeout
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PresenceDetection detection = createDetection(executor);
+            detection.setUseArpPing(true, "arping", ArpPingUtilEnum.IPUTILS_ARPING);
+            detection.setNetworkInterfaceNames(Set.of("eth0", "eth1", "eth2"));
+
+            PresenceDetectionValue value = detection.performPresenceDetection().get(15, TimeUnit.SECONDS);
+
+            assertThat(value.getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING"));
+            verify(networkUtils, times(3)).nativeArpPing(any(), anyString(), anyString(), any(), any());
+            verify(listener, times(4)).partialDetectionResult(any());
+            verify(listener, times(1)).finalDetectionResult(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void newDetectionCancelsRunningChecks()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            // The result of the cancelled check arrives after the next detection has started
+            return pingResult;
+        }).doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            PresenceDetection detection = createDetection(executor);
+
+            CompletableFuture<PresenceDetectionValue> first = detection.performPresenceDetection();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<PresenceDetectionValue> second = detection.performPresenceDetection();
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            assertThat(first.get(5, TimeUnit.SECONDS).isReachable(), is(false));
+            assertThat(second.get(5, TimeUnit.SECONDS).isReachable(), is(true));
+            verify(listener, after(500).times(1)).partialDetectionResult(any());
+            verify(listener, times(1)).finalDetectionResult(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void stopAutomaticRefreshCancelsRunningChecks()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new PingResult(true, Duration.ofMillis(10));
+        }).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PresenceDetection detection = createDetection(executor);
+            CompletableFuture<PresenceDetectionValue> result = detection.performPresenceDetection();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            detection.stopAutomaticRefresh();
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            assertThat(result.get(5, TimeUnit.SECONDS).isReachable(), is(false));
+            verify(listener, after(500).never()).partialDetectionResult(any());
+            verify(listener, never()).finalDetectionResult(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PresenceDetection createDetection(ExecutorService executor) {
+        PresenceDetection detection = new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2),
+                executor);
+        detection.networkUtils = networkUtils;
+        detection.setHostname("127.0.0.1");
+        detection.setTimeout(Duration.ofMillis(300));
+        detection.setUseDhcpSniffing(false);
+        detection.setUseIcmpPing(true);
+        return detection;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link TcpPortScanner}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpPortScannerTest {
+    private static final String LOCALHOST = "127.0.0.1";
+
+    @Test
+    public void openPortsAreReported() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            closedPort = socket.getLocalPort();
+        }
+        try (ServerSocket openSocket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            int openPort = openSocket.getLocalPort();
+            List<String> found = new CopyOnWriteArrayList<>();
+
+            TcpPortScanner scanner = new TcpPortScanner(Duration.ofSeconds(2), 100);
+            scanner.scan(List.of(LOCALHOST), List.of(closedPort, openPort), (ip, port) -> found.add(ip + ":" + port))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertEquals(List.of(LOCALHOST + ":" + openPort), found);
+        }
+    }
+
+    @Test
+    public void emptyScanCompletes() throws Exception {
+        TcpPortScanner scanner = new TcpPortScanner(Duration.ofSeconds(2), 100);
+        scanner.scan(List.of(), List.of(80), (ip, port) -> fail()).get(5, TimeUnit.SECONDS);
+        scanner.scan(List.of(LOCALHOST), List.of(), (ip, port) -> fail()).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void cancelledScanCompletes() throws Exception {
+        TcpPortScanner scanner = new TcpPortScanner(Duration.ofSeconds(2), 1);
+        scanner.cancel();
+        scanner.scan(List.of(LOCALHOST, LOCALHOST, LOCALHOST), List.of(1), (ip, port) -> {
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the parser of the kernel ARP table.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ArpTableTest {
+    private static final String HEADER = "IP address       HW type     Flags       HW address            Mask     Device";
+
+    @Test
+    public void parseSkipsHeader() {
+        Map<String, String> result = ArpTable.parse(List.of(HEADER,
+                "192.168.1.1      0x1         0x2         aa:bb:cc:dd:ee:ff     *        eth0"));
+
+        assertEquals(Map.of("192.168.1.1", "eth0"), result);
+    }
+
+    @Test
+    public void parseEmptyTable() {
+        assertTrue(ArpTable.parse(List.of()).isEmpty());
+        assertTrue(ArpTable.parse(List.of(HEADER)).isEmpty());
+    }
+
+    @Test
+    public void parsePrefersCompleteEntries() {
+        Map<String, String> result = ArpTable.parse(List.of(HEADER,
+                "192.168.1.2      0x1         0x0         00:00:00:00:00:00     *        wlan0",
+                "192.168.1.2      0x1         0x2         aa:bb:cc:dd:ee:ff     *        eth0",
+                "192.168.1.2      0x1         0x0         00:00:00:00:00:00     *        eth1"));
+
+        assertEquals("eth0", result.get("192.168.1.2"));
+    }
+
+    @Test
+    public void parseSkipsMalformedLines() {
+        Map<String, String> result = ArpTable.parse(List.of(HEADER, "192.168.1.3 0x1 0x2",
+                "192.168.1.4      0x1         bogus       aa:bb:cc:dd:ee:ff     *        eth0",
+                "192.168.1.5      0x1         0x6         aa:bb:cc:dd:ee:ff     *        eth0"));
+
+        assertEquals(Map.of("192.168.1.5", "eth0"), result);
+    }
+}
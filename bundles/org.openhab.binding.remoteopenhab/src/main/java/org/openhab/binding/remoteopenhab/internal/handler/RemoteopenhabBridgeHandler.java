@@ -23,8 +23,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.client.ClientBuilder;
 
@@ -64,6 +66,7 @@ import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
 import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
@@ -102,6 +105,8 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
     private static final DateTimeFormatter FORMATTER_DATE = DateTimeFormatter.ofPattern(DATE_FORMAT_PATTERN);
 
     private static final int MAX_STATE_SIZE_FOR_LOGGING = 50;
+    private static final int MAX_SINGLE_STATE_REQUESTS = 20;
+    private static final int ITEMS_FILTER_UPDATE_DELAY = 5;
 
     private final Logger logger = LoggerFactory.getLogger(RemoteopenhabBridgeHandler.class);
 
@@ -118,9 +123,11 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
     private @NonNullByDefault({}) RemoteopenhabServerConfiguration config;
 
     private @Nullable ScheduledFuture<?> checkConnectionJob;
+    private @Nullable ScheduledFuture<?> updateItemsFilterJob;
     private RemoteopenhabRestClient restClient;
 
-    private Map<ChannelUID, State> channelsLastStates = new HashMap<>();
+    private Map<ChannelUID, State> channelsLastStates = new ConcurrentHashMap<>();
+    private boolean itemsSynchronized;
 
     public RemoteopenhabBridgeHandler(Bridge bridge, HttpClient httpClient, HttpClient httpClientTrustingCert,
             ClientBuilder clientBuilder, SseEventSourceFactory eventSourceFactory,
@@ -190,7 +197,13 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         logger.debug("Disposing remote openHAB handler for bridge {}", getThing().getUID());
         stopStreamingUpdates(false);
         stopCheckConnectionJob();
+        ScheduledFuture<?> localUpdateItemsFilterJob = updateItemsFilterJob;
+        if (localUpdateItemsFilterJob != null) {
+            localUpdateItemsFilterJob.cancel(true);
+            updateItemsFilterJob = null;
+        }
         channelsLastStates.clear();
+        itemsSynchronized = false;
     }
 
     @Override
@@ -221,25 +234,14 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
                 int nbChannelTypesCreated = 0;
                 List<Channel> channels = new ArrayList<>();
                 for (RemoteopenhabItem item : items) {
-                    String itemType = item.type;
-                    boolean readOnly = false;
-                    if ("Group".equals(itemType)) {
-                        if (item.groupType.isEmpty()) {
-                            // Standard groups are ignored
-                            nbGroups++;
-                            continue;
-                        } else {
-                            itemType = item.groupType;
-                        }
-                    } else {
-                        if (item.stateDescription != null && item.stateDescription.readOnly) {
-                            readOnly = true;
-                        }
+                    String itemType = getChannelItemType(item);
+                    if (itemType == null) {
+                        // Standard groups are ignored
+                        nbGroups++;
+                        continue;
                     }
-                    // Ignore pattern containing a transformation (detected by a parenthesis in the pattern)
-                    RemoteopenhabStateDescription stateDescription = item.stateDescription;
-                    String pattern = (stateDescription == null || stateDescription.pattern.contains("(")) ? ""
-                            : stateDescription.pattern;
+                    boolean readOnly = isReadOnly(item);
+                    String pattern = getPattern(item);
                     ChannelTypeUID channelTypeUID;
                     ChannelType channelType = channelTypeProvider.getChannelType(itemType, readOnly, pattern);
                     String label;
@@ -322,6 +324,27 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         }
     }
 
+    /**
+     * @return the item type of the channel for an item, or null for a standard group which has no channel
+     */
+    private @Nullable String getChannelItemType(RemoteopenhabItem item) {
+        if ("Group".equals(item.type)) {
+            return item.groupType.isEmpty() ? null : item.groupType;
+        }
+        return item.type;
+    }
+
+    private boolean isReadOnly(RemoteopenhabItem item) {
+        RemoteopenhabStateDescription stateDescription = item.stateDescription;
+        return !"Group".equals(item.type) && stateDescription != null && stateDescription.readOnly;
+    }
+
+    private String getPattern(RemoteopenhabItem item) {
+        // Ignore pattern containing a transformation (detected by a parenthesis in the pattern)
+        RemoteopenhabStateDescription stateDescription = item.stateDescription;
+        return (stateDescription == null || stateDescription.pattern.contains("(")) ? "" : stateDescription.pattern;
+    }
+
     private void removeChannels(List<RemoteopenhabItem> items) {
         synchronized (updateThingLock) {
             int nbRemoved = 0;
@@ -342,6 +365,13 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
     }
 
     private void setDynamicOptions(List<RemoteopenhabItem> items) {
+        setDynamicOptions(items, false);
+    }
+
+    /**
+     * @param clearMissingOptions true to remove the options of channels whose item has no options (anymore)
+     */
+    private void setDynamicOptions(List<RemoteopenhabItem> items, boolean clearMissingOptions) {
         for (RemoteopenhabItem item : items) {
             Channel channel = getThing().getChannel(item.name);
             if (channel == null) {
@@ -356,6 +386,8 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
                 }
                 stateDescriptionProvider.setStateOptions(channel.getUID(), options);
                 logger.trace("{} state options set for the channel {}", options.size(), channel.getUID());
+            } else if (clearMissingOptions) {
+                stateDescriptionProvider.setStateOptions(channel.getUID(), List.of());
             }
             RemoteopenhabCommandDescription commandDescr = item.commandDescription;
             List<RemoteopenhabCommandOption> commandOptions = commandDescr == null ? null : commandDescr.commandOptions;
@@ -366,6 +398,8 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
                 }
                 commandDescriptionProvider.setCommandOptions(channel.getUID(), options);
                 logger.trace("{} command options set for the channel {}", options.size(), channel.getUID());
+            } else if (clearMissingOptions) {
+                commandDescriptionProvider.setCommandOptions(channel.getUID(), List.of());
             }
         }
     }
@@ -377,6 +411,10 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
             if (restClient.getRestApiVersion() == null) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                         "@text/offline.config-error-unsupported-server");
+            } else if (getThing().getStatus() != ThingStatus.ONLINE && itemsSynchronized && resynchronizeItems()) {
+                updateStatus(ThingStatus.ONLINE);
+
+                restartStreamingUpdates();
             } else if (getThing().getStatus() != ThingStatus.ONLINE) {
                 List<RemoteopenhabItem> items = restClient.getRemoteItems("name,type,groupType,state,stateDescription");
 
@@ -385,6 +423,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
                     for (RemoteopenhabItem item : items) {
                         updateChannelState(item.name, null, item.state, false);
                     }
+                    itemsSynchronized = true;
 
                     updateStatus(ThingStatus.ONLINE);
 
@@ -396,6 +435,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
             } else if (restartSse) {
                 logger.debug("The SSE connection is restarted because there was no recent event received");
                 restartStreamingUpdates();
+                refreshItemStates(getLinkedItemNames());
             }
         } catch (RemoteopenhabException e) {
             logger.debug("checkConnection for thing {} failed: {}", getThing().getUID(),
@@ -405,6 +445,107 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         }
     }
 
+    /**
+     * Resynchronize the items after a reconnection to a server whose items were already used to build the channels.
+     * The states are not requested with the remote items, a change of the names, types or state descriptions of the
+     * items is detected by comparing them with the channels and channel types. The dynamic options are set again and
+     * the states are then refreshed for the linked items only.
+     *
+     * @return false if the remote items changed and the channels have to be built again
+     */
+    private boolean resynchronizeItems() throws RemoteopenhabException {
+        List<RemoteopenhabItem> items = restClient
+                .getRemoteItems("name,type,groupType,stateDescription,commandDescription");
+        Map<String, ChannelTypeUID> itemChannelTypes = new HashMap<>();
+        for (RemoteopenhabItem item : items) {
+            String itemType = getChannelItemType(item);
+            if (itemType == null) {
+                continue;
+            }
+            ChannelType channelType = channelTypeProvider.getChannelType(itemType, isReadOnly(item),
+                    getPattern(item));
+            if (channelType == null) {
+                logger.debug("Remote item {} changed while disconnected, the channels of the thing {} are built again",
+                        item.name, getThing().getUID());
+                return false;
+            }
+            itemChannelTypes.put(item.name, channelType.getUID());
+        }
+        Map<String, ChannelTypeUID> channelTypes = new HashMap<>();
+        for (Channel channel : getThing().getChannels()) {
+            ChannelTypeUID channelTypeUID = channel.getChannelTypeUID();
+            if (channelTypeUID != null) {
+                channelTypes.put(channel.getUID().getId(), channelTypeUID);
+            }
+        }
+        if (!itemChannelTypes.equals(channelTypes)) {
+            logger.debug("Remote items changed while disconnected, the channels of the thing {} are built again",
+                    getThing().getUID());
+            return false;
+        }
+        setDynamicOptions(items, true);
+        refreshItemStates(getLinkedItemNames());
+        return true;
+    }
+
+    /**
+     * Refresh the states of items, only the channels whose state changed are updated.
+     * Each state is requested on its own for a few items, otherwise the states of all items are requested at once.
+     */
+    private void refreshItemStates(Set<String> itemNames) throws RemoteopenhabException {
+        if (itemNames.isEmpty()) {
+            return;
+        }
+        logger.debug("Refresh the state of {} items for the thing {}", itemNames.size(), getThing().getUID());
+        if (itemNames.size() <= MAX_SINGLE_STATE_REQUESTS) {
+            for (String itemName : itemNames) {
+                updateChannelState(itemName, null, restClient.getRemoteItemState(itemName), true);
+            }
+        } else {
+            for (RemoteopenhabItem item : restClient.getRemoteItems("name,state")) {
+                if (itemNames.contains(item.name)) {
+                    updateChannelState(item.name, null, item.state, true);
+                }
+            }
+        }
+    }
+
+    private Set<String> getLinkedItemNames() {
+        return getThing().getChannels().stream().map(Channel::getUID).filter(this::isLinked).map(ChannelUID::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private void scheduleItemsFilterUpdate() {
+        ScheduledFuture<?> localUpdateItemsFilterJob = updateItemsFilterJob;
+        if (localUpdateItemsFilterJob != null) {
+            localUpdateItemsFilterJob.cancel(false);
+        }
+        updateItemsFilterJob = scheduler.schedule(this::updateItemsFilter, ITEMS_FILTER_UPDATE_DELAY, TimeUnit.SECONDS);
+    }
+
+    private void updateItemsFilter() {
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            // The filter will be set when the SSE connection is started
+            return;
+        }
+        Set<String> linkedItemNames = getLinkedItemNames();
+        if (restClient.setItemNamesFilter(linkedItemNames)) {
+            logger.debug("The SSE connection is restarted to receive the events of the {} linked items",
+                    linkedItemNames.size());
+            restartStreamingUpdates();
+        }
+        ThingUID thingUID = getThing().getUID();
+        Set<String> newlyLinkedItemNames = linkedItemNames.stream()
+                .filter(itemName -> !channelsLastStates.containsKey(new ChannelUID(thingUID, itemName)))
+                .collect(Collectors.toSet());
+        try {
+            refreshItemStates(newlyLinkedItemNames);
+        } catch (RemoteopenhabException e) {
+            logger.debug("Refreshing the linked items for thing {} failed: {}", thingUID,
+                    e.getMessage(bundle, i18nProvider));
+        }
+    }
+
     private void startCheckConnectionJob(int accessibilityInterval, int aliveInterval, boolean restartIfNoActivity) {
         ScheduledFuture<?> localCheckConnectionJob = checkConnectionJob;
         if (localCheckConnectionJob == null || localCheckConnectionJob.isCancelled()) {
@@ -445,6 +586,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
 
     private void startStreamingUpdates() {
         synchronized (restClient) {
+            restClient.setItemNamesFilter(getLinkedItemNames());
             restClient.addStreamingDataListener(this);
             restClient.addItemsDataListener(this);
             restClient.start();
@@ -467,6 +609,20 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         return restClient;
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        super.channelLinked(channelUID);
+        scheduleItemsFilterUpdate();
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        super.channelUnlinked(channelUID);
+        // The events of the item are no longer received, its last state becomes outdated
+        channelsLastStates.remove(channelUID);
+        scheduleItemsFilterUpdate();
+    }
+
     @Override
     public void onConnected() {
         updateStatus(ThingStatus.ONLINE);
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -84,6 +85,9 @@ public class RemoteopenhabRestClient {
 
     private static final int REQUEST_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(30);
 
+    // Above this length of the topics parameter, the SSE connection subscribes to the events of all items
+    private static final int MAX_ITEM_TOPICS_LENGTH = 4000;
+
     private final Logger logger = LoggerFactory.getLogger(RemoteopenhabRestClient.class);
 
     private final ClientBuilder clientBuilder;
@@ -111,6 +115,7 @@ public class RemoteopenhabRestClient {
 
     private @Nullable SseEventSource eventSource;
     private long lastEventTimestamp;
+    private volatile @Nullable Set<String> itemNamesFilter;
 
     public RemoteopenhabRestClient(final HttpClient httpClient, final ClientBuilder clientBuilder,
             final SseEventSourceFactory eventSourceFactory, final Gson jsonParser,
@@ -257,6 +262,39 @@ public class RemoteopenhabRestClient {
         return url;
     }
 
+    /**
+     * Restrict the item state events to the given items. The events signaling added, removed or updated items are
+     * always received. The filter is applied when the SSE connection is (re)opened.
+     *
+     * @param itemNames the names of the items whose state events are expected, or null to receive the state events
+     *            of all items
+     * @return true if the topics of the SSE connection changed and the connection has to be restarted
+     */
+    public boolean setItemNamesFilter(@Nullable Set<String> itemNames) {
+        String previousTopics = buildItemTopics();
+        itemNamesFilter = itemNames == null ? null : Set.copyOf(itemNames);
+        return !previousTopics.equals(buildItemTopics());
+    }
+
+    private String buildItemTopics() {
+        String namespace = getTopicNamespace();
+        String allItemsTopics = namespace + "/items/*/*";
+        Set<String> filter = itemNamesFilter;
+        if (filter == null) {
+            return allItemsTopics;
+        }
+        StringBuilder topics = new StringBuilder(String.format("%s/items/*/added,%s/items/*/removed,%s/items/*/updated",
+                namespace, namespace, namespace));
+        for (String itemName : filter) {
+            // Matches the state events of the item and the state changed events of the members of a group item
+            topics.append(',').append(namespace).append("/items/").append(itemName).append("/*");
+            if (topics.length() > MAX_ITEM_TOPICS_LENGTH) {
+                return allItemsTopics;
+            }
+        }
+        return topics.toString();
+    }
+
     public String getTopicNamespace() {
         String namespace = topicNamespace;
         return namespace != null ? namespace : "openhab";
@@ -330,8 +368,8 @@ public class RemoteopenhabRestClient {
         String url;
         try {
             url = String.format(
-                    "%s?topics=%s/items/*/*,%s/things/*/*,%s/channels/*/triggered,openhab/channels/*/descriptionchanged",
-                    getRestApiUrl("events"), getTopicNamespace(), getTopicNamespace(), getTopicNamespace());
+                    "%s?topics=%s,%s/things/*/*,%s/channels/*/triggered,openhab/channels/*/descriptionchanged",
+                    getRestApiUrl("events"), buildItemTopics(), getTopicNamespace(), getTopicNamespace());
         } catch (RemoteopenhabException e) {
             logger.debug("reopenEventSource failed: {}", e.getMessage(bundle, i18nProvider));
             return;
@@ -389,6 +427,15 @@ public class RemoteopenhabRestClient {
         return lastEventTimestamp;
     }
 
+    private boolean isFilteredOut(String itemName) {
+        Set<String> filter = itemNamesFilter;
+        if (filter != null && !filter.contains(itemName)) {
+            logger.trace("Ignored state event for item {} not part of the filter", itemName);
+            return true;
+        }
+        return false;
+    }
+
     private void onEvent(InboundSseEvent inboundEvent) {
         String name = inboundEvent.getName();
         String data = inboundEvent.readData();
@@ -415,18 +462,27 @@ public class RemoteopenhabRestClient {
             switch (event.type) {
                 case "ItemStateEvent":
                     itemName = extractItemNameFromTopic(event.topic, event.type, "state");
+                    if (isFilteredOut(itemName)) {
+                        break;
+                    }
                     payload = jsonParser.fromJson(event.payload, RemoteopenhabEventPayload.class);
                     itemsListeners.forEach(
                             listener -> listener.onItemStateEvent(itemName, payload.type, payload.value, false));
                     break;
                 case "ItemStateChangedEvent":
                     itemName = extractItemNameFromTopic(event.topic, event.type, "statechanged");
+                    if (isFilteredOut(itemName)) {
+                        break;
+                    }
                     payload = jsonParser.fromJson(event.payload, RemoteopenhabEventPayload.class);
                     itemsListeners.forEach(
                             listener -> listener.onItemStateEvent(itemName, payload.type, payload.value, true));
                     break;
                 case "GroupItemStateChangedEvent":
                     itemName = extractItemNameFromTopic(event.topic, event.type, "statechanged");
+                    if (isFilteredOut(itemName)) {
+                        break;
+                    }
                     payload = jsonParser.fromJson(event.payload, RemoteopenhabEventPayload.class);
                     itemsListeners.forEach(
                             listener -> listener.onItemStateEvent(itemName, payload.type, payload.value, false));
@@ -34,7 +34,6 @@ import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.openhab.binding.shelly.internal.api.ShellyApiException;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2NotifyEvent;
-import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcBaseMessage;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyEvent;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus;
 import org.openhab.binding.shelly.internal.handler.ShellyBluSensorHandler;
@@ -44,6 +43,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 /**
  * @author Markus Michels - Initial contribution
@@ -52,7 +55,8 @@ import com.google.gson.Gson;
 @WebSocket(maxIdleTime = Integer.MAX_VALUE)
 public class Shelly2RpcSocket {
     private final Logger logger = LoggerFactory.getLogger(Shelly2RpcSocket.class);
-    private final Gson gson = new Gson();
+    // Gson is thread-safe, sharing it keeps the type adapters cached across the (short lived) inbound sockets
+    private static final Gson GSON = new Gson();
 
     private String thingName = "";
     private String deviceIp = "";
@@ -234,68 +238,96 @@ public class Shelly2RpcSocket {
     public void onText(Session session, String receivedMessage) {
         try {
             Shelly2RpctInterface handler = websocketHandler;
-            Shelly2RpcBaseMessage message = fromJson(gson, receivedMessage, Shelly2RpcBaseMessage.class);
+            // parse the message only once, the JSON tree is then mapped to the DTO matching the method
+            JsonObject message = parseMessage(receivedMessage);
+            String src = getString(getMember(message, "src"));
             logger.trace("{}: Inbound Rpc message: {}", thingName, receivedMessage);
             if (handler != null) {
                 if (thingName.isEmpty()) {
-                    thingName = getString(message.src);
+                    thingName = src;
                 }
-                if (message.method == null) {
-                    message.method = SHELLYRPC_METHOD_NOTIFYFULLSTATUS;
+                String method = getMember(message, "method");
+                if (method == null) {
+                    method = SHELLYRPC_METHOD_NOTIFYFULLSTATUS;
                 }
-                switch (getString(message.method)) {
+                switch (method) {
                     case SHELLYRPC_METHOD_NOTIFYSTATUS:
                     case SHELLYRPC_METHOD_NOTIFYFULLSTATUS:
-                        Shelly2RpcNotifyStatus status = fromJson(gson, receivedMessage, Shelly2RpcNotifyStatus.class);
+                        Shelly2RpcNotifyStatus status = fromJson(GSON, message, Shelly2RpcNotifyStatus.class);
                         if (status.params == null) {
                             status.params = status.result;
                         }
                         handler.onNotifyStatus(status);
                         return;
                     case SHELLYRPC_METHOD_NOTIFYEVENT:
-                        Shelly2RpcNotifyEvent events = fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class);
-                        events.src = message.src;
+                        Shelly2RpcNotifyEvent events = fromJson(GSON, message, Shelly2RpcNotifyEvent.class);
+                        events.src = src;
                         if (events.params == null || events.params.events == null) {
                             logger.debug("{}: Malformed event data: {}", thingName, receivedMessage);
                         } else {
-                            for (Shelly2NotifyEvent e : events.params.events) {
-                                if (getString(e.event).startsWith(SHELLY2_EVENT_BLUPREFIX)) {
-                                    String address = getString(e.data != null ? e.data.addr : "").replace(":", "");
-                                    ShellyThingTable thingTable = this.thingTable;
-                                    if (thingTable != null && thingTable.findThing(address) != null) {
-                                        // known device
-                                        ShellyThingInterface thing = thingTable.getThing(address);
-                                        Shelly2ApiRpc api = (Shelly2ApiRpc) thing.getApi();
-                                        handler = api.getRpcHandler();
-                                        handler.onNotifyEvent(
-                                                fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
-                                    } else {
-                                        // new device
-                                        if (SHELLY2_EVENT_BLUSCAN.equals(e.event)) {
-                                            ShellyBluSensorHandler.addBluThing(message.src, e, thingTable);
-                                        } else {
-                                            logger.debug("{}: NotifyEvent {} for unknown device {}", message.src,
-                                                    e.event, e.data.name);
-                                        }
-                                    }
-                                } else {
-                                    handler.onNotifyEvent(fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
-                                }
-                            }
+                            dispatchEvents(handler, events);
                         }
                         break;
                     default:
                         handler.onMessage(receivedMessage);
                 }
             } else {
-                logger.debug("{}: No Rpc listener registered for device {}, skip message: {}", thingName,
-                        getString(message.src), receivedMessage);
+                logger.debug("{}: No Rpc listener registered for device {}, skip message: {}", thingName, src,
+                        receivedMessage);
             }
         } catch (ShellyApiException | IllegalArgumentException e) {
             logger.debug("{}: Unable to process Rpc message ({}): {}", thingName, e.getMessage(), receivedMessage);
         }
     }
 
+    /**
+     * Dispatch the events of a NotifyEvent message. BLU events are forwarded to the thing of the BLU device, all other
+     * events are handled by the thing of the device sending the message.
+     *
+     * @param handler Rpc handler of the device sending the message
+     * @param events Parsed message
+     */
+    private void dispatchEvents(Shelly2RpctInterface handler, Shelly2RpcNotifyEvent events) {
+        boolean deviceEvents = false;
+        for (Shelly2NotifyEvent e : events.params.events) {
+            if (getString(e.event).startsWith(SHELLY2_EVENT_BLUPREFIX)) {
+                String address = getString(e.data != null ? e.data.addr : "").replace(":", "");
+                ShellyThingTable thingTable = this.thingTable;
+                ShellyThingInterface thing = thingTable != null ? thingTable.findThing(address) : null;
+                if (thing != null) {
+                    // known device
+                    Shelly2ApiRpc api = (Shelly2ApiRpc) thing.getApi();
+                    api.getRpcHandler().onNotifyEvent(events);
+                } else {
+                    // new device
+                    if (SHELLY2_EVENT_BLUSCAN.equals(e.event)) {
+                        ShellyBluSensorHandler.addBluThing(events.src, e, thingTable);
+                    } else {
+                        logger.debug("{}: NotifyEvent {} for unknown device {}", events.src, e.event, e.data.name);
+                    }
+                }
+            } else {
+                deviceEvents = true;
+            }
+        }
+        if (deviceEvents) {
+            handler.onNotifyEvent(events);
+        }
+    }
+
+    private static JsonObject parseMessage(String message) throws ShellyApiException {
+        try {
+            return JsonParser.parseString(message).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new ShellyApiException("Invalid Rpc message: " + e.getMessage(), e);
+        }
+    }
+
+    private static @Nullable String getMember(JsonObject json, String name) {
+        JsonElement element = json.get(name);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+
     public boolean isConnected() {
         Session session = this.session;
         return session != null && session.isOpen();
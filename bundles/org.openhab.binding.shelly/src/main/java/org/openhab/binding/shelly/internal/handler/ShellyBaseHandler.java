@@ -21,8 +21,10 @@ import static org.openhab.core.thing.Thing.*;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -125,6 +127,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     private int skipCount = UPDATE_SKIP_COUNT;
     private int skipUpdate = 0;
     private boolean refreshSettings = false;
+    private final ShellyPushHealth pushHealth = new ShellyPushHealth();
     private @Nullable ScheduledFuture<?> statusJob;
     private @Nullable ScheduledFuture<?> initJob;
 
@@ -173,9 +176,26 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     }
 
     @Override
-    public boolean checkRepresentation(String key) {
-        return key.equalsIgnoreCase(getUID()) || key.equalsIgnoreCase(config.deviceAddress)
-                || key.equalsIgnoreCase(config.serviceName) || key.equalsIgnoreCase(getThingName());
+    public Set<String> getRepresentations() {
+        Set<String> keys = new HashSet<>();
+        keys.add(getUID().toLowerCase());
+        keys.add(config.deviceAddress.toLowerCase());
+        keys.add(config.serviceName.toLowerCase());
+        keys.add(getThingName().toLowerCase());
+        if (!config.deviceIp.isEmpty()) {
+            // resolved IP address without port, used by inbound WebSocket connections
+            keys.add(config.deviceIp.contains(":") ? substringBefore(config.deviceIp, ":") : config.deviceIp);
+        }
+        String mac = getString(profile.device.mac);
+        if (!mac.isEmpty()) {
+            keys.add(mac.toLowerCase().replace(":", ""));
+        }
+        String hostname = getString(profile.device.hostname);
+        if (!hostname.isEmpty()) {
+            keys.add(hostname.toLowerCase());
+        }
+        keys.remove("");
+        return keys;
     }
 
     /**
@@ -390,6 +410,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         postEvent(ALARM_TYPE_NONE, false);
 
         profile = tmpPrf;
+        thingTable.updateThing(this); // MAC address and hostname are known now
         showThingConfig(profile);
 
         logger.debug("{}: Thing successfully initialized.", thingName);
@@ -554,13 +575,19 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
 
             skipUpdate++;
             ThingStatus thingStatus = getThing().getStatus();
-            if (refreshSettings || (scheduledUpdates > 0) || (skipUpdate % skipCount == 0)) {
+            boolean pollDue = skipUpdate % skipCount == 0;
+            if (pollDue && !refreshSettings && (scheduledUpdates == 0) && pushUpdatesHealthy()) {
+                // device pushes its status via CoIoT/WebSocket, no need to poll
+                stats.skippedPolls++;
+                logger.trace("{}: Status updates are pushed by the device, skip status poll", thingName);
+            } else if (refreshSettings || (scheduledUpdates > 0) || pollDue) {
                 if (!profile.isInitialized() || ((thingStatus == ThingStatus.OFFLINE))
                         || (getThingStatusDetail() == ThingStatusDetail.CONFIGURATION_PENDING)) {
                     logger.debug("{}: Status update triggered thing initialization", thingName);
                     initializeThing(); // may fire an exception if initialization failed
                 }
                 ShellySettingsStatus status = api.getStatus();
+                pushHealth.pollPerformed();
                 boolean restarted = checkRestarted(status);
                 profile = getProfile(refreshSettings || restarted);
                 profile.status = status;
@@ -607,6 +634,17 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         }
     }
 
+    /**
+     * Check if the device pushes its status updates in time, in this case the regular status poll can be skipped.
+     * Polling falls back to the configured interval once pushed updates stop arriving within the device's update
+     * period.
+     */
+    private boolean pushUpdatesHealthy() {
+        return profile.isInitialized() && getThing().getStatus() == ThingStatus.ONLINE
+                && getThingStatusDetail() == ThingStatusDetail.NONE
+                && pushHealth.skipPoll(profile.updatePeriod, config.updateInterval);
+    }
+
     private void checkRangeExtender(ShellyDeviceProfile prf) {
         if (getBool(prf.settings.rangeExtender) && config.enableRangeExtender && prf.status.rangeExtender != null
                 && prf.status.rangeExtender.apClients != null) {
@@ -712,6 +750,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         }
         api.close(); // Gen2: disconnect WS/close http sessions
         watchdog = 0;
+        pushHealth.reset();
         channelsCreated = false; // check for new channels after devices gets re-initialized (e.g. new
     }
 
@@ -798,6 +837,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     @Override
     public void incProtMessages() {
         stats.protocolMessages++;
+        pushHealth.pushReceived();
     }
 
     @Override
@@ -1080,6 +1120,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
 
         skipCount = config.updateInterval / UPDATE_STATUS_INTERVAL_SECONDS;
         logger.trace("{}: updateInterval = {}s -> skipCount = {}", thingName, config.updateInterval, skipCount);
+        thingTable.updateThing(this);
         return true;
     }
 
@@ -35,6 +35,7 @@ public class ShellyDeviceStats {
     public long lastAlarmTs = 0;
     public long protocolMessages = 0;
     public long protocolErrors = 0;
+    public long skippedPolls = 0;
     public int wifiRssi = 0;
     public int maxInternalTemp = 0;
 
@@ -50,6 +51,7 @@ public class ShellyDeviceStats {
         prop.put("lastAlarmTs", ShellyUtils.convertTimestamp(lastAlarmTs));
         prop.put("protocolMessages", String.valueOf(protocolMessages));
         prop.put("protocolErrors", String.valueOf(protocolErrors));
+        prop.put("skippedPolls", String.valueOf(skippedPolls));
         prop.put("wifiRssi", String.valueOf(wifiRssi));
         return prop;
     }
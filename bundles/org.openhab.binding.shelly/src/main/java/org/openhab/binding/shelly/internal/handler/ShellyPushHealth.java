@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.openhab.binding.shelly.internal.util.ShellyUtils.now;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/***
+ * {@link ShellyPushHealth} keeps track of the status updates a device pushes via CoIoT or the RPC WebSocket. While
+ * updates arrive in time the periodic status poll is suspended, a poll is only performed every
+ * {@link #POLL_STRETCH_FACTOR} intervals to refresh values, which are not pushed. Once pushed updates stop arriving
+ * the binding falls back to the regular polling.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyPushHealth {
+    public static final int POLL_STRETCH_FACTOR = 10;
+
+    private volatile double lastPush = 0;
+    private double lastPoll = 0;
+
+    /**
+     * A status update or event was pushed by the device
+     */
+    public void pushReceived() {
+        lastPush = now();
+    }
+
+    /**
+     * A status poll was performed
+     */
+    public void pollPerformed() {
+        lastPoll = now();
+    }
+
+    /**
+     * @param maxGap Maximum time in seconds between pushed updates (the device's update period)
+     * @return true if the last pushed update was received within maxGap seconds
+     */
+    public boolean isHealthy(int maxGap) {
+        return isHealthy(maxGap, now());
+    }
+
+    /**
+     * Decide if a regular status poll can be skipped.
+     *
+     * @param maxGap Maximum time in seconds between pushed updates (the device's update period)
+     * @param pollInterval Regular poll interval in seconds
+     * @return true if the poll can be skipped, because the device is pushing its updates
+     */
+    public boolean skipPoll(int maxGap, int pollInterval) {
+        return skipPoll(maxGap, pollInterval, now());
+    }
+
+    public void reset() {
+        lastPush = 0;
+        lastPoll = 0;
+    }
+
+    boolean isHealthy(int maxGap, double now) {
+        double push = lastPush;
+        return push > 0 && now - push <= maxGap;
+    }
+
+    boolean skipPoll(int maxGap, int pollInterval, double now) {
+        return isHealthy(maxGap, now) && now - lastPoll < (double) pollInterval * POLL_STRETCH_FACTOR;
+    }
+}
@@ -14,6 +14,7 @@ package org.openhab.binding.shelly.internal.handler;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -116,7 +117,10 @@ public interface ShellyThingInterface {
 
     void fillDeviceStatus(ShellySettingsStatus status, boolean updated);
 
-    boolean checkRepresentation(String key);
+    /**
+     * @return all keys in lower case (UID, IP/MAC address, service name, thing name) the thing can be found by
+     */
+    Set<String> getRepresentations();
 
     void incProtMessages();
 
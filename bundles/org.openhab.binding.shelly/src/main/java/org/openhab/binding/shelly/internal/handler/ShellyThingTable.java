@@ -13,6 +13,7 @@
 package org.openhab.binding.shelly.internal.handler;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,7 +28,8 @@ import org.osgi.service.component.annotations.Deactivate;
 
 /***
  * The{@link ShellyThingTable} implements a simple table to allow dispatching incoming events to the proper thing
- * handler
+ * handler. Besides the thing UID a thing can be found by any of its representations (IP address, MAC address, service
+ * name, thing name), which are kept in an index and updated by the thing handler.
  *
  * @author Markus Michels - Initial contribution
  */
@@ -35,13 +37,35 @@ import org.osgi.service.component.annotations.Deactivate;
 @Component(service = ShellyThingTable.class, configurationPolicy = ConfigurationPolicy.OPTIONAL)
 public class ShellyThingTable {
     private Map<String, ShellyThingInterface> thingTable = new ConcurrentHashMap<>();
+    // lower case representation -> thing
+    private final Map<String, ShellyThingInterface> representationIndex = new ConcurrentHashMap<>();
+    // thing -> indexed representations, used to remove outdated entries from the index
+    private final Map<ShellyThingInterface, Set<String>> indexedRepresentations = new ConcurrentHashMap<>();
     private @Nullable ShellyBasicDiscoveryService discoveryService;
 
     public void addThing(String key, ShellyThingInterface thing) {
-        if (thingTable.containsKey(key)) {
-            thingTable.remove(key);
+        ShellyThingInterface previous = thingTable.put(key, thing);
+        if (previous != null && previous != thing) {
+            removeRepresentations(previous);
         }
-        thingTable.put(key, thing);
+        updateThing(thing);
+    }
+
+    /**
+     * Update the index after the representations of the thing (e.g. IP address or service name) have changed.
+     *
+     * @param thing Thing to index
+     */
+    public synchronized void updateThing(ShellyThingInterface thing) {
+        if (!thingTable.containsValue(thing)) {
+            return; // thing was removed in the meantime
+        }
+        removeRepresentations(thing);
+        Set<String> representations = thing.getRepresentations();
+        for (String representation : representations) {
+            representationIndex.put(representation, thing);
+        }
+        indexedRepresentations.put(thing, representations);
     }
 
     public @Nullable ShellyThingInterface findThing(String key) {
@@ -49,13 +73,7 @@ public class ShellyThingTable {
         if (t != null) {
             return t;
         }
-        for (Map.Entry<String, ShellyThingInterface> entry : thingTable.entrySet()) {
-            t = entry.getValue();
-            if (t.checkRepresentation(key)) {
-                return t;
-            }
-        }
-        return null;
+        return representationIndex.get(key.toLowerCase());
     }
 
     public ShellyThingInterface getThing(String key) {
@@ -67,8 +85,19 @@ public class ShellyThingTable {
     }
 
     public void removeThing(String key) {
-        if (thingTable.containsKey(key)) {
-            thingTable.remove(key);
+        ShellyThingInterface thing = thingTable.remove(key);
+        if (thing != null) {
+            removeRepresentations(thing);
+        }
+    }
+
+    private synchronized void removeRepresentations(ShellyThingInterface thing) {
+        Set<String> representations = indexedRepresentations.remove(thing);
+        if (representations != null) {
+            for (String representation : representations) {
+                // another thing may use the same representation
+                representationIndex.remove(representation, thing);
+            }
         }
     }
 
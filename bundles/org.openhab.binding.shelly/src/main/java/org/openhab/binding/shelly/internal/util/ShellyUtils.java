@@ -47,6 +47,8 @@ import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 
 /**
@@ -102,6 +104,28 @@ public class ShellyUtils {
         }
     }
 
+    /**
+     * Create an object from an already parsed JSON tree, so a message needs to be parsed only once even if it is
+     * mapped to different classes.
+     */
+    public static <T> T fromJson(Gson gson, JsonElement json, Class<T> classOfT) throws ShellyApiException {
+        String className = substringAfter(classOfT.getName(), "$");
+        try {
+            @Nullable
+            T obj = gson.fromJson(json, classOfT);
+            if (obj == null) {
+                throw new ShellyApiException(PRE + className + " from JSON: " + json);
+            }
+            return obj;
+        } catch (JsonParseException e) {
+            throw new ShellyApiException(
+                    PRE + className + " from JSON (syntax/format error: " + e.getMessage() + "): " + json, e);
+        } catch (RuntimeException e) {
+            throw new ShellyApiException(
+                    PRE + className + " from JSON (" + getString(e.getMessage() + "), JSON=" + json), e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> Class<T> wrap(Class<T> type) {
         if (type == int.class) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.shelly.internal.util.ShellyUtils;
+
+/**
+ * Tests for {@link ShellyPushHealth}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyPushHealthTest {
+    private static final int UPDATE_PERIOD = 40;
+    private static final int POLL_INTERVAL = 60;
+
+    private final ShellyPushHealth pushHealth = new ShellyPushHealth();
+
+    @Test
+    void pollWithoutPushedUpdates() {
+        assertThat(pushHealth.isHealthy(UPDATE_PERIOD), is(false));
+        assertThat(pushHealth.skipPoll(UPDATE_PERIOD, POLL_INTERVAL), is(false));
+    }
+
+    @Test
+    void skipPollWhilePushedUpdatesArrive() {
+        pushHealth.pollPerformed();
+        pushHealth.pushReceived();
+        double now = ShellyUtils.now();
+
+        assertThat(pushHealth.skipPoll(UPDATE_PERIOD, POLL_INTERVAL, now + 10), is(true));
+        // gap in pushed updates: fall back to polling
+        assertThat(pushHealth.skipPoll(UPDATE_PERIOD, POLL_INTERVAL, now + UPDATE_PERIOD + 1), is(false));
+    }
+
+    @Test
+    void pollAfterStretchedInterval() {
+        pushHealth.pollPerformed();
+        double now = ShellyUtils.now();
+        pushHealth.pushReceived();
+
+        assertThat(pushHealth.skipPoll(Integer.MAX_VALUE, POLL_INTERVAL, now + POLL_INTERVAL), is(true));
+        assertThat(pushHealth.skipPoll(Integer.MAX_VALUE, POLL_INTERVAL,
+                now + POLL_INTERVAL * ShellyPushHealth.POLL_STRETCH_FACTOR + 1), is(false));
+    }
+
+    @Test
+    void resetStopsSkipping() {
+        pushHealth.pollPerformed();
+        pushHealth.pushReceived();
+        pushHealth.reset();
+
+        assertThat(pushHealth.skipPoll(UPDATE_PERIOD, POLL_INTERVAL), is(false));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ShellyThingTable}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyThingTableTest {
+    private static final String UID1 = "shelly:shellyplus1:1";
+    private static final String UID2 = "shelly:shellyplus1:2";
+
+    private final ShellyThingTable thingTable = new ShellyThingTable();
+
+    private ShellyThingInterface thing(String... representations) {
+        ShellyThingInterface thing = mock(ShellyThingInterface.class);
+        when(thing.getRepresentations()).thenReturn(Set.of(representations));
+        return thing;
+    }
+
+    @Test
+    void findThingByRepresentation() {
+        ShellyThingInterface thing = thing(UID1, "192.168.1.2", "shellyplus1-a8032ab12345", "a8032ab12345");
+        thingTable.addThing(UID1, thing);
+
+        assertThat(thingTable.findThing(UID1), is(thing));
+        assertThat(thingTable.findThing("192.168.1.2"), is(thing));
+        assertThat(thingTable.findThing("ShellyPlus1-A8032AB12345"), is(thing));
+        assertThat(thingTable.findThing("a8032ab12345"), is(thing));
+        assertThat(thingTable.findThing("192.168.1.3"), is(nullValue()));
+    }
+
+    @Test
+    void updateThingReplacesRepresentations() {
+        ShellyThingInterface thing = thing(UID1, "192.168.1.2");
+        thingTable.addThing(UID1, thing);
+        when(thing.getRepresentations()).thenReturn(Set.of(UID1, "192.168.1.3"));
+        thingTable.updateThing(thing);
+
+        assertThat(thingTable.findThing("192.168.1.2"), is(nullValue()));
+        assertThat(thingTable.findThing("192.168.1.3"), is(thing));
+    }
+
+    @Test
+    void removeThingKeepsRepresentationsOfOtherThings() {
+        ShellyThingInterface thing1 = thing(UID1, "192.168.1.2", "shelly");
+        ShellyThingInterface thing2 = thing(UID2, "192.168.1.3", "shelly");
+        thingTable.addThing(UID1, thing1);
+        thingTable.addThing(UID2, thing2);
+        thingTable.removeThing(UID1);
+
+        assertThat(thingTable.findThing("192.168.1.2"), is(nullValue()));
+        assertThat(thingTable.findThing("shelly"), is(thing2));
+        assertThat(thingTable.size(), is(1));
+
+        thingTable.updateThing(thing1); // e.g. late initialization of a removed thing
+        assertThat(thingTable.findThing("192.168.1.2"), is(nullValue()));
+    }
+}
@@ -63,6 +63,11 @@ public class SonosXMLParser {
             </DIDL-Lite>\
             """;
 
+    private static final String DISALLOW_DOCTYPE_DECL = "http://apache.org/xml/features/disallow-doctype-decl";
+    private static final SAXParserFactory SAX_PARSER_FACTORY = SAXParserFactory.newInstance();
+    // SAXParser instances are not thread safe but they can be reused, so each thread keeps one
+    private static final ThreadLocal<@Nullable SAXParser> SAX_PARSERS = new ThreadLocal<>();
+
     private enum Element {
         TITLE,
         CLASS,
@@ -88,6 +93,40 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * Parse the given source with the SAX parser of the current thread. The parser is taken from the thread for the
+     * duration of the parsing, so that a handler can parse nested XML documents with another parser.
+     *
+     * @param source the XML to parse
+     * @param handler the handler receiving the SAX events
+     * @param disallowDoctype reject documents which contain a DOCTYPE declaration
+     */
+    private static void parse(InputSource source, DefaultHandler handler, boolean disallowDoctype)
+            throws IOException, SAXException, ParserConfigurationException {
+        SAXParser saxParser = SAX_PARSERS.get();
+        if (saxParser == null) {
+            synchronized (SAX_PARSER_FACTORY) {
+                saxParser = SAX_PARSER_FACTORY.newSAXParser();
+            }
+        } else {
+            SAX_PARSERS.set(null);
+        }
+        try {
+            if (disallowDoctype) {
+                saxParser.getXMLReader().setFeature(DISALLOW_DOCTYPE_DECL, true);
+            }
+            saxParser.parse(source, handler);
+        } finally {
+            saxParser.reset();
+            SAX_PARSERS.set(saxParser);
+        }
+    }
+
+    private static void parse(InputSource source, DefaultHandler handler)
+            throws IOException, SAXException, ParserConfigurationException {
+        parse(source, handler, false);
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -95,9 +134,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Alarms from string '{}'", xml);
         }
@@ -111,9 +148,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Entries from string '{}'", xml);
         }
@@ -132,12 +167,9 @@ public class SonosXMLParser {
      */
     public static @Nullable SonosResourceMetaData getResourceMetaData(String xml)
             throws SAXException, ParserConfigurationException {
-        SAXParserFactory factory = SAXParserFactory.newInstance();
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        SAXParser saxParser = factory.newSAXParser();
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
         try {
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, true);
         } catch (IOException | SAXException e) {
             LOGGER.warn("Could not parse Resource MetaData from string '{}'", xml);
         }
@@ -151,9 +183,7 @@ public class SonosXMLParser {
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse ZoneGroup from string '{}'", xml);
         }
@@ -164,9 +194,7 @@ public class SonosXMLParser {
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse RadioTime from string '{}'", xml);
         }
@@ -177,9 +205,7 @@ public class SonosXMLParser {
     public static Map<String, String> getRenderingControlFromXML(String xml) {
         RenderingControlEventHandler handler = new RenderingControlEventHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Rendering Control from string '{}'", xml);
         }
@@ -189,9 +215,7 @@ public class SonosXMLParser {
     public static Map<String, String> getAVTransportFromXML(String xml) {
         AVTransportEventHandler handler = new AVTransportEventHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse AV Transport from string '{}'", xml);
         }
@@ -201,9 +225,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse MetaData from string '{}'", xml);
         }
@@ -214,9 +236,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse music services from string '{}'", xml);
         }
@@ -915,9 +935,7 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(URL descriptorURL) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(descriptorURL.openStream()), roomNameHandler);
+            parse(new InputSource(descriptorURL.openStream()), roomNameHandler);
         } catch (SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Sonos room name from URL '{}'", descriptorURL);
         } catch (IOException e) {
@@ -955,9 +973,7 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(descriptorURL.openStream()), modelNameHandler);
+            parse(new InputSource(descriptorURL.openStream()), modelNameHandler);
         } catch (SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Sonos model name from URL '{}'", descriptorURL);
         } catch (IOException e) {
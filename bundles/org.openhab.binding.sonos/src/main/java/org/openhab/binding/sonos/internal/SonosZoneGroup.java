@@ -14,9 +14,12 @@ package org.openhab.binding.sonos.internal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link SonosZoneGroup} is data structure to describe
@@ -28,17 +31,19 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class SonosZoneGroup {
 
     private final List<String> members;
-    private List<String> memberZoneNames;
+    private final List<String> memberZoneNames;
     private final String coordinator;
     private final String id;
 
     public SonosZoneGroup(String id, String coordinator, Collection<String> members,
             Collection<String> memberZoneNames) {
-        this.members = new ArrayList<>(members);
-        if (!this.members.contains(coordinator)) {
-            this.members.add(coordinator);
+        List<String> allMembers = new ArrayList<>(members);
+        if (!allMembers.contains(coordinator)) {
+            allMembers.add(coordinator);
         }
-        this.memberZoneNames = new ArrayList<>(memberZoneNames);
+        // groups are shared by all players through SonosZoneGroupTopology
+        this.members = Collections.unmodifiableList(allMembers);
+        this.memberZoneNames = Collections.unmodifiableList(new ArrayList<>(memberZoneNames));
         this.coordinator = coordinator;
         this.id = id;
     }
@@ -58,4 +63,21 @@ public class SonosZoneGroup {
     public String getId() {
         return id;
     }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SonosZoneGroup other)) {
+            return false;
+        }
+        return Objects.equals(id, other.id) && Objects.equals(coordinator, other.coordinator)
+                && members.equals(other.members) && memberZoneNames.equals(other.memberZoneNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, coordinator, members, memberZoneNames);
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SonosZoneGroupTopology} is the parsed ZoneGroupState of a Sonos household.
+ *
+ * Every Zone Player receives the same ZoneGroupState in its own UPnP event, so the most recently parsed topologies are
+ * shared between the players and each distinct ZoneGroupState is parsed only once.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosZoneGroupTopology {
+
+    public static final SonosZoneGroupTopology EMPTY = new SonosZoneGroupTopology("", List.of());
+
+    // one entry per household is enough, keep a few for setups with several households
+    private static final int CACHE_SIZE = 4;
+    private static final Map<String, SonosZoneGroupTopology> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, SonosZoneGroupTopology> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final String xml;
+    private final List<SonosZoneGroup> groups;
+    private final Map<String, SonosZoneGroup> groupsByMember = new HashMap<>();
+
+    private SonosZoneGroupTopology(String xml, List<SonosZoneGroup> groups) {
+        this.xml = xml;
+        this.groups = Collections.unmodifiableList(groups);
+        for (SonosZoneGroup group : groups) {
+            for (String member : group.getMembers()) {
+                groupsByMember.putIfAbsent(member, group);
+            }
+        }
+    }
+
+    /**
+     * @param xml the ZoneGroupState
+     * @return the topology described by the given ZoneGroupState
+     */
+    public static SonosZoneGroupTopology fromXML(String xml) {
+        synchronized (CACHE) {
+            SonosZoneGroupTopology topology = CACHE.get(xml);
+            if (topology != null) {
+                return topology;
+            }
+        }
+        SonosZoneGroupTopology topology = new SonosZoneGroupTopology(xml, SonosXMLParser.getZoneGroupFromXML(xml));
+        synchronized (CACHE) {
+            CACHE.put(xml, topology);
+        }
+        return topology;
+    }
+
+    public String getXML() {
+        return xml;
+    }
+
+    public List<SonosZoneGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * @param member the UDN of a Zone Player
+     * @return the group the player is member of, or null if it is not part of the topology
+     */
+    public @Nullable SonosZoneGroup getGroup(String member) {
+        return groupsByMember.get(member);
+    }
+
+    /**
+     * Check whether the group of a player differs between this and a previous topology, i.e. whether its group ID,
+     * coordinator, members or member zone names changed.
+     *
+     * @param previous the previous topology
+     * @param member the UDN of a Zone Player
+     * @return true if the group of the player changed
+     */
+    public boolean isGroupChanged(SonosZoneGroupTopology previous, String member) {
+        return !Objects.equals(getGroup(member), previous.getGroup(member));
+    }
+}
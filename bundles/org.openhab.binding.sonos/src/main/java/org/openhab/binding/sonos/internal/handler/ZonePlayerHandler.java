@@ -43,6 +43,7 @@ import org.openhab.binding.sonos.internal.SonosResourceMetaData;
 import org.openhab.binding.sonos.internal.SonosStateDescriptionOptionProvider;
 import org.openhab.binding.sonos.internal.SonosXMLParser;
 import org.openhab.binding.sonos.internal.SonosZoneGroup;
+import org.openhab.binding.sonos.internal.SonosZoneGroupTopology;
 import org.openhab.binding.sonos.internal.SonosZonePlayerState;
 import org.openhab.binding.sonos.internal.config.ZonePlayerConfiguration;
 import org.openhab.core.io.net.http.HttpUtil;
@@ -195,6 +196,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * Thing handler instance of the coordinator speaker used for control delegation
      */
     private @Nullable ZonePlayerHandler coordinatorHandler;
+    private volatile SonosZoneGroupTopology zoneGroupTopology = SonosZoneGroupTopology.EMPTY;
 
     private @Nullable List<SonosMusicService> musicServices;
 
@@ -547,6 +549,13 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     updateChannel(COORDINATOR);
                     // Update coordinator after a change is made to the grouping of Sonos players
                     updateGroupCoordinator();
+                    SonosZoneGroupTopology previousTopology = oldValue != null
+                            ? SonosZoneGroupTopology.fromXML(oldValue)
+                            : SonosZoneGroupTopology.EMPTY;
+                    if (!getZoneGroupTopology().isGroupChanged(previousTopology, getUDN())) {
+                        // the topology only changed for players of other groups
+                        break;
+                    }
                     updateMediaInformation();
                     // Update state and control channels for the group members with the coordinator values
                     String transportState = getTransportState();
@@ -1216,12 +1225,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public String getCoordinator() {
-        for (SonosZoneGroup zg : getZoneGroups()) {
-            if (zg.getMembers().contains(getUDN())) {
-                return zg.getCoordinator();
-            }
-        }
-        return getUDN();
+        SonosZoneGroup zoneGroup = getZoneGroupTopology().getGroup(getUDN());
+        return zoneGroup != null ? zoneGroup.getCoordinator() : getUDN();
     }
 
     public boolean isCoordinator() {
@@ -1935,8 +1940,25 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     private Collection<SonosZoneGroup> getZoneGroups() {
+        return getZoneGroupTopology().getGroups();
+    }
+
+    /**
+     * Returns the zone group topology of the last received ZoneGroupState, which is shared with the other players
+     *
+     * @return {@link SonosZoneGroupTopology}
+     */
+    private SonosZoneGroupTopology getZoneGroupTopology() {
         String zoneGroupState = stateMap.get("ZoneGroupState");
-        return zoneGroupState == null ? Collections.emptyList() : SonosXMLParser.getZoneGroupFromXML(zoneGroupState);
+        if (zoneGroupState == null) {
+            return SonosZoneGroupTopology.EMPTY;
+        }
+        SonosZoneGroupTopology topology = zoneGroupTopology;
+        if (!topology.getXML().equals(zoneGroupState)) {
+            topology = SonosZoneGroupTopology.fromXML(zoneGroupState);
+            zoneGroupTopology = topology;
+        }
+        return topology;
     }
 
     /**
@@ -1946,13 +1968,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * @return {@link SonosZoneGroup}
      */
     private @Nullable SonosZoneGroup getCurrentZoneGroup() {
-        for (SonosZoneGroup zoneGroup : getZoneGroups()) {
-            if (zoneGroup.getMembers().contains(getUDN())) {
-                return zoneGroup;
-            }
+        SonosZoneGroup zoneGroup = getZoneGroupTopology().getGroup(getUDN());
+        if (zoneGroup == null) {
+            logger.debug("Could not fetch Sonos group state information");
         }
-        logger.debug("Could not fetch Sonos group state information");
-        return null;
+        return zoneGroup;
     }
 
     /**
@@ -2291,13 +2311,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     protected List<String> getZoneGroupMembers() {
         List<String> result = new ArrayList<>();
 
-        Collection<SonosZoneGroup> zoneGroups = getZoneGroups();
-        if (!zoneGroups.isEmpty()) {
-            for (SonosZoneGroup zg : zoneGroups) {
-                if (zg.getMembers().contains(getUDN())) {
-                    result.addAll(zg.getMembers());
-                    break;
-                }
+        SonosZoneGroupTopology topology = getZoneGroupTopology();
+        if (!topology.getGroups().isEmpty()) {
+            SonosZoneGroup zoneGroup = topology.getGroup(getUDN());
+            if (zoneGroup != null) {
+                result.addAll(zoneGroup.getMembers());
             }
         } else {
             // If the group topology was not yet received, return at least the current Sonos zone
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SonosZoneGroupTopology}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosZoneGroupTopologyTest {
+
+    private static final String GROUPS = """
+            <ZoneGroupState><ZoneGroups>\
+            <ZoneGroup Coordinator="RINCON_A" ID="RINCON_A:1">\
+            <ZoneGroupMember UUID="RINCON_A" ZoneName="Kitchen"/>\
+            <ZoneGroupMember UUID="RINCON_B" ZoneName="Dining"/>\
+            </ZoneGroup>\
+            <ZoneGroup Coordinator="RINCON_C" ID="RINCON_C:1">\
+            <ZoneGroupMember UUID="RINCON_C" ZoneName="Office"/>\
+            </ZoneGroup>\
+            </ZoneGroups></ZoneGroupState>\
+            """;
+
+    private static final String OFFICE_RENAMED = GROUPS.replace("Office", "Study");
+
+    @Test
+    public void parseGroups() {
+        SonosZoneGroupTopology topology = SonosZoneGroupTopology.fromXML(GROUPS);
+
+        assertEquals(2, topology.getGroups().size());
+        SonosZoneGroup group = topology.getGroup("RINCON_B");
+        assertNotNull(group);
+        if (group != null) {
+            assertEquals("RINCON_A", group.getCoordinator());
+            assertEquals("RINCON_A:1", group.getId());
+            assertEquals(2, group.getMembers().size());
+        }
+        assertNull(topology.getGroup("RINCON_X"));
+    }
+
+    @Test
+    public void sameStateIsParsedOnce() {
+        SonosZoneGroupTopology topology = SonosZoneGroupTopology.fromXML(GROUPS);
+
+        assertSame(topology, SonosZoneGroupTopology.fromXML(new String(GROUPS)));
+    }
+
+    @Test
+    public void groupChangedOnlyForAffectedPlayers() {
+        SonosZoneGroupTopology previous = SonosZoneGroupTopology.fromXML(GROUPS);
+        SonosZoneGroupTopology current = SonosZoneGroupTopology.fromXML(OFFICE_RENAMED);
+
+        assertFalse(current.isGroupChanged(previous, "RINCON_A"));
+        assertFalse(current.isGroupChanged(previous, "RINCON_B"));
+        assertTrue(current.isGroupChanged(previous, "RINCON_C"));
+        assertTrue(previous.isGroupChanged(SonosZoneGroupTopology.EMPTY, "RINCON_A"));
+    }
+}
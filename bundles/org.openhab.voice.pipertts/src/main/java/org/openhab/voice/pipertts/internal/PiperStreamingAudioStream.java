@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+
+/**
+ * The {@link PiperStreamingAudioStream} class is an audio stream that is readable while the audio is still being
+ * generated. The generated audio is appended chunk by chunk and reads block until the next chunk is available.
+ *
+ * The stream only ends once all audio has been appended, so consumers like the TTS cache always get the complete
+ * audio. If the generation fails, the read reaching the missing audio fails instead of ending the stream.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PiperStreamingAudioStream extends AudioStream {
+    private static final byte[] END = new byte[0];
+
+    private final AudioFormat audioFormat;
+    private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+    private volatile @Nullable IOException failure;
+    private volatile boolean closed;
+    private byte[] chunk = new byte[0];
+    private int position;
+    private boolean ended;
+
+    public PiperStreamingAudioStream(AudioFormat audioFormat) {
+        this.audioFormat = audioFormat;
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return audioFormat;
+    }
+
+    /**
+     * Append generated audio to the stream.
+     *
+     * @param data the audio bytes
+     */
+    public void append(byte[] data) {
+        if (data.length > 0) {
+            chunks.add(data);
+        }
+    }
+
+    /**
+     * Mark the stream as complete, readers get the end of the stream after the appended audio.
+     */
+    public void finish() {
+        chunks.add(END);
+    }
+
+    /**
+     * Mark the stream as failed, readers get the given exception after the appended audio.
+     *
+     * @param e the generation failure
+     */
+    public void fail(IOException e) {
+        failure = e;
+        chunks.add(END);
+    }
+
+    /**
+     * @return true if the consumer closed the stream, so there is no need to generate more audio
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextChunk()) {
+            return -1;
+        }
+        return chunk[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, Objects.requireNonNull(b).length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        int count = Math.min(len, chunk.length - position);
+        System.arraycopy(chunk, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        super.close();
+    }
+
+    private boolean nextChunk() throws IOException {
+        while (position >= chunk.length) {
+            if (ended) {
+                return checkFailure();
+            }
+            try {
+                chunk = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for audio");
+            }
+            position = 0;
+            if (chunk == END) {
+                ended = true;
+                return checkFailure();
+            }
+        }
+        return true;
+    }
+
+    private boolean checkFailure() throws IOException {
+        IOException failure = this.failure;
+        if (failure != null) {
+            throw new IOException("Voice generation failed: " + failure.getMessage(), failure);
+        }
+        return false;
+    }
+}
@@ -24,9 +24,11 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -93,6 +95,8 @@ public class PiperTTSService extends AbstractCachedTTSService {
     private static final Path JAR_FILE = PIPER_FOLDER.resolve("piper-jni-" + PIPER_VERSION + ".jar");
     private static final String JAR_URL = "https://repo1.maven.org/maven2/io/github/givimad/piper-jni/" + PIPER_VERSION
             + "/piper-jni-" + PIPER_VERSION + ".jar";
+    // Minimum number of characters generated at once when streaming the audio sentence by sentence
+    private static final int MIN_SENTENCE_LENGTH = 20;
     private final Logger logger = LoggerFactory.getLogger(PiperTTSService.class);
     private final Object modelLock = new Object();
     private final ExecutorService executor = ThreadPoolManager.getPool("voice-pipertts");
@@ -339,8 +343,11 @@ public class PiperTTSService extends AbstractCachedTTSService {
         if (!(voice instanceof PiperTTSVoice ttsVoice)) {
             throw new TTSException("No piper voice provided");
         }
+        List<String> sentences = splitSentences(text, ttsVoice.getLocale());
+        javax.sound.sampled.AudioFormat jTargetFormat = getJavaAudioFormat(audioFormat);
         VoiceModel voiceModel = null;
         boolean usingPreloadedModel = false;
+        boolean streaming = false;
         short[] buffer;
         final VoiceModel preloadedModel = this.preloadedModel;
         try {
@@ -362,9 +369,27 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 throw new TTSException("Unable to load voice model: " + e.getMessage());
             }
             try {
-                logger.debug("Generating audio for: '{}'", text);
-                buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
-                logger.debug("Generated {} samples of audio", buffer.length);
+                if (sentences.size() <= 1) {
+                    logger.debug("Generating audio for: '{}'", text);
+                    buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
+                    logger.debug("Generated {} samples of audio", buffer.length);
+                } else {
+                    // Return the audio as soon as the first sentence is ready and generate the rest while it plays
+                    logger.debug("Generating audio for first of {} sentences: '{}'", sentences.size(),
+                            sentences.get(0));
+                    buffer = getPiper().textToAudio(voiceModel.piperVoice, sentences.get(0));
+                    PiperStreamingAudioStream audioStream = new PiperStreamingAudioStream(audioFormat);
+                    audioStream.append(getStreamingRIFFHeader(jTargetFormat));
+                    audioStream.append(convertSamples(buffer, voiceModel.sampleRate, jTargetFormat));
+                    final VoiceModel streamingModel = voiceModel;
+                    final boolean streamingPreloadedModel = usingPreloadedModel;
+                    executor.submit(() -> synthesizeSentences(audioStream, sentences.subList(1, sentences.size()),
+                            streamingModel, streamingPreloadedModel, jTargetFormat));
+                    // the model is released once the remaining sentences have been generated
+                    streaming = true;
+                    logger.debug("Return streamed audio");
+                    return audioStream;
+                }
             } catch (IOException e) {
                 throw new TTSException("Voice generation failed: " + e.getMessage());
             }
@@ -374,24 +399,74 @@ public class PiperTTSService extends AbstractCachedTTSService {
             logger.warn("RuntimeException running text to audio: {}", e.getMessage());
             throw new TTSException("There was an error running Piper");
         } finally {
-            if (voiceModel != null) {
-                if (!usingPreloadedModel
-                        || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
-                    logger.debug("Unloading voice model");
-                    voiceModel.close();
-                } else {
-                    logger.debug("Skipping voice model unload");
-                }
+            if (voiceModel != null && !streaming) {
+                releaseModel(voiceModel, usingPreloadedModel);
             }
         }
         try {
             logger.debug("Return re-encoded audio stream");
-            return getAudioStream(buffer, voiceModel.sampleRate, audioFormat);
+            return getAudioStream(buffer, voiceModel.sampleRate, jTargetFormat, audioFormat);
         } catch (IOException e) {
             throw new TTSException("Error while creating audio stream: " + e.getMessage());
         }
     }
 
+    private void synthesizeSentences(PiperStreamingAudioStream audioStream, List<String> sentences,
+            VoiceModel voiceModel, boolean usingPreloadedModel, javax.sound.sampled.AudioFormat jTargetFormat) {
+        try {
+            for (String sentence : sentences) {
+                if (audioStream.isClosed()) {
+                    logger.debug("Audio stream closed, skipping remaining sentences");
+                    return;
+                }
+                logger.debug("Generating audio for: '{}'", sentence);
+                short[] samples = getPiper().textToAudio(voiceModel.piperVoice, sentence);
+                logger.debug("Generated {} samples of audio", samples.length);
+                audioStream.append(convertSamples(samples, voiceModel.sampleRate, jTargetFormat));
+            }
+            audioStream.finish();
+        } catch (IOException e) {
+            audioStream.fail(e);
+        } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
+            audioStream.fail(new IOException("Piper not initialized, try restarting the add-on."));
+        } catch (RuntimeException e) {
+            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            audioStream.fail(new IOException("There was an error running Piper"));
+        } finally {
+            releaseModel(voiceModel, usingPreloadedModel);
+        }
+    }
+
+    private void releaseModel(VoiceModel voiceModel, boolean usingPreloadedModel) {
+        if (!usingPreloadedModel
+                || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
+            logger.debug("Unloading voice model");
+            voiceModel.close();
+        } else {
+            logger.debug("Skipping voice model unload");
+        }
+    }
+
+    private List<String> splitSentences(String text, Locale locale) {
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        List<String> sentences = new ArrayList<>();
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; end = iterator.next()) {
+            // Short fragments, e.g. after an abbreviation, are kept together with the following sentence
+            String sentence = text.substring(start, end).strip();
+            if (sentence.length() >= MIN_SENTENCE_LENGTH) {
+                sentences.add(sentence);
+                start = end;
+            }
+        }
+        String remaining = text.substring(start).strip();
+        if (!remaining.isEmpty()) {
+            sentences.add(remaining);
+        }
+        return sentences;
+    }
+
     private VoiceModel loadModel(PiperTTSVoice voice) throws IOException, PiperJNI.NotInitialized, LibraryNotLoaded {
         if (!Files.exists(voice.voiceModelPath()) || !Files.exists(voice.voiceModelConfigPath())) {
             throw new IOException("Missing voice files");
@@ -431,7 +506,27 @@ public class PiperTTSService extends AbstractCachedTTSService {
         }
     }
 
-    private ByteArrayAudioStream getAudioStream(short[] samples, long sampleRate, AudioFormat targetFormat)
+    private ByteArrayAudioStream getAudioStream(short[] samples, long sampleRate,
+            javax.sound.sampled.AudioFormat jTargetFormat, AudioFormat targetFormat) throws IOException {
+        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
+        // implementations.
+        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
+        // the length property.
+        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
+        // prepend
+        // the wav header bytes,
+        // and finally initializes an OpenHAB audio stream.
+        return getAudioStreamWithRIFFHeader(convertSamples(samples, sampleRate, jTargetFormat), jTargetFormat,
+                targetFormat);
+    }
+
+    private javax.sound.sampled.AudioFormat getJavaAudioFormat(AudioFormat targetFormat) {
+        return new javax.sound.sampled.AudioFormat(Objects.requireNonNull(targetFormat.getFrequency()),
+                Objects.requireNonNull(targetFormat.getBitDepth()), Objects.requireNonNull(targetFormat.getChannels()),
+                true, false);
+    }
+
+    private byte[] convertSamples(short[] samples, long sampleRate, javax.sound.sampled.AudioFormat jTargetFormat)
             throws IOException {
         // Convert the i16 samples returned by piper to a byte buffer
         ByteBuffer byteBuffer;
@@ -449,19 +544,27 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 audioLength);
         // Move the audio data to another Java audio stream in the target format so the Java AudioSystem encoded it as
         // needed.
-        javax.sound.sampled.AudioFormat jTargetFormat = new javax.sound.sampled.AudioFormat(
-                Objects.requireNonNull(targetFormat.getFrequency()), Objects.requireNonNull(targetFormat.getBitDepth()),
-                Objects.requireNonNull(targetFormat.getChannels()), true, false);
         AudioInputStream convertedInputStream = AudioSystem.getAudioInputStream(jTargetFormat, audioInputStreamTemp);
-        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
-        // implementations.
-        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
-        // the length property.
-        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
-        // prepend
-        // the wav header bytes,
-        // and finally initializes an OpenHAB audio stream.
-        return getAudioStreamWithRIFFHeader(convertedInputStream.readAllBytes(), jTargetFormat, targetFormat);
+        return convertedInputStream.readAllBytes();
+    }
+
+    private byte[] getStreamingRIFFHeader(javax.sound.sampled.AudioFormat jAudioFormat) {
+        // The length of the streamed audio is unknown when the header is sent, so the maximum length is announced
+        // like other streaming wav sources do.
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(0xFFFFFFFF);
+        header.put("WAVEfmt ".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(16);
+        header.putShort((short) 1);
+        header.putShort((short) jAudioFormat.getChannels());
+        header.putInt((int) jAudioFormat.getSampleRate());
+        header.putInt((int) jAudioFormat.getSampleRate() * jAudioFormat.getFrameSize());
+        header.putShort((short) jAudioFormat.getFrameSize());
+        header.putShort((short) jAudioFormat.getSampleSizeInBits());
+        header.put("data".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(0xFFFFFFFF - 36);
+        return header.array();
     }
 
     private String capitalize(String text) {
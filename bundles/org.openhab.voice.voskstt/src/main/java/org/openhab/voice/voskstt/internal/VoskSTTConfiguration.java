@@ -46,4 +46,16 @@ public class VoskSTTConfiguration {
      * Keep language model loaded
      */
     public boolean preloadModel = true;
+    /**
+     * Only works when preloadModel is disabled, seconds to keep the language model loaded after the last recognition.
+     */
+    public int modelIdleSeconds = 30;
+    /**
+     * Restrict the recognition to the item labels, the item command options and the grammar phrases.
+     */
+    public boolean grammarMode = false;
+    /**
+     * Comma separated phrases added to the grammar.
+     */
+    public String grammarPhrases = "";
 }
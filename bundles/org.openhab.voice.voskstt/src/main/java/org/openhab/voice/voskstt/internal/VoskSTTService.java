@@ -18,11 +18,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,6 +38,10 @@ import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.rest.LocaleService;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.types.CommandDescription;
+import org.openhab.core.types.CommandOption;
 import org.openhab.core.voice.RecognitionStartEvent;
 import org.openhab.core.voice.RecognitionStopEvent;
 import org.openhab.core.voice.STTException;
@@ -80,15 +87,22 @@ public class VoskSTTService implements STTService {
             }
         }
     }
+    private static final String UNKNOWN_WORD = "[unk]";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
     private final Logger logger = LoggerFactory.getLogger(VoskSTTService.class);
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool("OH-voice-voskstt");
     private final LocaleService localeService;
+    private final ItemRegistry itemRegistry;
     private VoskSTTConfiguration config = new VoskSTTConfiguration();
-    private @Nullable Model model;
+    private final Object modelLock = new Object();
+    // guarded by modelLock
+    private @Nullable SharedModel sharedModel;
+    private @Nullable ScheduledFuture<?> unloadModelTask;
 
     @Activate
-    public VoskSTTService(@Reference LocaleService localeService) {
+    public VoskSTTService(@Reference LocaleService localeService, @Reference ItemRegistry itemRegistry) {
         this.localeService = localeService;
+        this.itemRegistry = itemRegistry;
     }
 
     @Activate
@@ -114,29 +128,23 @@ public class VoskSTTService implements STTService {
 
     @Deactivate
     protected void deactivate(Map<String, Object> config) {
-        try {
-            unloadModel();
-        } catch (IOException e) {
-            logger.warn("IOException unloading model: {}", e.getMessage());
-        }
+        unloadModel();
     }
 
     private void configChange(Map<String, Object> config) {
         this.config = new Configuration(config).as(VoskSTTConfiguration.class);
         if (this.config.preloadModel) {
             try {
-                loadModel();
+                synchronized (modelLock) {
+                    loadModel();
+                }
             } catch (IOException e) {
                 logger.warn("IOException loading model: {}", e.getMessage());
             } catch (UnsatisfiedLinkError e) {
                 logger.warn("Missing native dependency: {}", e.getMessage());
             }
         } else {
-            try {
-                unloadModel();
-            } catch (IOException e) {
-                logger.warn("IOException unloading model: {}", e.getMessage());
-            }
+            unloadModel();
         }
     }
 
@@ -177,7 +185,7 @@ public class VoskSTTService implements STTService {
             if (AudioFormat.CONTAINER_WAVE.equals(format.getContainer())) {
                 AudioWaveUtils.removeFMT(audioStream);
             }
-            backgroundRecognize(sttListener, audioStream, frequency, aborted);
+            backgroundRecognize(sttListener, audioStream, frequency, locale, aborted);
         } catch (IOException e) {
             throw new STTException(e);
         }
@@ -186,49 +194,141 @@ public class VoskSTTService implements STTService {
         };
     }
 
-    private Model getModel() throws IOException, UnsatisfiedLinkError {
-        var model = this.model;
-        if (model != null) {
-            return model;
+    /**
+     * Get the shared model, loading it if needed. Each call must be paired with a call to
+     * {@link #releaseModel(SharedModel)}.
+     */
+    private SharedModel retainModel() throws IOException, UnsatisfiedLinkError {
+        synchronized (modelLock) {
+            cancelUnloadModelTask();
+            var sharedModel = this.sharedModel;
+            if (sharedModel == null) {
+                sharedModel = loadModel();
+            }
+            sharedModel.users++;
+            return sharedModel;
+        }
+    }
+
+    private void releaseModel(SharedModel sharedModel) {
+        synchronized (modelLock) {
+            if (--sharedModel.users > 0) {
+                return;
+            }
+            if (sharedModel != this.sharedModel) {
+                // replaced or unloaded while in use
+                logger.debug("unloading model");
+                sharedModel.model.close();
+            } else if (!config.preloadModel) {
+                logger.debug("model idle, unloading it in {} seconds", config.modelIdleSeconds);
+                unloadModelTask = executor.schedule(this::unloadIdleModel, config.modelIdleSeconds, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private void unloadIdleModel() {
+        synchronized (modelLock) {
+            var sharedModel = this.sharedModel;
+            if (sharedModel != null && sharedModel.users == 0) {
+                unloadModel();
+            }
         }
-        return loadModel();
     }
 
-    private Model loadModel() throws IOException, UnsatisfiedLinkError {
+    private SharedModel loadModel() throws IOException, UnsatisfiedLinkError {
         unloadModel();
         var modelFile = new File(MODEL_PATH);
         if (!modelFile.exists() || !modelFile.isDirectory()) {
             throw new IOException("missing model dir: " + MODEL_PATH);
         }
         logger.debug("loading model");
-        var model = new Model(MODEL_PATH);
-        if (config.preloadModel) {
-            this.model = model;
+        var sharedModel = new SharedModel(new Model(MODEL_PATH));
+        this.sharedModel = sharedModel;
+        return sharedModel;
+    }
+
+    private void unloadModel() {
+        synchronized (modelLock) {
+            cancelUnloadModelTask();
+            var sharedModel = this.sharedModel;
+            if (sharedModel != null) {
+                this.sharedModel = null;
+                if (sharedModel.users == 0) {
+                    logger.debug("unloading model");
+                    sharedModel.model.close();
+                } else {
+                    // closed by the last recognition using it
+                    logger.debug("model in use, unloading it once released");
+                }
+            }
+        }
+    }
+
+    private void cancelUnloadModelTask() {
+        var unloadModelTask = this.unloadModelTask;
+        if (unloadModelTask != null) {
+            unloadModelTask.cancel(false);
+            this.unloadModelTask = null;
+        }
+    }
+
+    /**
+     * Build a grammar restricting the recognition to the item labels and command options, plus the configured phrases.
+     *
+     * @return the grammar as a json array, or null if the grammar mode is disabled or there are no phrases
+     */
+    private @Nullable String getGrammar(Locale locale) throws IOException {
+        if (!config.grammarMode) {
+            return null;
         }
-        return model;
+        Set<String> phrases = new LinkedHashSet<>();
+        for (String phrase : config.grammarPhrases.split(",")) {
+            addGrammarPhrase(phrases, phrase, locale);
+        }
+        for (Item item : itemRegistry.getItems()) {
+            addGrammarPhrase(phrases, item.getLabel(), locale);
+            CommandDescription commandDescription = item.getCommandDescription(locale);
+            if (commandDescription != null) {
+                for (CommandOption option : commandDescription.getCommandOptions()) {
+                    addGrammarPhrase(phrases, option.getLabel(), locale);
+                }
+            }
+        }
+        if (phrases.isEmpty()) {
+            logger.debug("no grammar phrases, using the full model vocabulary");
+            return null;
+        }
+        phrases.add(UNKNOWN_WORD);
+        logger.debug("using a grammar of {} phrases", phrases.size());
+        return MAPPER.writeValueAsString(phrases);
     }
 
-    private void unloadModel() throws IOException {
-        var model = this.model;
-        if (model != null) {
-            logger.debug("unloading model");
-            model.close();
-            this.model = null;
+    private void addGrammarPhrase(Set<String> phrases, @Nullable String phrase, Locale locale) {
+        if (phrase == null) {
+            return;
+        }
+        // the model vocabulary is lower case and without punctuation
+        String normalized = phrase.toLowerCase(locale).replaceAll("[^\\p{L}\\p{N}' ]+", " ").replaceAll(" +", " ")
+                .trim();
+        if (!normalized.isEmpty()) {
+            phrases.add(normalized);
         }
     }
 
     private Future<?> backgroundRecognize(STTListener sttListener, InputStream audioStream, long frequency,
-            AtomicBoolean aborted) {
+            Locale locale, AtomicBoolean aborted) {
         StringBuilder transcriptBuilder = new StringBuilder();
         long maxTranscriptionMillis = (config.maxTranscriptionSeconds * 1000L);
         long maxSilenceMillis = (config.maxSilenceSeconds * 1000L);
         long startTime = System.currentTimeMillis();
         return executor.submit(() -> {
             Recognizer recognizer = null;
-            Model model = null;
+            SharedModel sharedModel = null;
             try {
-                model = getModel();
-                recognizer = new Recognizer(model, frequency);
+                sharedModel = retainModel();
+                String grammar = getGrammar(locale);
+                recognizer = grammar != null ? new Recognizer(sharedModel.model, frequency, grammar)
+                        : new Recognizer(sharedModel.model, frequency);
                 long lastInputTime = System.currentTimeMillis();
                 int nbytes;
                 byte[] b = new byte[4096];
@@ -254,9 +354,8 @@ public class VoskSTTService implements STTService {
                         lastInputTime = System.currentTimeMillis();
                         var result = recognizer.getResult();
                         logger.debug("Result: {}", result);
-                        ObjectMapper mapper = new ObjectMapper();
-                        var json = mapper.readTree(result);
-                        transcriptBuilder.append(json.get("text").asText()).append(" ");
+                        var json = MAPPER.readTree(result);
+                        transcriptBuilder.append(json.get("text").asText().replace(UNKNOWN_WORD, "")).append(" ");
                         if (config.singleUtteranceMode) {
                             break;
                         }
@@ -266,7 +365,7 @@ public class VoskSTTService implements STTService {
                 }
                 if (!aborted.get()) {
                     sttListener.sttEventReceived(new RecognitionStopEvent());
-                    var transcript = transcriptBuilder.toString().trim();
+                    var transcript = transcriptBuilder.toString().replaceAll(" +", " ").trim();
                     logger.debug("Final: {}", transcript);
                     if (!transcript.isBlank()) {
                         sttListener.sttEventReceived(new SpeechRecognitionEvent(transcript, 1F));
@@ -284,8 +383,8 @@ public class VoskSTTService implements STTService {
                 if (recognizer != null) {
                     recognizer.close();
                 }
-                if (!config.preloadModel && model != null) {
-                    model.close();
+                if (sharedModel != null) {
+                    releaseModel(sharedModel);
                 }
             }
             try {
@@ -324,4 +423,17 @@ public class VoskSTTService implements STTService {
             throw new LinkageError("Required shared library libatomic is missing");
         }
     }
+
+    /**
+     * The loaded model and the number of recognitions using it, which all create their own recognizer.
+     */
+    private static class SharedModel {
+        private final Model model;
+        // guarded by modelLock
+        private int users;
+
+        private SharedModel(Model model) {
+            this.model = model;
+        }
+    }
 }
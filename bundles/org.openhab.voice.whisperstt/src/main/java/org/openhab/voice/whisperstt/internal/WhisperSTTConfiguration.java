@@ -34,6 +34,10 @@ public class WhisperSTTConfiguration {
      * Keep model loaded.
      */
     public boolean preloadModel;
+    /**
+     * Number of whisper states sharing the loaded model, limits the number of parallel transcriptions.
+     */
+    public int parallelTranscriptions = 2;
     /**
      * Defines the audio step.
      */
@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -83,7 +84,6 @@ import io.github.givimad.whisperjni.WhisperFullParams;
 import io.github.givimad.whisperjni.WhisperGrammar;
 import io.github.givimad.whisperjni.WhisperJNI;
 import io.github.givimad.whisperjni.WhisperSamplingStrategy;
-import io.github.givimad.whisperjni.WhisperState;
 
 /**
  * The {@link WhisperSTTService} class is a service implementation to use whisper.cpp for Speech-to-Text.
@@ -98,11 +98,13 @@ public class WhisperSTTService implements STTService {
     protected static final Path WHISPER_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "whisper");
     private static final Path SAMPLES_FOLDER = Path.of(WHISPER_FOLDER.toString(), "samples");
     private static final int WHISPER_SAMPLE_RATE = 16000;
+    private static final int STATE_TIMEOUT_SECONDS = 60;
     private final Logger logger = LoggerFactory.getLogger(WhisperSTTService.class);
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool("OH-voice-whisperstt");
     private final LocaleService localeService;
     private WhisperSTTConfiguration config = new WhisperSTTConfiguration();
-    private @Nullable WhisperContext context;
+    private @Nullable WhisperStatePool statePool;
+    private int statePoolUsers;
     private @Nullable WhisperGrammar grammar;
     private @Nullable WhisperJNI whisper;
     private boolean isWhisperLibAlreadyLoaded = false;
@@ -224,7 +226,8 @@ public class WhisperSTTService implements STTService {
         }
         if (this.config.preloadModel) {
             try {
-                loadContext();
+                unloadContext();
+                releaseStatePool(retainStatePool());
             } catch (IOException e) {
                 logger.warn("IOException loading model: {}", e.getMessage());
             } catch (UnsatisfiedLinkError e) {
@@ -309,16 +312,45 @@ public class WhisperSTTService implements STTService {
         return whisper;
     }
 
-    private WhisperContext getContext() throws IOException, UnsatisfiedLinkError {
-        var context = this.context;
-        if (context != null) {
-            return context;
+    /**
+     * Get the pool of whisper states, loading the model if needed, and register a user of it.
+     * Each call must be followed by a call to {@link #releaseStatePool(WhisperStatePool)}.
+     */
+    private synchronized WhisperStatePool retainStatePool() throws IOException, UnsatisfiedLinkError {
+        var statePool = this.statePool;
+        if (statePool == null) {
+            int size = Math.max(1, config.parallelTranscriptions);
+            statePool = new WhisperStatePool(getWhisper(), loadContext(), size);
+            logger.debug("Whisper state pool created with {} states", size);
+            this.statePool = statePool;
+            statePoolUsers = 0;
+        }
+        statePoolUsers++;
+        return statePool;
+    }
+
+    /**
+     * Unregister a user of the pool of whisper states, the model is unloaded when it is not preloaded and the pool is
+     * not used anymore.
+     *
+     * @param statePool the pool returned by {@link #retainStatePool()}
+     */
+    private synchronized void releaseStatePool(WhisperStatePool statePool) {
+        if (statePool != this.statePool) {
+            // already unloaded
+            return;
+        }
+        statePoolUsers--;
+        if (statePoolUsers <= 0 && !config.preloadModel) {
+            try {
+                unloadContext();
+            } catch (IOException e) {
+                logger.warn("IOException unloading model: {}", e.getMessage());
+            }
         }
-        return loadContext();
     }
 
-    private synchronized WhisperContext loadContext() throws IOException {
-        unloadContext();
+    private WhisperContext loadContext() throws IOException {
         String modelFilename = this.config.modelName;
         if (modelFilename.isBlank()) {
             throw new IOException("The modelName configuration is missing");
@@ -339,9 +371,6 @@ public class WhisperSTTService implements STTService {
         WhisperJNI whisper = getWhisper();
         var context = whisper.initNoState(modelPath, getWhisperContextParams());
         logger.debug("Whisper context loaded");
-        if (config.preloadModel) {
-            this.context = context;
-        }
         if (!config.openvinoDevice.isBlank()) {
             // has no effect if OpenVINO is not enabled in whisper.cpp library.
             logger.debug("Init OpenVINO device");
@@ -356,12 +385,14 @@ public class WhisperSTTService implements STTService {
         return params;
     }
 
-    private void unloadContext() throws IOException {
-        var context = this.context;
-        if (context != null) {
+    private synchronized void unloadContext() throws IOException {
+        var statePool = this.statePool;
+        if (statePool != null) {
+            // the model is unloaded as soon as running transcriptions are done
             logger.debug("Unloading model");
-            context.close();
-            this.context = null;
+            statePool.close();
+            this.statePool = null;
+            statePoolUsers = 0;
         }
     }
 
@@ -554,26 +585,24 @@ public class WhisperSTTService implements STTService {
     private String recognizeLocal(int audioSamplesOffset, short[] audioSamples, String language) throws STTException {
         logger.debug("running whisper with {} seconds of audio...",
                 Math.round((((float) audioSamplesOffset) / (float) WHISPER_SAMPLE_RATE) * 100f) / 100f);
-        var releaseContext = !config.preloadModel;
-
-        WhisperJNI whisper = null;
-        WhisperContext ctx = null;
-        WhisperState state = null;
+        WhisperStatePool statePool = null;
+        WhisperStatePool.Slot slot = null;
         try {
-            whisper = getWhisper();
-            ctx = getContext();
-            logger.debug("Creating whisper state...");
-            state = whisper.initState(ctx);
-            logger.debug("Whisper state created");
-            WhisperFullParams params = getWhisperFullParams(ctx, language);
-
-            // convert to local whisper format (float)
-            float[] floatArray = new float[audioSamples.length];
-            for (int i = 0; i < audioSamples.length; i++) {
+            WhisperJNI whisper = getWhisper();
+            statePool = retainStatePool();
+            logger.debug("Waiting for a whisper state...");
+            slot = statePool.acquire(STATE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            WhisperContext ctx = statePool.getContext();
+            WhisperFullParams params = getWhisperFullParams(ctx, language, statePool.getSize());
+
+            // convert to local whisper format (float), reusing the buffer of the state
+            float[] floatArray = slot.getSamples(audioSamplesOffset);
+            for (int i = 0; i < audioSamplesOffset; i++) {
                 floatArray[i] = Float.min(1f, Float.max((float) audioSamples[i] / ((float) Short.MAX_VALUE), -1f));
             }
 
             long execStartTime = System.currentTimeMillis();
+            var state = slot.getState();
             var result = whisper.fullWithState(ctx, state, params, floatArray, audioSamplesOffset);
             logger.debug("whisper ended in {}ms with result code {}", System.currentTimeMillis() - execStartTime,
                     result);
@@ -594,13 +623,16 @@ public class WhisperSTTService implements STTService {
                 return null;
             }
         } catch (IOException e) {
-            if (state != null) {
-                state.close();
-            }
             throw new STTException("Cannot use whisper locally", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new STTException("Interrupted while waiting for a whisper state", e);
         } finally {
-            if (releaseContext && ctx != null) {
-                ctx.close();
+            if (statePool != null) {
+                if (slot != null) {
+                    statePool.release(slot);
+                }
+                releaseStatePool(statePool);
             }
         }
     }
@@ -662,11 +694,17 @@ public class WhisperSTTService implements STTService {
         }
     }
 
-    private WhisperFullParams getWhisperFullParams(WhisperContext context, String language) throws IOException {
+    private WhisperFullParams getWhisperFullParams(WhisperContext context, String language, int parallelTranscriptions)
+            throws IOException {
         WhisperSamplingStrategy strategy = WhisperSamplingStrategy.valueOf(config.samplingStrategy);
         var params = new WhisperFullParams(strategy);
         params.temperature = config.temperature;
-        params.nThreads = config.threads;
+        if (config.threads <= 0 && parallelTranscriptions > 1) {
+            // share the host threads between the parallel transcriptions
+            params.nThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / parallelTranscriptions);
+        } else {
+            params.nThreads = config.threads;
+        }
         params.audioCtx = config.audioContext;
         params.speedUp = config.speedUp;
         params.beamSearchBeamSize = config.beamSize;
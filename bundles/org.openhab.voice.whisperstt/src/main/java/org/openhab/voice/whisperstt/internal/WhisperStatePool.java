@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.github.givimad.whisperjni.WhisperContext;
+import io.github.givimad.whisperjni.WhisperJNI;
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * The {@link WhisperStatePool} shares one loaded whisper model between a limited number of whisper states, so that
+ * several dialogs can be transcribed in parallel without loading the model more than once.
+ *
+ * States are created on demand and kept for reuse, together with the buffer used to pass the audio samples to
+ * whisper. Sessions waiting for a state are served in arrival order.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WhisperStatePool implements AutoCloseable {
+
+    /**
+     * A whisper state and its sample buffer, leased to one transcription at a time.
+     */
+    public static class Slot {
+        private final WhisperState state;
+        private float[] samples = new float[0];
+
+        private Slot(WhisperState state) {
+            this.state = state;
+        }
+
+        public WhisperState getState() {
+            return state;
+        }
+
+        /**
+         * @param size the number of samples to transcribe
+         * @return a buffer for at least size samples
+         */
+        public float[] getSamples(int size) {
+            if (samples.length < size) {
+                samples = new float[size];
+            }
+            return samples;
+        }
+    }
+
+    private final WhisperJNI whisper;
+    private final WhisperContext context;
+    private final int size;
+    private final Semaphore permits;
+    // guarded by this
+    private final Deque<Slot> idleSlots = new ArrayDeque<>();
+    private int leasedSlots;
+    private boolean closed;
+
+    /**
+     * @param whisper the whisper library
+     * @param context the loaded model, which is closed together with the pool
+     * @param size the maximum number of states
+     */
+    public WhisperStatePool(WhisperJNI whisper, WhisperContext context, int size) {
+        this.whisper = whisper;
+        this.context = context;
+        this.size = size;
+        this.permits = new Semaphore(size, true);
+    }
+
+    public WhisperContext getContext() {
+        return context;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Lease a state, waiting until one is available.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return the leased slot, which must be given back with {@link #release(Slot)}
+     * @throws IOException if no state was available in time, the state could not be created or the pool is closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Slot acquire(long timeout, TimeUnit unit) throws IOException, InterruptedException {
+        if (!permits.tryAcquire(timeout, unit)) {
+            throw new IOException("No whisper state available");
+        }
+        synchronized (this) {
+            if (closed) {
+                permits.release();
+                throw new IOException("Whisper model unloaded");
+            }
+            leasedSlots++;
+            Slot slot = idleSlots.poll();
+            if (slot != null) {
+                return slot;
+            }
+        }
+        try {
+            return new Slot(whisper.initState(context));
+        } catch (IOException | RuntimeException e) {
+            boolean closeContext;
+            synchronized (this) {
+                leasedSlots--;
+                // the pool may have been closed while the state was created
+                closeContext = closed && leasedSlots == 0;
+            }
+            permits.release();
+            if (closeContext) {
+                context.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Give back a leased state.
+     *
+     * @param slot the slot returned by {@link #acquire(long, TimeUnit)}
+     */
+    public void release(Slot slot) {
+        boolean closeContext = false;
+        synchronized (this) {
+            leasedSlots--;
+            if (closed) {
+                slot.state.close();
+                closeContext = leasedSlots == 0;
+            } else {
+                idleSlots.push(slot);
+            }
+        }
+        permits.release();
+        if (closeContext) {
+            context.close();
+        }
+    }
+
+    /**
+     * Close the pool. The model is unloaded as soon as all leased states have been given back.
+     */
+    @Override
+    public void close() {
+        boolean closeContext;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idleSlots.forEach(slot -> slot.state.close());
+            idleSlots.clear();
+            closeContext = leasedSlots == 0;
+        }
+        if (closeContext) {
+            context.close();
+        }
+    }
+}